@@ -0,0 +1,33 @@
+package backend.academy.maze.benchmark;
+
+import lombok.experimental.UtilityClass;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входа для запуска бенчмарков лабиринтов.
+ * К каждому запуску подключается профилировщик сборщика мусора, чтобы вместе с пропускной способностью
+ * отслеживать скорость выделения памяти. Аргументы командной строки JMH (фильтр, параметры) передаются как есть,
+ * например: {@code java -jar target/benchmarks.jar Solver -p size=1000}
+ */
+@UtilityClass
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+            .parent(commandLineOptions)
+            .addProfiler(GCProfiler.class);
+
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            options.include(BenchmarkMain.class.getPackageName());
+        }
+
+        new Runner(options.build()).run();
+    }
+}
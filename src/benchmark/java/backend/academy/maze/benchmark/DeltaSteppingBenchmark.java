@@ -0,0 +1,89 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import backend.academy.maze.solver.impl.SolverDeltaStepping;
+import backend.academy.maze.solver.impl.SolverDial;
+import backend.academy.maze.solver.impl.SolverDijkstra;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк масштабирования алгоритма delta-stepping по количеству потоков пула.
+ * Последовательные алгоритмы Дейкстры и Дайала не зависят от {@code threads} и служат базовой линией
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeltaSteppingBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"1000", "2000", "4000"})
+    private int size;
+
+    private Maze maze;
+    private ForkJoinPool pool;
+    private SolverMaze deltaStepping;
+    private SolverMaze dijkstra;
+    private SolverMaze dial;
+    private Coordinate start;
+    private Coordinate finish;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new GeneratorKruskal(size, size, SEED).generateMaze(size, size);
+        pool = new ForkJoinPool(threads);
+        deltaStepping = new SolverDeltaStepping(pool);
+        dijkstra = new SolverDijkstra();
+        dial = new SolverDial();
+
+        // Клетки на нечетных строках и столбцах - узлы лабиринта, они никогда не бывают стенами
+        int lastNode = size % 2 == 0 ? size - 1 : size;
+
+        start = new Coordinate(1, 1);
+        finish = new Coordinate(lastNode, lastNode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<Coordinate> deltaStepping() {
+        return deltaStepping.solveMaze(maze, start, finish);
+    }
+
+    @Benchmark
+    public List<Coordinate> dijkstra() {
+        return dijkstra.solveMaze(maze, start, finish);
+    }
+
+    @Benchmark
+    public List<Coordinate> dial() {
+        return dial.solveMaze(maze, start, finish);
+    }
+}
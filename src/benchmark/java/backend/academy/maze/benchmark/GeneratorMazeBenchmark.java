@@ -0,0 +1,67 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.enums.GeneratorMazeType;
+import backend.academy.maze.generator.GeneratorMaze;
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.generator.impl.GeneratorEller;
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.generator.impl.GeneratorPrim;
+import backend.academy.maze.generator.impl.GeneratorTiled;
+import backend.academy.maze.maze.Maze;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк генерации лабиринта каждым алгоритмом генерации: последовательно и параллельно по плиткам
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorMazeBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param
+    private GeneratorMazeType generatorType;
+
+    @Param({"100", "500", "1000", "2000", "4000"})
+    private int size;
+
+    private GeneratorMaze generator;
+    private GeneratorMaze tiledGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = switch (generatorType) {
+            case DFS -> new GeneratorDfs(size, size, SEED);
+            case KRUSKAL -> new GeneratorKruskal(size, size, SEED);
+            case PRIM -> new GeneratorPrim(size, size, SEED);
+            case ELLER -> new GeneratorEller(size, size, SEED);
+        };
+        tiledGenerator = new GeneratorTiled(size, size, generatorType, SEED);
+    }
+
+    @Benchmark
+    public Maze generateMaze() {
+        return generator.generateMaze(size, size);
+    }
+
+    @Benchmark
+    public Maze generateMazeTiled() {
+        return tiledGenerator.generateMaze(size, size);
+    }
+}
@@ -0,0 +1,114 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.impl.SolverAStar;
+import backend.academy.maze.solver.impl.SolverAStarLandmarks;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк A* с манхэттенской эвристикой и с эвристикой ALT на идеальном лабиринте, где путь далеко уходит
+ * от прямой. Кроме пропускной способности выводит количество раскрытых клеток ({@code expandedCells})
+ * и запросов ({@code queries}) за итерацию: их отношение - число раскрытых клеток на запрос.
+ * Индекс ориентиров строится при подготовке и не входит в измерение
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LandmarkBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int QUERY_COUNT = 64;
+
+    @Param({"501", "1001", "2001"})
+    private int size;
+
+    private Maze maze;
+    private SolverAStar aStar;
+    private SolverAStarLandmarks aStarLandmarks;
+    private Coordinate[] starts;
+    private Coordinate[] finishes;
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new GeneratorDfs(size, size, SEED).generateMaze(size, size);
+        aStar = new SolverAStar();
+        aStarLandmarks = new SolverAStarLandmarks();
+        aStarLandmarks.getIndex(maze);
+
+        // Клетки на нечетных строках и столбцах - узлы лабиринта, они никогда не бывают стенами
+        Random random = new Random(SEED);
+        int nodes = (size + 1) / 2;
+
+        starts = new Coordinate[QUERY_COUNT];
+        finishes = new Coordinate[QUERY_COUNT];
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            starts[i] = new Coordinate(2 * random.nextInt(nodes) + 1, 2 * random.nextInt(nodes) + 1);
+
+            do {
+                finishes[i] = new Coordinate(2 * random.nextInt(nodes) + 1, 2 * random.nextInt(nodes) + 1);
+            } while (finishes[i].equals(starts[i]));
+        }
+    }
+
+    @Benchmark
+    public List<Coordinate> aStar(Counters counters) {
+        return solve(aStar, counters);
+    }
+
+    @Benchmark
+    public List<Coordinate> aStarLandmarks(Counters counters) {
+        return solve(aStarLandmarks, counters);
+    }
+
+    private List<Coordinate> solve(SolverAStar solver, Counters counters) {
+        int query = nextQuery;
+        long expandedBefore = solver.expandedCells();
+
+        nextQuery = (nextQuery + 1) % QUERY_COUNT;
+
+        List<Coordinate> path = solver.solveMaze(maze, starts[query], finishes[query]);
+
+        counters.expandedCells += solver.expandedCells() - expandedBefore;
+        counters.queries++;
+
+        return path;
+    }
+
+    /**
+     * Дополнительные счетчики JMH, которые суммируются за итерацию
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long expandedCells;
+        public long queries;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            expandedCells = 0;
+            queries = 0;
+        }
+    }
+}
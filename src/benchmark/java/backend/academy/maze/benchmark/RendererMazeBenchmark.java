@@ -0,0 +1,78 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.renderer.RendererMaze;
+import backend.academy.maze.renderer.impl.RendererMazeImpl;
+import backend.academy.maze.solver.impl.SolverBfs;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк отрисовки лабиринта и лабиринта с путем: в строку и построчно в {@link Writer}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RendererMazeBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"100", "500", "1000", "2000", "4000"})
+    private int size;
+
+    private final RendererMaze renderer = new RendererMazeImpl();
+    private final Writer nullWriter = Writer.nullWriter();
+    private Maze maze;
+    private List<Coordinate> path;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new GeneratorKruskal(size, size, SEED).generateMaze(size, size);
+
+        int lastNode = size % 2 == 0 ? size - 1 : size;
+
+        path = new SolverBfs().solveMaze(maze, new Coordinate(1, 1), new Coordinate(lastNode, lastNode));
+    }
+
+    @Benchmark
+    public String renderMaze() {
+        return renderer.renderMaze(maze);
+    }
+
+    @Benchmark
+    public String renderMazeWithPath() {
+        return renderer.renderMazeWithPath(maze, path);
+    }
+
+    @Benchmark
+    public Writer renderMazeToWriter() {
+        renderer.renderMaze(maze, nullWriter);
+
+        return nullWriter;
+    }
+
+    @Benchmark
+    public Writer renderMazeWithPathToWriter() {
+        renderer.renderMazeWithPath(maze, path, nullWriter);
+
+        return nullWriter;
+    }
+}
@@ -0,0 +1,109 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import backend.academy.maze.solver.impl.SolverDStarLite;
+import backend.academy.maze.solver.impl.SolverDial;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк повторного поиска пути в изменяемом лабиринте: перед каждым запросом одна случайная клетка
+ * превращается в болото или возвращает прежний тип. D* Lite исправляет прежнее решение,
+ * алгоритм Дайала ищет путь с нуля. Первый поиск D* Lite выполняется при подготовке и не входит в измерение
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplanningBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int CHANGE_COUNT = 256;
+
+    @Param({"501", "1001", "2001"})
+    private int size;
+
+    private Maze maze;
+    private SolverDStarLite solverDStarLite;
+    private SolverDial solverDial;
+    private Coordinate start;
+    private Coordinate finish;
+    private Coordinate[] changedCells;
+    private Cell.CellType[] originalTypes;
+    private int nextChange;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new GeneratorKruskal(size, size, SEED).generateMaze(size, size);
+        maze.enableChangeLog(Maze.DEFAULT_CHANGE_LOG_CAPACITY);
+        solverDStarLite = new SolverDStarLite();
+        solverDial = new SolverDial();
+        start = new Coordinate(1, 1);
+        finish = new Coordinate(size - 2, size - 2);
+
+        // Клетки на нечетных строках и столбцах - узлы лабиринта, они никогда не бывают стенами
+        Random random = new Random(SEED);
+        int nodes = (size - 1) / 2;
+
+        changedCells = new Coordinate[CHANGE_COUNT];
+        originalTypes = new Cell.CellType[CHANGE_COUNT];
+
+        for (int i = 0; i < CHANGE_COUNT; i++) {
+            do {
+                changedCells[i] = new Coordinate(2 * random.nextInt(nodes) + 1, 2 * random.nextInt(nodes) + 1);
+            } while (changedCells[i].equals(start) || changedCells[i].equals(finish));
+
+            originalTypes[i] = maze.cellType(changedCells[i].row(), changedCells[i].col());
+        }
+
+        solverDStarLite.solveMaze(maze, start, finish);
+    }
+
+    @Benchmark
+    public List<Coordinate> dStarLite() {
+        return changeAndSolve(solverDStarLite);
+    }
+
+    @Benchmark
+    public List<Coordinate> dial() {
+        return changeAndSolve(solverDial);
+    }
+
+    private List<Coordinate> changeAndSolve(SolverMaze solver) {
+        int change = nextChange;
+        Coordinate cell = changedCells[change];
+        boolean isSwamp = maze.cellType(cell.row(), cell.col()) == Cell.CellType.SWAMP;
+
+        nextChange = (nextChange + 1) % CHANGE_COUNT;
+
+        // Клетка, которая уже была болотом, чередуется с проходом
+        if (!isSwamp) {
+            maze.setCellType(cell.row(), cell.col(), Cell.CellType.SWAMP);
+        } else if (originalTypes[change] != Cell.CellType.SWAMP) {
+            maze.setCellType(cell.row(), cell.col(), originalTypes[change]);
+        } else {
+            maze.setCellType(cell.row(), cell.col(), Cell.CellType.PASSAGE);
+        }
+
+        return solver.solveMaze(maze, start, finish);
+    }
+}
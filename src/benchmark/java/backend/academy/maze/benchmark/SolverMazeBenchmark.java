@@ -0,0 +1,75 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.factory.SolverMazeFactory;
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк поиска пути каждым решателем лабиринта между противоположными углами взвешенного лабиринта
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverMazeBenchmark {
+
+    private static final long SEED = 42L;
+
+    /**
+     * Все решатели, кроме {@link SolverMazeType#D_STAR_LITE}: повторный запрос с теми же точками к неизмененному
+     * лабиринту он отвечает без поиска, только извлекая путь. Исправление пути после изменений измеряет
+     * {@link ReplanningBenchmark}
+     */
+    @Param({
+        "BFS", "DIJKSTRA", "A_STAR", "DIAL", "BIDIRECTIONAL_BFS", "PARALLEL_BFS", "DELTA_STEPPING",
+        "JUMP_POINT_SEARCH", "HPA_STAR", "A_STAR_LANDMARKS", "JUNCTION_GRAPH"
+    })
+    private SolverMazeType solverType;
+
+    @Param({"100", "500", "1000", "2000", "4000"})
+    private int size;
+
+    private Maze maze;
+    private SolverMaze solver;
+    private Coordinate start;
+    private Coordinate finish;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new GeneratorKruskal(size, size, SEED).generateMaze(size, size);
+        solver = SolverMazeFactory.createAllSolverMazes().stream()
+            .filter(solverMaze -> solverMaze.getSolverMazeType() == solverType)
+            .findFirst()
+            .orElseThrow();
+
+        // Клетки на нечетных строках и столбцах - узлы лабиринта, они никогда не бывают стенами
+        int lastNode = size % 2 == 0 ? size - 1 : size;
+
+        start = new Coordinate(1, 1);
+        finish = new Coordinate(lastNode, lastNode);
+    }
+
+    @Benchmark
+    public List<Coordinate> solveMaze() {
+        return solver.solveMaze(maze, start, finish);
+    }
+}
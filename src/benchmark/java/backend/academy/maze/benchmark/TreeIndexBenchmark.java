@@ -0,0 +1,78 @@
+package backend.academy.maze.benchmark;
+
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.TreeIndex;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарк запросов к индексу дерева идеального лабиринта: длина пути за O(1) и извлечение пути.
+ * Размеры нечетные: при четном размере генератор открывает случайные клетки в последних строке и столбце,
+ * и лабиринт перестает быть деревом
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeIndexBenchmark {
+
+    private static final long SEED = 42L;
+    private static final int QUERY_COUNT = 65_536;
+
+    @Param({"501", "1001", "2001"})
+    private int size;
+
+    private TreeIndex treeIndex;
+    private Coordinate[] cells;
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Maze maze = new GeneratorDfs(size, size, SEED).generateMaze(size, size);
+        Random random = new Random(SEED);
+        int nodes = (size + 1) / 2;
+
+        treeIndex = new TreeIndex(maze);
+        cells = new Coordinate[QUERY_COUNT + 1];
+
+        // Клетки на нечетных строках и столбцах - узлы лабиринта, они никогда не бывают стенами
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Coordinate(2 * random.nextInt(nodes) + 1, 2 * random.nextInt(nodes) + 1);
+        }
+    }
+
+    @Benchmark
+    public int distance() {
+        int query = nextQuery;
+
+        nextQuery = (nextQuery + 1) % QUERY_COUNT;
+
+        return treeIndex.distance(cells[query], cells[query + 1]);
+    }
+
+    @Benchmark
+    public List<Coordinate> findPath() {
+        int query = nextQuery;
+
+        nextQuery = (nextQuery + 1) % QUERY_COUNT;
+
+        return treeIndex.findPath(cells[query], cells[query + 1]);
+    }
+}
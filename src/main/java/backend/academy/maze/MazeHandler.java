@@ -6,6 +6,7 @@ import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
 import backend.academy.maze.parser.ParserMazeParameters;
 import backend.academy.maze.renderer.RendererMaze;
+import backend.academy.maze.solver.PathCache;
 import backend.academy.maze.solver.SolverMaze;
 import java.io.PrintWriter;
 import java.util.List;
@@ -20,6 +21,10 @@ public class MazeHandler {
     private final ParserMazeParameters parserMazeParameters;
     private final Scanner scanner;
     private final PrintWriter writer;
+    /**
+     * Кэш путей: повторный запрос на том же лабиринте тем же алгоритмом не запускает поиск заново
+     */
+    private final PathCache pathCache;
 
     /**
      * Метод для запуска процесс генерации лабиринта и путей
@@ -43,7 +48,10 @@ public class MazeHandler {
         // Параметры 100% валидны, исключение не выкинет
         Maze maze = generatorMaze.generateMaze(height, width);
 
-        writer.println("\nЛабиринт:\n" + rendererMaze.renderMaze(maze));
+        // Лабиринт пишется в вывод построчно, без сборки всего изображения в одну строку
+        writer.println("\nЛабиринт:");
+        rendererMaze.renderMaze(maze, writer);
+        writer.println();
 
         Coordinate startCoordinate = parserMazeParameters.parseStartCoordinate(maze);
         Coordinate finishCoordinate = parserMazeParameters.parseFinishCoordinate(maze, startCoordinate);
@@ -81,13 +89,12 @@ public class MazeHandler {
 
         for (SolverMaze solverMaze : solverMazes) {
             writer.println(solverMaze.getSolverMazeType().solverName() + ":");
-            writer.println(
-                renderer.renderMazeWithPath(
-                    maze, solverMaze.solveMaze(
-                        maze, startCoordinate, finishCoordinate // Координаты 100% валидны
-                    )
-                )
+            renderer.renderMazeWithPath(
+                maze,
+                pathCache.solveMaze(solverMaze, maze, startCoordinate, finishCoordinate), // Координаты 100% валидны
+                writer
             );
+            writer.println();
 
             writer.println(CONTINUE_MESSAGE);
             scanner.nextLine();
@@ -11,7 +11,8 @@ import lombok.RequiredArgsConstructor;
 public enum GeneratorMazeType {
     DFS("Обход в глубину"),
     KRUSKAL("Алгоритм Краскала"),
-    PRIM("Алгоритм Прима");
+    PRIM("Алгоритм Прима"),
+    ELLER("Алгоритм Эллера");
 
     private final String generatorName;
 }
@@ -11,7 +11,16 @@ import lombok.RequiredArgsConstructor;
 public enum SolverMazeType {
     BFS("Обход в ширину"),
     DIJKSTRA("Алгоритм Дейкстры"),
-    A_STAR("Алгоритм A* (A-Star)");
+    A_STAR("Алгоритм A* (A-Star)"),
+    DIAL("Алгоритм Дайала (Дейкстра с карманной очередью)"),
+    BIDIRECTIONAL_BFS("Двунаправленный обход в ширину"),
+    PARALLEL_BFS("Параллельный обход в ширину"),
+    DELTA_STEPPING("Параллельный алгоритм delta-stepping"),
+    JUMP_POINT_SEARCH("Поиск по точкам прыжка (Jump Point Search)"),
+    HPA_STAR("Иерархический поиск пути (HPA*)"),
+    A_STAR_LANDMARKS("Алгоритм A* с ориентирами (ALT)"),
+    JUNCTION_GRAPH("Поиск по графу развилок (заливка тупиков и стягивание коридоров)"),
+    D_STAR_LITE("Инкрементальный поиск пути (D* Lite)");
 
     private final String solverName;
 }
@@ -3,6 +3,7 @@ package backend.academy.maze.factory;
 import backend.academy.maze.enums.GeneratorMazeType;
 import backend.academy.maze.generator.GeneratorMaze;
 import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.generator.impl.GeneratorEller;
 import backend.academy.maze.generator.impl.GeneratorKruskal;
 import backend.academy.maze.generator.impl.GeneratorPrim;
 import backend.academy.maze.utils.RandomUtil;
@@ -34,7 +35,8 @@ public class GeneratorMazeFactory {
      * @param maxHeight максимальная высота лабиринта
      * @param maxWidth максимальная ширина лабиринта
      *
-     * @return экземпляр классов {@link GeneratorDfs}, {@link GeneratorKruskal}, {@link GeneratorPrim}
+     * @return экземпляр классов {@link GeneratorDfs}, {@link GeneratorKruskal}, {@link GeneratorPrim},
+     * {@link GeneratorEller}
      */
     public GeneratorMaze createGeneratorMazeFromConsole(
         Scanner scanner,
@@ -48,29 +50,23 @@ public class GeneratorMazeFactory {
 
         GeneratorMaze[] allGenerators = {new GeneratorDfs(maxHeight, maxWidth),
             new GeneratorKruskal(maxHeight, maxWidth),
-            new GeneratorPrim(maxHeight, maxWidth)};
+            new GeneratorPrim(maxHeight, maxWidth),
+            new GeneratorEller(maxHeight, maxWidth)};
 
         writer.print("\nАлгоритм генерации: ");
 
-        switch (selectedGenerator) {
-            case "1" -> {
-                writer.print(GeneratorMazeType.DFS.generatorName() + '\n');
-                return new GeneratorDfs(maxHeight, maxWidth);
-            }
-            case "2" -> {
-                writer.print(GeneratorMazeType.KRUSKAL.generatorName() + '\n');
-                return new GeneratorKruskal(maxHeight, maxWidth);
-            }
-            case "3" -> {
-                writer.print(GeneratorMazeType.PRIM.generatorName() + '\n');
-                return new GeneratorPrim(maxHeight, maxWidth);
-            }
-            default -> {
-                int generatorNumber = RandomUtil.getRandomInt(allGenerators.length);
-                writer.print(GeneratorMazeType.values()[generatorNumber].generatorName() + '\n');
-                return allGenerators[generatorNumber];
-            }
-        }
+        // Генераторы в массиве расположены в порядке перечисления GeneratorMazeType
+        int generatorNumber = switch (selectedGenerator) {
+            case "1" -> GeneratorMazeType.DFS.ordinal();
+            case "2" -> GeneratorMazeType.KRUSKAL.ordinal();
+            case "3" -> GeneratorMazeType.PRIM.ordinal();
+            case "4" -> GeneratorMazeType.ELLER.ordinal();
+            default -> RandomUtil.getRandomInt(allGenerators.length);
+        };
+
+        writer.print(GeneratorMazeType.values()[generatorNumber].generatorName() + '\n');
+
+        return allGenerators[generatorNumber];
     }
 
     /**
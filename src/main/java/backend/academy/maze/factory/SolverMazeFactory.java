@@ -2,8 +2,17 @@ package backend.academy.maze.factory;
 
 import backend.academy.maze.solver.SolverMaze;
 import backend.academy.maze.solver.impl.SolverAStar;
+import backend.academy.maze.solver.impl.SolverAStarLandmarks;
 import backend.academy.maze.solver.impl.SolverBfs;
+import backend.academy.maze.solver.impl.SolverBidirectionalBfs;
+import backend.academy.maze.solver.impl.SolverDStarLite;
+import backend.academy.maze.solver.impl.SolverDeltaStepping;
+import backend.academy.maze.solver.impl.SolverDial;
 import backend.academy.maze.solver.impl.SolverDijkstra;
+import backend.academy.maze.solver.impl.SolverHpaStar;
+import backend.academy.maze.solver.impl.SolverJumpPointSearch;
+import backend.academy.maze.solver.impl.SolverJunctionGraph;
+import backend.academy.maze.solver.impl.SolverParallelBfs;
 import java.util.List;
 import lombok.experimental.UtilityClass;
 
@@ -17,9 +26,15 @@ public class SolverMazeFactory {
     /**
      * Метод для получения писка всех решателей лабиринта
      *
-     * @return список из экземпляров {@link SolverBfs}, {@link SolverDijkstra}, {@link SolverAStar}
+     * @return список из экземпляров {@link SolverBfs}, {@link SolverDijkstra}, {@link SolverAStar},
+     * {@link SolverDial}, {@link SolverBidirectionalBfs}, {@link SolverParallelBfs},
+     * {@link SolverDeltaStepping}, {@link SolverJumpPointSearch}, {@link SolverHpaStar},
+     * {@link SolverAStarLandmarks}, {@link SolverJunctionGraph}, {@link SolverDStarLite}
      */
     public List<SolverMaze> createAllSolverMazes() {
-        return List.of(new SolverBfs(), new SolverDijkstra(), new SolverAStar());
+        return List.of(new SolverBfs(), new SolverDijkstra(), new SolverAStar(), new SolverDial(),
+            new SolverBidirectionalBfs(), new SolverParallelBfs(), new SolverDeltaStepping(),
+            new SolverJumpPointSearch(), new SolverHpaStar(), new SolverAStarLandmarks(),
+            new SolverJunctionGraph(), new SolverDStarLite());
     }
 }
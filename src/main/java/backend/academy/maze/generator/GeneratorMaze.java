@@ -2,14 +2,16 @@ package backend.academy.maze.generator;
 
 import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Maze;
-import backend.academy.maze.utils.RandomUtil;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
- * Абстрактный класс для генератора лабиринта
+ * Абстрактный класс для генератора лабиринта.
+ * Все случайные решения при генерации принимаются через собственный источник случайных чисел генератора,
+ * поэтому генераторы с одинаковым зерном строят одинаковые лабиринты
  */
-@RequiredArgsConstructor
 @Getter
 public abstract class GeneratorMaze {
 
@@ -33,6 +35,46 @@ public abstract class GeneratorMaze {
      * Максимальная ширина лабиринта. Определяется размером терминала
      */
     private final int maxWidth;
+    /**
+     * Источник случайных чисел. Не потокобезопасен: для параллельной генерации каждому потоку
+     * нужно выдавать независимый поток случайных чисел через {@link RandomGenerator.SplittableGenerator#split()}
+     */
+    @Getter(AccessLevel.PROTECTED)
+    private final RandomGenerator.SplittableGenerator random;
+
+    /**
+     * Конструктор генератора со случайным зерном
+     *
+     * @param maxHeight максимальная высота лабиринта
+     * @param maxWidth максимальная ширина лабиринта
+     */
+    protected GeneratorMaze(int maxHeight, int maxWidth) {
+        this(maxHeight, maxWidth, new SplittableRandom());
+    }
+
+    /**
+     * Конструктор генератора с заданным зерном. Одинаковое зерно дает одинаковый лабиринт
+     *
+     * @param maxHeight максимальная высота лабиринта
+     * @param maxWidth максимальная ширина лабиринта
+     * @param seed зерно генератора случайных чисел
+     */
+    protected GeneratorMaze(int maxHeight, int maxWidth, long seed) {
+        this(maxHeight, maxWidth, new SplittableRandom(seed));
+    }
+
+    /**
+     * Конструктор генератора с заданным источником случайных чисел
+     *
+     * @param maxHeight максимальная высота лабиринта
+     * @param maxWidth максимальная ширина лабиринта
+     * @param random источник случайных чисел
+     */
+    protected GeneratorMaze(int maxHeight, int maxWidth, RandomGenerator.SplittableGenerator random) {
+        this.maxHeight = maxHeight;
+        this.maxWidth = maxWidth;
+        this.random = random;
+    }
 
     /**
      * Метод для генерации лабиринта по одному из алгоритмов генерации
@@ -44,6 +86,18 @@ public abstract class GeneratorMaze {
      */
     public abstract Maze generateMaze(int maxHeight, int maxWidth);
 
+    /**
+     * Метод для генерации идеального лабиринта (любые две клетки соединены ровно одним путем) без валидации размеров.
+     * В отличие от {@link GeneratorMaze#generateMaze(int, int)} стены не рандомизируются, поэтому результат можно
+     * использовать как часть большего лабиринта
+     *
+     * @param height высота лабиринта (не меньше 3)
+     * @param width ширина лабиринта (не меньше 3)
+     *
+     * @return идеальный лабиринт
+     */
+    protected abstract Maze generatePerfectMaze(int height, int width);
+
     /**
      * Метод для валидации размеров лабиринта.
      * Должны находится в пределах минимального (3) и максимального (задается размером терминала) значений
@@ -65,50 +119,58 @@ public abstract class GeneratorMaze {
     }
 
     /**
-     * Метод для инициализации сетки лабиринта. Изначально она заполняется стенами
+     * Метод для валидации размеров лабиринта при потоковой генерации.
+     * Лабиринт не хранится в памяти и не выводится в терминал целиком, поэтому проверяется только минимальный размер
+     *
+     * @param height введенная высота лабиринта
+     * @param width введенная ширина лабиринта
+     */
+    protected void validateStreamingGeneration(int height, int width) {
+        if (width < MIN_SIZE
+            || height < MIN_SIZE
+            || width > Integer.MAX_VALUE - SIZE_DELTA
+            || height > Integer.MAX_VALUE - SIZE_DELTA
+        ) {
+            throw new IllegalArgumentException(String.format(
+                "Высота и ширина лабиринта должны быть больше %d.", MIN_SIZE));
+        }
+    }
+
+    /**
+     * Метод для инициализации лабиринта. Изначально он заполняется стенами
      *
      * @param height высота лабиринта
      * @param width ширина лабиринта
      *
-     * @return сетку лабиринта
+     * @return лабиринт из стен
      */
-    protected Cell[][] initializeGrid(int height, int width) {
-        Cell[][] grid = new Cell[height][width];
-
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                grid[row][col] = new Cell(row, col, Cell.CellType.WALL);
-            }
-        }
-
-        return grid;
+    protected Maze initializeMaze(int height, int width) {
+        return new Maze(height, width);
     }
 
     /**
      * Метод для замены случайных стен на проходы (поверхности) в предпоследних строке и столбце
      *
-     * @param grid сетка лабиринта
-     * @param fullHeight полная высота лабиринта
-     * @param fullWidth полная ширина лабиринта
+     * @param maze лабиринт
      * @param height введенная высота лабиринта
      * @param width введенная ширина лабиринта
      * @param isWeighted флаг о том, что лабиринт взвешенный
      */
     protected void removeRandomWalls(
-        Cell[][] grid,
-        int fullHeight,
-        int fullWidth,
+        Maze maze,
         int height,
         int width,
         boolean isWeighted
     ) {
+        int fullHeight = maze.height();
+        int fullWidth = maze.width();
+
         // Если введенная высота четная,
         // то нижний край лабиринта будет иметь двойные стены (рамка + последняя строка лабиринта)
         if (height % 2 == 0) {
             for (int col = 1; col < fullWidth - 1; col++) {
-                if (grid[fullHeight - 2][col].type() == Cell.CellType.WALL && RandomUtil.getRandomBoolean()) {
-                    grid[fullHeight - 2][col] = new Cell(fullHeight - 2, col, isWeighted ? getRandomCellType()
-                        : Cell.CellType.PASSAGE);
+                if (maze.isWall(fullHeight - 2, col) && random.nextBoolean()) {
+                    maze.setCellType(fullHeight - 2, col, isWeighted ? getRandomCellType() : Cell.CellType.PASSAGE);
                 }
             }
         }
@@ -117,9 +179,8 @@ public abstract class GeneratorMaze {
         // то правый край лабиринта будет иметь двойные стены (рамка + последний столбец лабиринта)
         if (width % 2 == 0) {
             for (int row = 1; row < fullHeight - 1; row++) {
-                if (grid[row][fullWidth - 2].type() == Cell.CellType.WALL && RandomUtil.getRandomBoolean()) {
-                    grid[row][fullWidth - 2] = new Cell(row, fullWidth - 2, isWeighted ? getRandomCellType()
-                        : Cell.CellType.PASSAGE);
+                if (maze.isWall(row, fullWidth - 2) && random.nextBoolean()) {
+                    maze.setCellType(row, fullWidth - 2, isWeighted ? getRandomCellType() : Cell.CellType.PASSAGE);
                 }
             }
         }
@@ -129,28 +190,37 @@ public abstract class GeneratorMaze {
      * Метод для рандомизации стен (замена случайных стен на проходы/поверхности во всем лабиринте).
      * Нужен для создания не идеального лабиринта
      *
-     * @param grid сетка лабиринта
-     * @param height высота лабиринта
-     * @param width ширина лабиринта
+     * @param maze лабиринт
      */
-    protected void randomizeWalls(Cell[][] grid, int height, int width) {
+    protected void randomizeWalls(Maze maze) {
+        int height = maze.height();
+        int width = maze.width();
+
         for (int row = 1; row < height - 1; row++) {
             for (int col = 1; col < width - 1; col++) {
-                if (grid[row][col].type() == Cell.CellType.WALL
-                    && RandomUtil.getRandomInt(RANDOM_BOUND) < REMOVE_WALL_CHANCE) {
-                    grid[row][col] = new Cell(row, col, getRandomCellType());
+                if (maze.isWall(row, col) && isRandomWallRemoved()) {
+                    maze.setCellType(row, col, getRandomCellType());
                 }
             }
         }
     }
 
+    /**
+     * Метод для случайного решения, заменять ли стену на проход при рандомизации стен
+     *
+     * @return {@code true}, если стену нужно заменить на проход
+     */
+    protected boolean isRandomWallRemoved() {
+        return random.nextInt(RANDOM_BOUND) < REMOVE_WALL_CHANCE;
+    }
+
     /**
      * Метод для получения случайной поверхности клетки (в том числе проход)
      *
      * @return тип клетки (поверхности)
      */
     protected Cell.CellType getRandomCellType() {
-        int randomValue = RandomUtil.getRandomInt(RANDOM_BOUND);
+        int randomValue = random.nextInt(RANDOM_BOUND);
 
         Cell.CellType cellType;
 
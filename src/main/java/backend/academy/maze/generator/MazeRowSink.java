@@ -0,0 +1,19 @@
+package backend.academy.maze.generator;
+
+import backend.academy.maze.maze.Cell;
+
+/**
+ * Приемник строк лабиринта при потоковой генерации
+ */
+@FunctionalInterface
+public interface MazeRowSink {
+
+    /**
+     * Метод для приема очередной строки лабиринта (с учетом рамки).
+     * Массив переиспользуется генератором, поэтому его нельзя сохранять после возврата из метода
+     *
+     * @param row номер строки
+     * @param cells типы клеток строки
+     */
+    void acceptRow(int row, Cell.CellType[] cells);
+}
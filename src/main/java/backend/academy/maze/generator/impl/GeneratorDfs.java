@@ -3,10 +3,8 @@ package backend.academy.maze.generator.impl;
 import backend.academy.maze.generator.GeneratorMaze;
 import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Maze;
-import backend.academy.maze.utils.RandomUtil;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
 
 /**
  * Класс генератора лабиринта, основанный на алгоритме обхода в глубину
@@ -16,102 +14,177 @@ public class GeneratorDfs extends GeneratorMaze {
     private static final int NEGATIVE_DIRECTION = -2;
     private static final int POSITIVE_DIRECTION = 2;
 
+    // вверх, вниз, влево, вправо
+    private static final int[] ROW_DIRECTIONS = {NEGATIVE_DIRECTION, POSITIVE_DIRECTION, 0, 0};
+    private static final int[] COL_DIRECTIONS = {0, 0, NEGATIVE_DIRECTION, POSITIVE_DIRECTION};
+    private static final int DIRECTIONS_COUNT = 4;
+    private static final int DIRECTIONS_SUM = 6; // 0 + 1 + 2 + 3
+    private static final int PERMUTATIONS_COUNT = 24; // 4!
+    private static final byte[][] PERMUTATIONS = createPermutations();
+
+    /**
+     * Состояние клетки на стеке: старшие биты - номер перестановки, младшие - номер следующего направления
+     */
+    private static final int POSITION_BITS = 3;
+    private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+    private static final int INITIAL_STACK_CAPACITY = 1024;
+
     public GeneratorDfs(int maxHeight, int maxWidth) {
         super(maxHeight, maxWidth);
     }
 
+    public GeneratorDfs(int maxHeight, int maxWidth, long seed) {
+        super(maxHeight, maxWidth, seed);
+    }
+
+    public GeneratorDfs(int maxHeight, int maxWidth, RandomGenerator.SplittableGenerator random) {
+        super(maxHeight, maxWidth, random);
+    }
+
     @Override
     public Maze generateMaze(int height, int width) {
         validateGenerationMaze(height, width);
 
+        Maze maze = generatePerfectMaze(height, width);
+
+        // Если введенная высота или ширина четные,
+        // то нижний или правый край лабиринта соответственно будут иметь "двойные стены"
+        removeRandomWalls(
+            maze,
+            height,
+            width,
+            false
+        );
+
+        return maze;
+    }
+
+    @Override
+    protected Maze generatePerfectMaze(int height, int width) {
         // Размеры лабиринта с учетом рамки вокруг него
         int fullHeight = height + SIZE_DELTA;
         int fullWidth = width + SIZE_DELTA;
 
-        Cell[][] grid = initializeGrid(fullHeight, fullWidth);
+        Maze maze = initializeMaze(fullHeight, fullWidth);
 
-        int startRow = (RandomUtil.getRandomInt(height / 2) * 2) + 1;
-        int startCol = (RandomUtil.getRandomInt(width / 2) * 2) + 1;
+        int startRow = (random().nextInt(height / 2) * 2) + 1;
+        int startCol = (random().nextInt(width / 2) * 2) + 1;
 
         dfs(
-            grid,
+            maze,
             startRow,
             startCol,
             fullHeight,
             fullWidth
         );
 
-        // Если введенная высота или ширина четные,
-        // то нижний или правый край лабиринта соответственно будут иметь "двойные стены"
-        removeRandomWalls(
-            grid,
-            fullHeight,
-            fullWidth,
-            height,
-            width,
-            false
-        );
-
-        return new Maze(fullHeight, fullWidth, grid);
+        return maze;
     }
 
     /**
-     * Обход в глубину
+     * Обход в глубину (recursive backtracker) на явном стеке, чтобы не упираться в размер стека потока.
+     * Для каждой клетки на стеке хранится случайная перестановка направлений и номер следующего направления,
+     * поэтому порядок обхода совпадает с рекурсивным вариантом с перемешиванием направлений
      *
-     * @param grid сетка лабиринта
-     * @param row строка
-     * @param col столбец
+     * @param maze лабиринт
+     * @param startRow стартовая строка
+     * @param startCol стартовый столбец
      * @param height высота
      * @param width ширина
      */
-    private static void dfs(
-        Cell[][] grid,
-        int row,
-        int col,
+    private void dfs(
+        Maze maze,
+        int startRow,
+        int startCol,
         int height,
         int width
     ) {
-        grid[row][col] = new Cell(row, col, Cell.CellType.PASSAGE);
-
-        List<int[]> directions = new ArrayList<>();
-
-        directions.add(new int[]{NEGATIVE_DIRECTION, 0}); // вверх
-        directions.add(new int[]{POSITIVE_DIRECTION, 0}); // вниз
-        directions.add(new int[]{0, NEGATIVE_DIRECTION}); // влево
-        directions.add(new int[]{0, POSITIVE_DIRECTION}); // вправо
+        int[] stack = new int[INITIAL_STACK_CAPACITY];
+        byte[] states = new byte[INITIAL_STACK_CAPACITY];
+        int size = 0;
+
+        maze.setCellType(startRow, startCol, Cell.CellType.PASSAGE);
+        stack[size] = maze.index(startRow, startCol);
+        states[size] = getRandomState();
+        size++;
+
+        while (size > 0) {
+            int top = size - 1;
+            int state = Byte.toUnsignedInt(states[top]);
+            int position = state & POSITION_MASK;
+
+            // Все направления клетки проверены - возврат к предыдущей клетке
+            if (position == DIRECTIONS_COUNT) {
+                size--;
+                continue;
+            }
 
-        Collections.shuffle(directions);
+            states[top] = (byte) (state + 1);
 
-        for (int[] direction : directions) {
-            int directionRow = 0;
-            int directionCol = 1;
-            int newRow = row + direction[directionRow];
-            int newCol = col + direction[directionCol];
+            int direction = PERMUTATIONS[state >>> POSITION_BITS][position];
+            int row = maze.row(stack[top]);
+            int col = maze.col(stack[top]);
+            int newRow = row + ROW_DIRECTIONS[direction];
+            int newCol = col + COL_DIRECTIONS[direction];
 
             if (newRow > 0
                 && newRow < height - 1
                 && newCol > 0
                 && newCol < width - 1
+                && maze.isWall(newRow, newCol)
             ) {
-                if (grid[newRow][newCol].type() == Cell.CellType.WALL) {
-                    int midRow = (int) (((long) row + (long) newRow) / 2);
-                    int midCol = (int) (((long) col + (long) newCol) / 2);
-
-                    grid[midRow][midCol] = new Cell(
-                        midRow,
-                        midCol,
-                        Cell.CellType.PASSAGE
-                    );
-
-                    dfs(
-                        grid,
-                        newRow,
-                        newCol,
-                        height,
-                        width
-                    );
+                int midRow = (row + newRow) / 2;
+                int midCol = (col + newCol) / 2;
+
+                maze.setCellType(midRow, midCol, Cell.CellType.PASSAGE);
+                maze.setCellType(newRow, newCol, Cell.CellType.PASSAGE);
+
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, size * 2);
+                    states = Arrays.copyOf(states, size * 2);
+                }
+
+                stack[size] = maze.index(newRow, newCol);
+                states[size] = getRandomState();
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Метод для получения начального состояния клетки на стеке: случайная перестановка направлений
+     * и нулевой номер следующего направления
+     *
+     * @return состояние клетки
+     */
+    private byte getRandomState() {
+        return (byte) (random().nextInt(PERMUTATIONS.length) << POSITION_BITS);
+    }
+
+    /**
+     * Метод для создания всех перестановок направлений. Выбор случайной перестановки равновероятен
+     * перемешиванию списка направлений
+     *
+     * @return массив перестановок
+     */
+    private static byte[][] createPermutations() {
+        byte[][] permutations = new byte[PERMUTATIONS_COUNT][];
+        int count = 0;
+
+        for (int first = 0; first < DIRECTIONS_COUNT; first++) {
+            for (int second = 0; second < DIRECTIONS_COUNT; second++) {
+                for (int third = 0; third < DIRECTIONS_COUNT; third++) {
+                    if (first == second || first == third || second == third) {
+                        continue;
+                    }
+
+                    int fourth = DIRECTIONS_SUM - first - second - third;
+
+                    permutations[count++] = new byte[] {(byte) first, (byte) second, (byte) third, (byte) fourth};
                 }
             }
         }
+
+        return permutations;
     }
 }
@@ -0,0 +1,365 @@
+package backend.academy.maze.generator.impl;
+
+import backend.academy.maze.generator.GeneratorMaze;
+import backend.academy.maze.generator.MazeRowSink;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Maze;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Класс генератора лабиринта, основанный на алгоритме Эллера.
+ * Лабиринт строится построчно: хранится только разбиение текущей строки на множества,
+ * поэтому строки можно отдавать потребителю сразу, а память зависит только от ширины лабиринта
+ */
+public class GeneratorEller extends GeneratorMaze {
+
+    private static final int NO_LABEL = -1;
+
+    public GeneratorEller(int maxHeight, int maxWidth) {
+        super(maxHeight, maxWidth);
+    }
+
+    public GeneratorEller(int maxHeight, int maxWidth, long seed) {
+        super(maxHeight, maxWidth, seed);
+    }
+
+    public GeneratorEller(int maxHeight, int maxWidth, RandomGenerator.SplittableGenerator random) {
+        super(maxHeight, maxWidth, random);
+    }
+
+    @Override
+    public Maze generateMaze(int height, int width) {
+        validateGenerationMaze(height, width);
+
+        return generateMaze(height, width, false);
+    }
+
+    @Override
+    protected Maze generatePerfectMaze(int height, int width) {
+        return generateMaze(height, width, true);
+    }
+
+    /**
+     * Метод для генерации лабиринта в памяти
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param isPerfect флаг идеального лабиринта (без рандомизации стен)
+     *
+     * @return лабиринт
+     */
+    private Maze generateMaze(int height, int width, boolean isPerfect) {
+        Maze maze = initializeMaze(height + SIZE_DELTA, width + SIZE_DELTA);
+
+        writeRows(new EllerRowIterator(height, width, isPerfect), (row, cells) -> {
+            for (int col = 0; col < cells.length; col++) {
+                maze.setCellType(row, col, cells[col]);
+            }
+        });
+
+        return maze;
+    }
+
+    /**
+     * Метод для потоковой генерации лабиринта. Строки (с учетом рамки) передаются приемнику по порядку,
+     * весь лабиринт в памяти не хранится, поэтому ограничение на размер терминала не проверяется
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param sink приемник строк
+     */
+    public void generateRows(int height, int width, MazeRowSink sink) {
+        validateStreamingGeneration(height, width);
+
+        writeRows(new EllerRowIterator(height, width, false), sink);
+    }
+
+    /**
+     * Метод для получения итератора по строкам лабиринта (с учетом рамки).
+     * Строки генерируются лениво, а возвращаемый массив переиспользуется между вызовами {@link Iterator#next()}
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     *
+     * @return итератор по строкам лабиринта
+     */
+    public Iterator<Cell.CellType[]> rowIterator(int height, int width) {
+        validateStreamingGeneration(height, width);
+
+        return new EllerRowIterator(height, width, false);
+    }
+
+    /**
+     * Метод для передачи всех строк итератора приемнику
+     *
+     * @param rows итератор по строкам
+     * @param sink приемник строк
+     */
+    private void writeRows(Iterator<Cell.CellType[]> rows, MazeRowSink sink) {
+        for (int row = 0; rows.hasNext(); row++) {
+            sink.acceptRow(row, rows.next());
+        }
+    }
+
+    /**
+     * Итератор по строкам лабиринта. Клетки-узлы находятся на нечетных строках и столбцах, между ними - стены.
+     * Для каждой строки узлов хранится разбиение на множества связности: метки множеств и система
+     * непересекающихся множеств по номерам столбцов, которая пересобирается для каждой строки
+     */
+    private final class EllerRowIterator implements Iterator<Cell.CellType[]> {
+        private final int height;
+        private final int fullHeight;
+        private final int fullWidth;
+        private final boolean isWidthEven;
+        /**
+         * Флаг идеального лабиринта: "двойные стены" и остальные стены не рандомизируются
+         */
+        private final boolean isPerfect;
+        /**
+         * Количество узлов в строке
+         */
+        private final int nodeCols;
+        /**
+         * Переиспользуемая строка лабиринта
+         */
+        private final Cell.CellType[] cells;
+        /**
+         * Метка множества каждого узла текущей строки. Метки меньше количества узлов и переиспользуются
+         */
+        private final int[] labels;
+        /**
+         * Родитель узла в системе непересекающихся множеств текущей строки
+         */
+        private final int[] parent;
+        /**
+         * Первый узел строки с данной меткой
+         */
+        private final int[] labelFirst;
+        /**
+         * Количество еще не обработанных узлов множества при выборе проходов вниз
+         */
+        private final int[] remaining;
+        /**
+         * Флаг того, что у множества уже есть проход вниз
+         */
+        private final boolean[] hasDown;
+        /**
+         * Флаг прохода вниз из узла
+         */
+        private final boolean[] down;
+        private final boolean[] usedLabels;
+        private int nextRow;
+
+        private EllerRowIterator(int height, int width, boolean isPerfect) {
+            this.height = height;
+            this.isPerfect = isPerfect;
+            this.fullHeight = height + SIZE_DELTA;
+            this.fullWidth = width + SIZE_DELTA;
+            this.isWidthEven = width % 2 == 0;
+            this.nodeCols = (width + 1) / 2;
+            this.cells = new Cell.CellType[fullWidth];
+            this.labels = new int[nodeCols];
+            this.parent = new int[nodeCols];
+            this.labelFirst = new int[nodeCols];
+            this.remaining = new int[nodeCols];
+            this.hasDown = new boolean[nodeCols];
+            this.down = new boolean[nodeCols];
+            this.usedLabels = new boolean[nodeCols];
+
+            // Изначально каждый узел - отдельное множество
+            for (int col = 0; col < nodeCols; col++) {
+                labels[col] = col;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRow < fullHeight;
+        }
+
+        @Override
+        public Cell.CellType[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int row = nextRow++;
+
+            Arrays.fill(cells, Cell.CellType.WALL);
+
+            // Рамка лабиринта
+            if (row == 0 || row == fullHeight - 1) {
+                return cells;
+            }
+
+            if (row % 2 == 1) {
+                fillNodeRow(row + 2 > height);
+            } else if (row < height) {
+                fillDownPassages();
+            } else if (!isPerfect) {
+                // Если введенная высота четная, то последняя строка лабиринта - "двойная стена"
+                removeRandomWallsInRow();
+            }
+
+            if (!isPerfect) {
+                // Если введенная ширина четная, то последний столбец лабиринта - "двойная стена"
+                if (isWidthEven && cells[fullWidth - 2] == Cell.CellType.WALL && random().nextBoolean()) {
+                    cells[fullWidth - 2] = getRandomCellType();
+                }
+
+                randomizeWallsInRow();
+            }
+
+            return cells;
+        }
+
+        /**
+         * Метод для заполнения строки узлов: объединение соседних узлов из разных множеств
+         * и выбор проходов вниз для следующей строки
+         *
+         * @param isLastRow флаг последней строки узлов. В ней объединяются все оставшиеся множества
+         */
+        private void fillNodeRow(boolean isLastRow) {
+            rebuildSets();
+
+            for (int col = 0; col < nodeCols; col++) {
+                cells[2 * col + 1] = getRandomCellType();
+            }
+
+            for (int col = 0; col + 1 < nodeCols; col++) {
+                int leftRoot = find(col);
+                int rightRoot = find(col + 1);
+
+                if (leftRoot != rightRoot && (isLastRow || random().nextBoolean())) {
+                    parent[rightRoot] = leftRoot;
+                    cells[2 * col + 2] = getRandomCellType();
+                }
+            }
+
+            if (!isLastRow) {
+                chooseDownPassages();
+                relabel();
+            }
+        }
+
+        /**
+         * Метод для построения системы непересекающихся множеств текущей строки по меткам узлов
+         */
+        private void rebuildSets() {
+            Arrays.fill(labelFirst, NO_LABEL);
+
+            for (int col = 0; col < nodeCols; col++) {
+                int label = labels[col];
+
+                if (labelFirst[label] == NO_LABEL) {
+                    labelFirst[label] = col;
+                }
+
+                parent[col] = labelFirst[label];
+            }
+        }
+
+        /**
+         * Метод для выбора проходов вниз. У каждого множества должен быть хотя бы один проход,
+         * иначе оно будет отрезано от остального лабиринта
+         */
+        private void chooseDownPassages() {
+            Arrays.fill(remaining, 0);
+            Arrays.fill(hasDown, false);
+
+            for (int col = 0; col < nodeCols; col++) {
+                remaining[find(col)]++;
+            }
+
+            for (int col = 0; col < nodeCols; col++) {
+                int root = find(col);
+
+                remaining[root]--;
+                down[col] = random().nextBoolean() || remaining[root] == 0 && !hasDown[root];
+                hasDown[root] |= down[col];
+            }
+        }
+
+        /**
+         * Метод для назначения меток следующей строке: узлы с проходом вверх остаются в своем множестве,
+         * остальные получают свободные метки
+         */
+        private void relabel() {
+            Arrays.fill(usedLabels, false);
+
+            for (int col = 0; col < nodeCols; col++) {
+                if (down[col]) {
+                    labels[col] = find(col);
+                    usedLabels[labels[col]] = true;
+                }
+            }
+
+            int freeLabel = 0;
+
+            for (int col = 0; col < nodeCols; col++) {
+                if (!down[col]) {
+                    while (usedLabels[freeLabel]) {
+                        freeLabel++;
+                    }
+
+                    labels[col] = freeLabel;
+                    usedLabels[freeLabel] = true;
+                }
+            }
+        }
+
+        /**
+         * Метод для заполнения строки стен между строками узлов проходами вниз
+         */
+        private void fillDownPassages() {
+            for (int col = 0; col < nodeCols; col++) {
+                if (down[col]) {
+                    cells[2 * col + 1] = getRandomCellType();
+                }
+            }
+        }
+
+        /**
+         * Метод для замены случайных стен на поверхности в строке "двойной стены"
+         */
+        private void removeRandomWallsInRow() {
+            for (int col = 1; col < fullWidth - 1; col++) {
+                if (random().nextBoolean()) {
+                    cells[col] = getRandomCellType();
+                }
+            }
+        }
+
+        /**
+         * Метод для рандомизации стен строки. Нужен для создания не идеального лабиринта
+         */
+        private void randomizeWallsInRow() {
+            for (int col = 1; col < fullWidth - 1; col++) {
+                if (cells[col] == Cell.CellType.WALL && isRandomWallRemoved()) {
+                    cells[col] = getRandomCellType();
+                }
+            }
+        }
+
+        /**
+         * Метод для получения корня множества узла. Использует сокращение пути вдвое
+         *
+         * @param col номер узла в строке
+         *
+         * @return корень множества
+         */
+        private int find(int col) {
+            int current = col;
+
+            while (parent[current] != current) {
+                parent[current] = parent[parent[current]];
+                current = parent[current];
+            }
+
+            return current;
+        }
+    }
+}
@@ -1,121 +1,150 @@
 package backend.academy.maze.generator.impl;
 
 import backend.academy.maze.generator.GeneratorMaze;
-import backend.academy.maze.maze.Cell;
-import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
- * Класс генератора лабиринта, основанный на алгоритме Краскала
+ * Класс генератора лабиринта, основанный на алгоритме Краскала.
+ * Стены между узлами хранятся закодированными в массиве {@code int[]} и перемешиваются на месте,
+ * поэтому генерация не создает объектов на каждое ребро
  */
 public class GeneratorKruskal extends GeneratorMaze {
 
+    private static final int EDGE_DIRECTIONS = 2;
+    private static final int DOWN = 0;
+    private static final int RIGHT = 1;
+
     public GeneratorKruskal(int maxHeight, int maxWidth) {
         super(maxHeight, maxWidth);
     }
 
+    public GeneratorKruskal(int maxHeight, int maxWidth, long seed) {
+        super(maxHeight, maxWidth, seed);
+    }
+
+    public GeneratorKruskal(int maxHeight, int maxWidth, RandomGenerator.SplittableGenerator random) {
+        super(maxHeight, maxWidth, random);
+    }
+
     @Override
     public Maze generateMaze(int height, int width) {
         validateGenerationMaze(height, width);
 
-        // Размеры лабиринта с учетом рамки вокруг него
-        int fullHeight = height + SIZE_DELTA;
-        int fullWidth = width + SIZE_DELTA;
-
-        Cell[][] grid = initializeGrid(fullHeight, fullWidth);
-
-        DisjointSetUnion dsu = new DisjointSetUnion(fullHeight, fullWidth);
-        List<Edge> walls = generateWalls(grid, fullHeight, fullWidth);
+        Maze maze = generatePerfectMaze(height, width);
 
-        replaceWallsWithPassages(walls, grid, dsu);
         // Если введенная высота или ширина четные,
         // то последняя строка или столбец соответственно будут иметь "двойные стены"
         removeRandomWalls(
-            grid,
-            fullHeight,
-            fullWidth,
+            maze,
             height,
             width,
             true
         );
 
-        randomizeWalls(grid, fullHeight, fullWidth);
+        randomizeWalls(maze);
+
+        return maze;
+    }
+
+    @Override
+    protected Maze generatePerfectMaze(int height, int width) {
+        // Размеры лабиринта с учетом рамки вокруг него
+        int fullHeight = height + SIZE_DELTA;
+        int fullWidth = width + SIZE_DELTA;
+
+        Maze maze = initializeMaze(fullHeight, fullWidth);
+
+        // Узлы лабиринта - клетки на нечетных строках и столбцах
+        int nodeRows = (height + 1) / 2;
+        int nodeCols = (width + 1) / 2;
+
+        DisjointSetUnion dsu = new DisjointSetUnion(nodeRows * nodeCols);
+        int[] walls = generateWalls(maze, nodeRows, nodeCols);
 
-        return new Maze(fullHeight, fullWidth, grid);
+        replaceWallsWithPassages(walls, maze, dsu, nodeCols);
+
+        return maze;
     }
 
     /**
-     * Метод для создания списка стен лабиринта в виде ребер (стены между двумя клетками)
+     * Метод для создания перемешанного массива стен лабиринта в виде ребер между соседними узлами.
+     * Ребро кодируется числом {@code узел * 2 + направление}, где направление {@link GeneratorKruskal#DOWN} или
+     * {@link GeneratorKruskal#RIGHT}, а узел - номер клетки в сетке узлов
      *
-     * @param grid сетка лабиринта
-     * @param fullHeight полная высота лабиринта
-     * @param fullWidth полная ширина лабиринта
+     * @param maze лабиринт
+     * @param nodeRows количество строк узлов
+     * @param nodeCols количество столбцов узлов
      *
-     * @return список стен в виде ребер
+     * @return перемешанный массив закодированных ребер
      */
-    private List<Edge> generateWalls(Cell[][] grid, int fullHeight, int fullWidth) {
-        List<Edge> walls = new ArrayList<>();
+    private int[] generateWalls(Maze maze, int nodeRows, int nodeCols) {
+        int edgesCount = (nodeRows - 1) * nodeCols + nodeRows * (nodeCols - 1);
+        int[] walls = new int[edgesCount];
+        int size = 0;
+
+        for (int nodeRow = 0; nodeRow < nodeRows; nodeRow++) {
+            for (int nodeCol = 0; nodeCol < nodeCols; nodeCol++) {
+                int node = nodeRow * nodeCols + nodeCol;
 
-        for (int row = 1; row < fullHeight - 1; row += 2) {
-            for (int col = 1; col < fullWidth - 1; col += 2) {
-                grid[row][col] = new Cell(row, col, getRandomCellType());
+                maze.setCellType(2 * nodeRow + 1, 2 * nodeCol + 1, getRandomCellType());
 
-                if (row + 2 < fullHeight - 1) {
-                    walls.add(new Edge(new Coordinate(row, col), new Coordinate(row + 2, col)));
+                if (nodeRow + 1 < nodeRows) {
+                    walls[size++] = node * EDGE_DIRECTIONS + DOWN;
                 }
-                if (col + 2 < fullWidth - 1) {
-                    walls.add(new Edge(new Coordinate(row, col), new Coordinate(row, col + 2)));
+                if (nodeCol + 1 < nodeCols) {
+                    walls[size++] = node * EDGE_DIRECTIONS + RIGHT;
                 }
             }
         }
 
-        Collections.shuffle(walls);
+        // Перемешивание Фишера - Йетса на месте
+        for (int i = walls.length - 1; i > 0; i--) {
+            int j = random().nextInt(i + 1);
+            int wall = walls[i];
+
+            walls[i] = walls[j];
+            walls[j] = wall;
+        }
 
         return walls;
     }
 
     /**
-     * Метод для замены стен на проходы (в том числе поверхности), не создавая циклы
+     * Метод для замены стен на проходы (в том числе поверхности), не создавая циклы.
+     * Остовное дерево содержит на одно ребро меньше, чем узлов, после этого оставшиеся стены не просматриваются
      *
-     * @param walls список стен в виде ребер
-     * @param grid сетка лабиринта
-     * @param dsu система непересекающихся множеств
+     * @param walls массив закодированных ребер
+     * @param maze лабиринт
+     * @param dsu система непересекающихся множеств узлов
+     * @param nodeCols количество столбцов узлов
      */
-    private void replaceWallsWithPassages(List<Edge> walls, Cell[][] grid, DisjointSetUnion dsu) {
-        for (Edge wall : walls) {
-            Coordinate cell1 = wall.firstCell();
-            Coordinate cell2 = wall.secondCell();
-
-            if (dsu.find(cell1.row(), cell1.col()) != dsu.find(cell2.row(), cell2.col())) {
-                dsu.union(
-                    cell1.row(),
-                    cell1.col(),
-                    cell2.row(),
-                    cell2.col()
-                );
-
-                int passageRow = (int) (((long) cell1.row() + (long) cell2.row()) / 2);
-                int passageCol = (int) (((long) cell1.col() + (long) cell2.col()) / 2);
-
-                grid[passageRow][passageCol] = new Cell(passageRow, passageCol, getRandomCellType());
+    private void replaceWallsWithPassages(int[] walls, Maze maze, DisjointSetUnion dsu, int nodeCols) {
+        int remainingUnions = dsu.size() - 1;
+
+        for (int i = 0; i < walls.length && remainingUnions > 0; i++) {
+            int node = walls[i] / EDGE_DIRECTIONS;
+            int neighbor = walls[i] % EDGE_DIRECTIONS == DOWN ? node + nodeCols : node + 1;
+
+            if (dsu.union(node, neighbor)) {
+                remainingUnions--;
+
+                int passageRow = 2 * (node / nodeCols) + 1;
+                int passageCol = 2 * (node % nodeCols) + 1;
+
+                if (walls[i] % EDGE_DIRECTIONS == DOWN) {
+                    passageRow++;
+                } else {
+                    passageCol++;
+                }
+
+                maze.setCellType(passageRow, passageCol, getRandomCellType());
             }
         }
     }
 
     /**
-     * Вложенный рекорд ребра лабиринта
-     *
-     * @param firstCell первая точка ребра
-     * @param secondCell вторая точка ребра
-     */
-    private record Edge(Coordinate firstCell, Coordinate secondCell) {
-    }
-
-    /**
-     * Система непересекающихся множеств. Реализует тип данных для объединения и поиска множеств
+     * Система непересекающихся множеств над номерами узлов. Реализует тип данных для объединения и поиска множеств
      */
     private static final class DisjointSetUnion {
         /**
@@ -123,92 +152,75 @@ public class GeneratorKruskal extends GeneratorMaze {
          */
         private final int[] parent;
         /**
-         * Массив с высотой (глубиной, рангом) деревьев
+         * Массив с высотой (рангом) деревьев. Ранг не превышает логарифма количества узлов
          */
-        private final int[] rank;
-        /**
-         * Количество столбцов
-         */
-        private final int cols;
+        private final byte[] rank;
 
         /**
-         * Конструктор для системы неперсекающихся множеств
+         * Конструктор для системы непересекающихся множеств
          *
-         * @param height высота лабиринта
-         * @param width ширина лабиринта
+         * @param size количество узлов
          */
-        private DisjointSetUnion(int height, int width) {
-            int size = height * width;
-            this.cols = width;
+        private DisjointSetUnion(int size) {
             parent = new int[size];
-            rank = new int[size];
+            rank = new byte[size];
 
             for (int i = 0; i < size; i++) {
                 parent[i] = i;
-                rank[i] = 0;
             }
         }
 
+        private int size() {
+            return parent.length;
+        }
+
         /**
-         * Метод для получения корня дерева. Использует сжатие пути для оптимизации поиска
+         * Метод для получения корня дерева. Итеративный, использует сокращение пути вдвое:
+         * каждый пройденный узел перевешивается на деда
          *
-         * @param row строка клети в дереве
-         * @param col столбец клетки в дереве
+         * @param node номер узла
          *
          * @return корень дерева
          */
-        private int find(int row, int col) {
-            int index = getIndex(row, col);
+        private int find(int node) {
+            int current = node;
 
             // Когда индекс массива равен элементу с этим индексом - корень найден
-            if (parent[index] != index) {
-                parent[index] = find(parent[index] / cols, parent[index] % cols);
+            while (parent[current] != current) {
+                parent[current] = parent[parent[current]];
+                current = parent[current];
             }
 
-            return parent[index];
+            return current;
         }
 
         /**
          * Метод для объединения деревьев по корням, используя ранги.
          * Дерево с меньшим рангом объединяется с деревом с большим рангом
          *
-         * @param fistTreeRow строка клетки первого дерева
-         * @param firstTreeCol столбец клетки первого дерева
-         * @param secondTreeRow строка клетки второго дерева
-         * @param secondTreeCol столбец клетки второго дерева
+         * @param firstNode узел первого дерева
+         * @param secondNode узел второго дерева
+         *
+         * @return {@code true}, если узлы были в разных деревьях и деревья объединены
          */
-        private void union(
-            int fistTreeRow,
-            int firstTreeCol,
-            int secondTreeRow,
-            int secondTreeCol
-        ) {
-            int root1 = find(fistTreeRow, firstTreeCol);
-            int root2 = find(secondTreeRow, secondTreeCol);
-
-            if (root1 != root2) {
-                if (rank[root1] > rank[root2]) {
-                    parent[root2] = root1;
-                } else if (rank[root1] < rank[root2]) {
-                    parent[root1] = root2;
-                } else {
-                    parent[root2] = root1;
-                    rank[root1]++;
-                }
+        private boolean union(int firstNode, int secondNode) {
+            int root1 = find(firstNode);
+            int root2 = find(secondNode);
+
+            if (root1 == root2) {
+                return false;
             }
-        }
 
-        /**
-         * Метод для получения индекса клетки на основе ее строки и столбца
-         *
-         * @param row строка клетки
-         * @param col столбец клетки
-         *
-         * @return индекс клетки
-         */
-        private int getIndex(int row, int col) {
-            return row * cols + col;
+            if (rank[root1] > rank[root2]) {
+                parent[root2] = root1;
+            } else if (rank[root1] < rank[root2]) {
+                parent[root1] = root2;
+            } else {
+                parent[root2] = root1;
+                rank[root1]++;
+            }
+
+            return true;
         }
     }
 }
-
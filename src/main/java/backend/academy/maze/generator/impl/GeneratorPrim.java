@@ -1,136 +1,198 @@
 package backend.academy.maze.generator.impl;
 
 import backend.academy.maze.generator.GeneratorMaze;
-import backend.academy.maze.maze.Cell;
-import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
-import backend.academy.maze.utils.RandomUtil;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
 
 /**
- * Класс генератора лабиринта, основанный на алгоритме Прима
+ * Класс генератора лабиринта, основанный на рандомизированном алгоритме Прима.
+ * Дерево растет от стартового узла: на каждом шаге случайный узел границы соединяется со случайным соседним узлом
+ * дерева, поэтому генерация линейна по количеству клеток
  */
 public class GeneratorPrim extends GeneratorMaze {
 
+    // вверх, вниз, влево, вправо
+    private static final int[] ROW_DIRECTIONS = {-1, 1, 0, 0};
+    private static final int[] COL_DIRECTIONS = {0, 0, -1, 1};
+    private static final int INITIAL_FRONTIER_CAPACITY = 64;
+
     public GeneratorPrim(int maxHeight, int maxWidth) {
         super(maxHeight, maxWidth);
     }
 
+    public GeneratorPrim(int maxHeight, int maxWidth, long seed) {
+        super(maxHeight, maxWidth, seed);
+    }
+
+    public GeneratorPrim(int maxHeight, int maxWidth, RandomGenerator.SplittableGenerator random) {
+        super(maxHeight, maxWidth, random);
+    }
+
     @Override
     public Maze generateMaze(int height, int width) {
         validateGenerationMaze(height, width);
 
+        Maze maze = generatePerfectMaze(height, width);
+
+        randomizeWalls(maze);
+
+        return maze;
+    }
+
+    @Override
+    protected Maze generatePerfectMaze(int height, int width) {
         // Размеры лабиринта с учетом рамки вокруг него
         int fullHeight = height + SIZE_DELTA;
         int fullWidth = width + SIZE_DELTA;
 
-        Cell[][] grid = initializeGrid(fullHeight, fullWidth);
-        List<Coordinate> walls = new ArrayList<>();
-
-        int startRow = 1;
-        int startCol = 1;
-
-        grid[startRow][startCol] = new Cell(startRow, startCol, getRandomCellType());
-        addWalls(
-            grid,
-            walls,
-            startRow,
-            startCol,
-            fullHeight,
-            fullWidth
-        );
-
-        while (!walls.isEmpty()) {
-            Coordinate wall = walls.remove(RandomUtil.getRandomInt(walls.size()));
-            int row = wall.row();
-            int col = wall.col();
-
-            List<Coordinate> neighbors = getNeighbors(grid, row, col);
-
-            // Условие, предотвращающее создание циклов
-            if (neighbors.size() == 1) {
-                grid[row][col] = new Cell(row, col, getRandomCellType());
-                Coordinate neighbor = neighbors.getFirst();
-
-                int newRow = (int) (((long) row + (long) neighbor.row()) / 2);
-                int newCol = (int) (((long) col + (long) neighbor.col()) / 2);
-
-                grid[newRow][newCol] = new Cell(newRow, newCol, getRandomCellType());
-
-                addWalls(
-                    grid,
-                    walls,
-                    newRow,
-                    newCol,
-                    fullHeight,
-                    fullWidth
-                );
-            }
-        }
+        Maze maze = initializeMaze(fullHeight, fullWidth);
+
+        // Узлы лабиринта - клетки на нечетных строках и столбцах
+        int nodeRows = (height + 1) / 2;
+        int nodeCols = (width + 1) / 2;
+
+        Frontier frontier = new Frontier(nodeRows * nodeCols);
+        int[] visitedNeighbors = new int[ROW_DIRECTIONS.length];
+
+        int startNode = 0;
+
+        maze.setCellType(1, 1, getRandomCellType());
+        addFrontier(maze, frontier, startNode, nodeRows, nodeCols);
+
+        while (!frontier.isEmpty()) {
+            int node = frontier.removeRandom(random());
+            int row = 2 * (node / nodeCols) + 1;
+            int col = 2 * (node % nodeCols) + 1;
 
-        randomizeWalls(grid, fullHeight, fullWidth);
+            // Узел соединяется ровно с одним узлом дерева, поэтому циклы не создаются
+            int neighborsCount = collectVisitedNeighbors(maze, row, col, visitedNeighbors);
+            int direction = visitedNeighbors[random().nextInt(neighborsCount)];
 
-        return new Maze(fullHeight, fullWidth, grid);
+            maze.setCellType(row, col, getRandomCellType());
+            maze.setCellType(row + ROW_DIRECTIONS[direction], col + COL_DIRECTIONS[direction], getRandomCellType());
+
+            addFrontier(maze, frontier, node, nodeRows, nodeCols);
+        }
+
+        return maze;
     }
 
     /**
-     * Метод для добавления соседних стен (на расстоянии 2 клеток)
+     * Метод для добавления в границу соседних непосещенных узлов (на расстоянии 2 клеток),
+     * которых в ней еще нет
      *
-     * @param grid сетка лабиринта
-     * @param walls список стен, которые можно использовать для добавления новых проходов
-     * @param row строка клетки
-     * @param col столбец клетки
-     * @param fullHeight полная высота лабиринта
-     * @param fullWidth полная ширина лабиринта
+     * @param maze лабиринт
+     * @param frontier граница дерева
+     * @param node номер узла
+     * @param nodeRows количество строк узлов
+     * @param nodeCols количество столбцов узлов
      */
-    private void addWalls(
-        Cell[][] grid,
-        List<Coordinate> walls,
-        int row,
-        int col,
-        int fullHeight,
-        int fullWidth
-    ) {
-        if (row - 2 > 0 && grid[row - 2][col].type() == Cell.CellType.WALL) {
-            walls.add(new Coordinate(row - 2, col));
+    private void addFrontier(Maze maze, Frontier frontier, int node, int nodeRows, int nodeCols) {
+        int nodeRow = node / nodeCols;
+        int nodeCol = node % nodeCols;
+
+        if (nodeRow > 0) {
+            addFrontierNode(maze, frontier, node - nodeCols, nodeCols);
         }
-        if (row + 2 < fullHeight - 1 && grid[row + 2][col].type() == Cell.CellType.WALL) {
-            walls.add(new Coordinate(row + 2, col));
+        if (nodeRow + 1 < nodeRows) {
+            addFrontierNode(maze, frontier, node + nodeCols, nodeCols);
         }
-        if (col - 2 > 0 && grid[row][col - 2].type() == Cell.CellType.WALL) {
-            walls.add(new Coordinate(row, col - 2));
+        if (nodeCol > 0) {
+            addFrontierNode(maze, frontier, node - 1, nodeCols);
         }
-        if (col + 2 < fullWidth - 1 && grid[row][col + 2].type() == Cell.CellType.WALL) {
-            walls.add(new Coordinate(row, col + 2));
+        if (nodeCol + 1 < nodeCols) {
+            addFrontierNode(maze, frontier, node + 1, nodeCols);
         }
     }
 
     /**
-     * Метод для получения соседних клеток (на расстоянии 2 клеток), которые могут быть проходами
+     * Метод для добавления узла в границу, если он еще не посещен (остается стеной) и не находится в границе
      *
-     * @param grid сетка лабиринта
+     * @param maze лабиринт
+     * @param frontier граница дерева
+     * @param node номер узла
+     * @param nodeCols количество столбцов узлов
+     */
+    private void addFrontierNode(Maze maze, Frontier frontier, int node, int nodeCols) {
+        if (!frontier.contains(node) && maze.isWall(2 * (node / nodeCols) + 1, 2 * (node % nodeCols) + 1)) {
+            frontier.add(node);
+        }
+    }
+
+    /**
+     * Метод для получения направлений на соседние посещенные узлы (на расстоянии 2 клеток)
+     *
+     * @param maze лабиринт
      * @param row строка клетки
      * @param col столбец клетки
+     * @param directions массив для записи направлений
      *
-     * @return список соседей
+     * @return количество соседних посещенных узлов
+     */
+    private int collectVisitedNeighbors(Maze maze, int row, int col, int[] directions) {
+        int count = 0;
+
+        for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+            int newRow = row + 2 * ROW_DIRECTIONS[direction];
+            int newCol = col + 2 * COL_DIRECTIONS[direction];
+
+            if (newRow > 0 && newRow < maze.height() - 1 && newCol > 0 && newCol < maze.width() - 1
+                && !maze.isWall(newRow, newCol)) {
+                directions[count++] = direction;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Граница дерева - непосещенные узлы, соседние с посещенными. Хранится в массиве {@code int[]} без повторов:
+     * принадлежность узла проверяется по битовой маске, а случайный узел удаляется заменой на последний,
+     * поэтому все операции выполняются за O(1)
      */
-    private List<Coordinate> getNeighbors(Cell[][] grid, int row, int col) {
-        List<Coordinate> neighbors = new ArrayList<>();
+    private static final class Frontier {
+        private final BitSet inFrontier;
+        private int[] nodes = new int[INITIAL_FRONTIER_CAPACITY];
+        private int size;
 
-        if (row - 2 > 0 && grid[row - 2][col].type() != Cell.CellType.WALL) {
-            neighbors.add(new Coordinate(row - 2, col));
+        private Frontier(int nodesCount) {
+            inFrontier = new BitSet(nodesCount);
         }
-        if (row + 2 < grid.length - 1 && grid[row + 2][col].type() != Cell.CellType.WALL) {
-            neighbors.add(new Coordinate(row + 2, col));
+
+        private boolean isEmpty() {
+            return size == 0;
         }
-        if (col - 2 > 0 && grid[row][col - 2].type() != Cell.CellType.WALL) {
-            neighbors.add(new Coordinate(row, col - 2));
+
+        private boolean contains(int node) {
+            return inFrontier.get(node);
         }
-        if (col + 2 < grid[0].length - 1 && grid[row][col + 2].type() != Cell.CellType.WALL) {
-            neighbors.add(new Coordinate(row, col + 2));
+
+        private void add(int node) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+
+            nodes[size++] = node;
+            inFrontier.set(node);
         }
 
-        return neighbors;
+        /**
+         * Метод для удаления случайного узла границы
+         *
+         * @param random источник случайных чисел
+         *
+         * @return номер удаленного узла
+         */
+        private int removeRandom(RandomGenerator random) {
+            int position = random.nextInt(size);
+            int node = nodes[position];
+
+            nodes[position] = nodes[--size];
+            inFrontier.clear(node);
+
+            return node;
+        }
     }
 }
@@ -0,0 +1,336 @@
+package backend.academy.maze.generator.impl;
+
+import backend.academy.maze.enums.GeneratorMazeType;
+import backend.academy.maze.generator.GeneratorMaze;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Maze;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Класс параллельного генератора лабиринта. Сетка узлов делится на плитки, идеальный лабиринт каждой плитки
+ * строится одним из обычных алгоритмов параллельно в {@link ForkJoinPool}, затем плитки сшиваются:
+ * по случайному остовному дереву графа плиток в каждой выбранной границе открывается ровно один проход.
+ * Дерево из деревьев - тоже дерево, поэтому при нечетных размерах результат остается идеальным лабиринтом.
+ * При четных размерах, как и в остальных генераторах, в "двойной стене" у нижнего и правого края
+ * открываются случайные клетки
+ */
+public class GeneratorTiled extends GeneratorMaze {
+
+    /**
+     * Количество узлов по стороне плитки по умолчанию
+     */
+    public static final int DEFAULT_TILE_NODES = 128;
+    /**
+     * Минимальное количество узлов по стороне плитки: плитка должна быть не меньше минимального лабиринта
+     */
+    private static final int MIN_TILE_NODES = 2;
+    private static final int EDGE_DIRECTIONS = 2;
+    private static final int DOWN = 0;
+    private static final int RIGHT = 1;
+
+    /**
+     * Алгоритм генерации плиток
+     */
+    private final GeneratorMazeType tileGeneratorType;
+    /**
+     * Количество узлов по стороне плитки
+     */
+    private final int tileNodes;
+    private final ForkJoinPool pool;
+
+    public GeneratorTiled(int maxHeight, int maxWidth, GeneratorMazeType tileGeneratorType) {
+        this(maxHeight, maxWidth, tileGeneratorType, DEFAULT_TILE_NODES, new SplittableRandom(),
+            ForkJoinPool.commonPool());
+    }
+
+    public GeneratorTiled(int maxHeight, int maxWidth, GeneratorMazeType tileGeneratorType, long seed) {
+        this(maxHeight, maxWidth, tileGeneratorType, DEFAULT_TILE_NODES, new SplittableRandom(seed),
+            ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Конструктор параллельного генератора
+     *
+     * @param maxHeight максимальная высота лабиринта
+     * @param maxWidth максимальная ширина лабиринта
+     * @param tileGeneratorType алгоритм генерации плиток
+     * @param tileNodes количество узлов по стороне плитки (не меньше 2)
+     * @param random источник случайных чисел. Каждая плитка получает независимый поток через
+     * {@link RandomGenerator.SplittableGenerator#split()}, поэтому результат не зависит от порядка выполнения
+     * @param pool пул потоков для генерации плиток
+     */
+    public GeneratorTiled(
+        int maxHeight,
+        int maxWidth,
+        GeneratorMazeType tileGeneratorType,
+        int tileNodes,
+        RandomGenerator.SplittableGenerator random,
+        ForkJoinPool pool
+    ) {
+        super(maxHeight, maxWidth, random);
+
+        if (tileNodes < MIN_TILE_NODES) {
+            throw new IllegalArgumentException(
+                String.format("Количество узлов по стороне плитки должно быть не меньше %d.", MIN_TILE_NODES));
+        }
+
+        this.tileGeneratorType = tileGeneratorType;
+        this.tileNodes = tileNodes;
+        this.pool = pool;
+    }
+
+    @Override
+    public Maze generateMaze(int height, int width) {
+        validateGenerationMaze(height, width);
+
+        Maze maze = generatePerfectMaze(height, width);
+
+        // Если введенная высота или ширина четные, то нижний или правый край лабиринта соответственно
+        // будут иметь "двойные стены". Поверхности открытых клеток - как у проходов между плитками
+        removeRandomWalls(
+            maze,
+            height,
+            width,
+            tileGeneratorType != GeneratorMazeType.DFS
+        );
+
+        return maze;
+    }
+
+    @Override
+    protected Maze generatePerfectMaze(int height, int width) {
+        Maze maze = initializeMaze(height + SIZE_DELTA, width + SIZE_DELTA);
+
+        // Узлы лабиринта - клетки на нечетных строках и столбцах
+        int[] tileRowStarts = splitNodes((height + 1) / 2);
+        int[] tileColStarts = splitNodes((width + 1) / 2);
+        int tileCols = tileColStarts.length - 1;
+        int tilesCount = (tileRowStarts.length - 1) * tileCols;
+
+        // Потоки случайных чисел выделяются последовательно, чтобы лабиринт зависел только от зерна
+        RandomGenerator.SplittableGenerator[] tileRandoms = new RandomGenerator.SplittableGenerator[tilesCount];
+
+        for (int tile = 0; tile < tilesCount; tile++) {
+            tileRandoms[tile] = random().split();
+        }
+
+        pool.invoke(new TileTask(maze, tileRowStarts, tileColStarts, tileRandoms, 0, tilesCount));
+
+        stitchTiles(maze, tileRowStarts, tileColStarts);
+
+        return maze;
+    }
+
+    /**
+     * Метод для разбиения узлов одного измерения на плитки примерно равного размера
+     *
+     * @param nodes количество узлов
+     *
+     * @return номера первых узлов плиток и количество узлов в конце массива
+     */
+    private int[] splitNodes(int nodes) {
+        int tiles = Math.max(1, nodes / tileNodes);
+        int[] starts = new int[tiles + 1];
+
+        for (int tile = 0; tile <= tiles; tile++) {
+            starts[tile] = (int) ((long) nodes * tile / tiles);
+        }
+
+        return starts;
+    }
+
+    /**
+     * Метод для генерации плитки и копирования ее в лабиринт
+     *
+     * @param maze лабиринт
+     * @param firstNodeRow первая строка узлов плитки
+     * @param firstNodeCol первый столбец узлов плитки
+     * @param nodeRows количество строк узлов плитки
+     * @param nodeCols количество столбцов узлов плитки
+     * @param random источник случайных чисел плитки
+     */
+    private void generateTile(
+        Maze maze,
+        int firstNodeRow,
+        int firstNodeCol,
+        int nodeRows,
+        int nodeCols,
+        RandomGenerator.SplittableGenerator random
+    ) {
+        int tileHeight = 2 * nodeRows - 1;
+        int tileWidth = 2 * nodeCols - 1;
+
+        Maze tile = switch (tileGeneratorType) {
+            case DFS -> new GeneratorDfs(tileHeight, tileWidth, random).generatePerfectMaze(tileHeight, tileWidth);
+            case KRUSKAL -> new GeneratorKruskal(tileHeight, tileWidth, random)
+                .generatePerfectMaze(tileHeight, tileWidth);
+            case PRIM -> new GeneratorPrim(tileHeight, tileWidth, random).generatePerfectMaze(tileHeight, tileWidth);
+            case ELLER -> new GeneratorEller(tileHeight, tileWidth, random)
+                .generatePerfectMaze(tileHeight, tileWidth);
+        };
+
+        // Плитки не пересекаются, поэтому потоки пишут в разные клетки лабиринта
+        maze.copyInterior(tile, 2 * firstNodeRow + 1, 2 * firstNodeCol + 1);
+    }
+
+    /**
+     * Метод для сшивания плиток. Ребра графа плиток перемешиваются, и по алгоритму Краскала выбирается остовное
+     * дерево. Для каждого ребра дерева в общей границе плиток открывается один проход между случайными узлами
+     *
+     * @param maze лабиринт
+     * @param tileRowStarts номера первых строк узлов плиток
+     * @param tileColStarts номера первых столбцов узлов плиток
+     */
+    private void stitchTiles(Maze maze, int[] tileRowStarts, int[] tileColStarts) {
+        int tileRows = tileRowStarts.length - 1;
+        int tileCols = tileColStarts.length - 1;
+        int[] edges = new int[(tileRows - 1) * tileCols + tileRows * (tileCols - 1)];
+        int size = 0;
+
+        for (int tile = 0; tile < tileRows * tileCols; tile++) {
+            if (tile / tileCols + 1 < tileRows) {
+                edges[size++] = tile * EDGE_DIRECTIONS + DOWN;
+            }
+            if (tile % tileCols + 1 < tileCols) {
+                edges[size++] = tile * EDGE_DIRECTIONS + RIGHT;
+            }
+        }
+
+        int[] parent = new int[tileRows * tileCols];
+
+        for (int tile = 0; tile < parent.length; tile++) {
+            parent[tile] = tile;
+        }
+
+        for (int i = edges.length - 1; i >= 0; i--) {
+            // Перемешивание Фишера - Йетса совмещено с обходом ребер
+            int j = random().nextInt(i + 1);
+            int edge = edges[j];
+
+            edges[j] = edges[i];
+
+            int tile = edge / EDGE_DIRECTIONS;
+            boolean isDown = edge % EDGE_DIRECTIONS == DOWN;
+            int neighbor = isDown ? tile + tileCols : tile + 1;
+            int root1 = find(parent, tile);
+            int root2 = find(parent, neighbor);
+
+            if (root1 != root2) {
+                parent[root2] = root1;
+                openBoundary(maze, tileRowStarts, tileColStarts, tile / tileCols, tile % tileCols, isDown);
+            }
+        }
+    }
+
+    /**
+     * Метод для открытия прохода в границе плитки с соседней плиткой снизу или справа
+     *
+     * @param maze лабиринт
+     * @param tileRowStarts номера первых строк узлов плиток
+     * @param tileColStarts номера первых столбцов узлов плиток
+     * @param tileRow строка плитки
+     * @param tileCol столбец плитки
+     * @param isDown флаг границы с плиткой снизу
+     */
+    private void openBoundary(
+        Maze maze,
+        int[] tileRowStarts,
+        int[] tileColStarts,
+        int tileRow,
+        int tileCol,
+        boolean isDown
+    ) {
+        int row;
+        int col;
+
+        if (isDown) {
+            row = 2 * tileRowStarts[tileRow + 1];
+            col = 2 * random().nextInt(tileColStarts[tileCol], tileColStarts[tileCol + 1]) + 1;
+        } else {
+            row = 2 * random().nextInt(tileRowStarts[tileRow], tileRowStarts[tileRow + 1]) + 1;
+            col = 2 * tileColStarts[tileCol + 1];
+        }
+
+        maze.setCellType(row, col, tileGeneratorType == GeneratorMazeType.DFS
+            ? Cell.CellType.PASSAGE
+            : getRandomCellType());
+    }
+
+    /**
+     * Метод для получения корня дерева плиток. Использует сокращение пути вдвое
+     *
+     * @param parent массив родителей
+     * @param tile номер плитки
+     *
+     * @return корень дерева
+     */
+    private static int find(int[] parent, int tile) {
+        int current = tile;
+
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+
+        return current;
+    }
+
+    /**
+     * Задача генерации диапазона плиток. Диапазон делится пополам, пока в нем не останется одна плитка
+     */
+    private final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Maze maze;
+        private final int[] tileRowStarts;
+        private final int[] tileColStarts;
+        private final transient RandomGenerator.SplittableGenerator[] tileRandoms;
+        private final int from;
+        private final int to;
+
+        private TileTask(
+            Maze maze,
+            int[] tileRowStarts,
+            int[] tileColStarts,
+            RandomGenerator.SplittableGenerator[] tileRandoms,
+            int from,
+            int to
+        ) {
+            this.maze = maze;
+            this.tileRowStarts = tileRowStarts;
+            this.tileColStarts = tileColStarts;
+            this.tileRandoms = tileRandoms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                int tileCols = tileColStarts.length - 1;
+                int tileRow = from / tileCols;
+                int tileCol = from % tileCols;
+
+                generateTile(
+                    maze,
+                    tileRowStarts[tileRow],
+                    tileColStarts[tileCol],
+                    tileRowStarts[tileRow + 1] - tileRowStarts[tileRow],
+                    tileColStarts[tileCol + 1] - tileColStarts[tileCol],
+                    tileRandoms[from]
+                );
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+
+            invokeAll(
+                new TileTask(maze, tileRowStarts, tileColStarts, tileRandoms, from, middle),
+                new TileTask(maze, tileRowStarts, tileColStarts, tileRandoms, middle, to)
+            );
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package backend.academy.maze.maze;
+
+/**
+ * Рекорд изменения типа клетки из журнала изменений лабиринта
+ *
+ * @param coordinate координата клетки
+ * @param previousType тип клетки до изменения
+ * @param newType тип клетки после изменения
+ */
+public record CellChange(Coordinate coordinate, Cell.CellType previousType, Cell.CellType newType) {
+}
@@ -1,56 +1,497 @@
 package backend.academy.maze.maze;
 
 import backend.academy.maze.utils.RandomUtil;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
- * Класс лабиринта
+ * Класс лабиринта. Сетка хранится в плоском массиве байтов: одна клетка - один байт
+ * с порядковым номером {@link Cell.CellType}. Объекты {@link Cell} создаются только по запросу.
+ * Каждое изменение типа клетки увеличивает версию лабиринта; после включения журнала изменений
+ * последние изменения можно получить через {@link Maze#changesSince(long)}
  */
-@RequiredArgsConstructor
 public class Maze {
 
+    /**
+     * Вместимость журнала изменений по умолчанию
+     */
+    public static final int DEFAULT_CHANGE_LOG_CAPACITY = 4096;
+
+    /**
+     * Кэш значений перечисления, чтобы не копировать массив при каждом обращении к {@code values()}
+     */
+    private static final Cell.CellType[] CELL_TYPES = Cell.CellType.values();
+    private static final byte WALL = (byte) Cell.CellType.WALL.ordinal();
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     @Getter
     private final int height;
     @Getter
     private final int width;
-    @Getter
-    private final Cell[][] grid;
 
-    private List<Cell> notWallCells = null;
+    /**
+     * Упакованная сетка лабиринта (построчно), индекс клетки - {@code row * width + col}
+     */
+    private final byte[] cells;
 
     /**
-     * Метод для получения случайного прохода/поверхности в лабиринте
+     * Индексы клеток-не-стен. Заполняются лениво и сбрасываются при изменении сетки
+     */
+    private int[] notWallIndices = null;
+
+    /**
+     * Хэш содержимого сетки. Вычисляется лениво и сбрасывается при изменении сетки
+     */
+    private long contentHash;
+    private boolean isContentHashValid = false;
+
+    /**
+     * Версия лабиринта - количество изменений типов клеток с момента создания
+     */
+    private long version;
+
+    /**
+     * Журнал изменений - кольцевой буфер последних изменений: индекс клетки, прежний и новый тип.
+     * Изменение с версией {@code v} (после него версия стала {@code v + 1}) хранится в ячейке
+     * {@code v % capacity}. Пока журнал не включен, массивы равны {@code null}
+     */
+    private int[] changedCells = null;
+    private byte[] previousTypes = null;
+    private byte[] newTypes = null;
+
+    /**
+     * Версия, с которой журнал хранит все изменения (версия на момент включения журнала)
+     */
+    private long changeLogStart;
+
+    /**
+     * Конструктор лабиринта, полностью заполненного стенами
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     */
+    public Maze(int height, int width) {
+        long size = (long) height * width;
+
+        if (height <= 0 || width <= 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Некорректный размер лабиринта: " + height + "x" + width);
+        }
+
+        this.height = height;
+        this.width = width;
+        this.cells = new byte[(int) size];
+
+        // Пока стена - первый элемент перечисления, массив из нулей уже заполнен стенами
+        if (WALL != 0) {
+            Arrays.fill(cells, WALL);
+        }
+    }
+
+    /**
+     * Конструктор лабиринта из готовой сетки клеток. Сетка упаковывается, сами клетки не сохраняются
+     *
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param grid сетка лабиринта
+     */
+    public Maze(int height, int width, Cell[][] grid) {
+        this(height, width);
+
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                cells[row * width + col] = (byte) grid[row][col].type().ordinal();
+            }
+        }
+    }
+
+    /**
+     * Метод для получения индекса клетки в упакованной сетке
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     *
+     * @return индекс клетки
+     */
+    public int index(int row, int col) {
+        return row * width + col;
+    }
+
+    /**
+     * Метод для получения номера строки по индексу клетки
+     *
+     * @param index индекс клетки
+     *
+     * @return номер строки
+     */
+    public int row(int index) {
+        return index / width;
+    }
+
+    /**
+     * Метод для получения номера столбца по индексу клетки
+     *
+     * @param index индекс клетки
+     *
+     * @return номер столбца
+     */
+    public int col(int index) {
+        return index % width;
+    }
+
+    /**
+     * Метод для получения количества клеток в лабиринте
+     *
+     * @return количество клеток
+     */
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * Метод для получения типа клетки по индексу
+     *
+     * @param index индекс клетки
+     *
+     * @return тип клетки
+     */
+    public Cell.CellType cellType(int index) {
+        return CELL_TYPES[cells[index]];
+    }
+
+    /**
+     * Метод для получения типа клетки по координатам
      *
-     * @param random рандомайзер
+     * @param row номер строки
+     * @param col номер столбца
+     *
+     * @return тип клетки
+     */
+    public Cell.CellType cellType(int row, int col) {
+        return cellType(index(row, col));
+    }
+
+    /**
+     * Метод для изменения типа клетки по индексу
+     *
+     * @param index индекс клетки
+     * @param type новый тип клетки
+     */
+    public void setCellType(int index, Cell.CellType type) {
+        byte newType = (byte) type.ordinal();
+        byte previousType = cells[index];
+
+        // Запись того же типа ничего не меняет: кэши остаются верными, версия не растет
+        if (previousType == newType) {
+            return;
+        }
+
+        cells[index] = newType;
+
+        if (changedCells != null) {
+            int slot = (int) (version % changedCells.length);
+
+            changedCells[slot] = index;
+            previousTypes[slot] = previousType;
+            newTypes[slot] = newType;
+        }
+
+        version++;
+        notWallIndices = null;
+        isContentHashValid = false;
+    }
+
+    /**
+     * Метод для изменения типа клетки по координатам
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     * @param type новый тип клетки
+     */
+    public void setCellType(int row, int col, Cell.CellType type) {
+        setCellType(index(row, col), type);
+    }
+
+    /**
+     * Метод для копирования внутренней части другого лабиринта (без его рамки). Клетка {@code (1, 1)} источника
+     * попадает в клетку {@code (row, col)}. Несколько потоков могут одновременно копировать в непересекающиеся
+     * области: клетки пишутся без блокировки, а версия и кэши обновляются один раз за копирование под блокировкой.
+     * Поклеточные изменения в журнал не попадают, поэтому журнал начинается заново с новой версии
+     *
+     * @param source лабиринт-источник
+     * @param row строка, в которую попадает первая строка внутренней части источника
+     * @param col столбец, в который попадает первый столбец внутренней части источника
+     */
+    public void copyInterior(Maze source, int row, int col) {
+        int sourceHeight = source.height - 2;
+        int sourceWidth = source.width - 2;
+
+        if (row < 0 || col < 0 || row + sourceHeight > height || col + sourceWidth > width) {
+            throw new IllegalArgumentException("Лабиринт-источник не помещается в лабиринт.");
+        }
+
+        int changedCount = 0;
+
+        for (int sourceRow = 1; sourceRow <= sourceHeight; sourceRow++) {
+            int sourceIndex = source.index(sourceRow, 1);
+            int targetIndex = index(row + sourceRow - 1, col);
+
+            for (int offset = 0; offset < sourceWidth; offset++) {
+                byte type = source.cells[sourceIndex + offset];
+
+                if (cells[targetIndex + offset] != type) {
+                    cells[targetIndex + offset] = type;
+                    changedCount++;
+                }
+            }
+        }
+
+        if (changedCount > 0) {
+            recordBulkChange(changedCount);
+        }
+    }
+
+    /**
+     * Метод для получения версии лабиринта - количества изменений типов клеток с момента создания.
+     * Запись в клетку того же типа версию не меняет
+     *
+     * @return версию лабиринта
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Метод для включения журнала изменений. Журнал хранит не больше {@code capacity} последних изменений,
+     * начиная с текущей версии; повторное включение очищает журнал
+     *
+     * @param capacity вместимость журнала (больше 0)
+     */
+    public void enableChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Вместимость журнала изменений должна быть больше 0.");
+        }
+
+        changedCells = new int[capacity];
+        previousTypes = new byte[capacity];
+        newTypes = new byte[capacity];
+        changeLogStart = version;
+    }
+
+    /**
+     * Метод для проверки, включен ли журнал изменений
+     *
+     * @return {@code true}, если журнал включен
+     */
+    public boolean isChangeLogEnabled() {
+        return changedCells != null;
+    }
+
+    /**
+     * Метод для проверки, хранит ли журнал все изменения после указанной версии
+     *
+     * @param sinceVersion версия лабиринта
+     *
+     * @return {@code true}, если изменения после версии можно получить через {@link Maze#changesSince(long)};
+     * при выключенном журнале всегда {@code false}
+     */
+    public boolean hasChangesSince(long sinceVersion) {
+        if (sinceVersion < 0 || sinceVersion > version) {
+            throw new IllegalArgumentException("Некорректная версия лабиринта: " + sinceVersion);
+        }
+
+        if (changedCells == null) {
+            return false;
+        }
+
+        return sinceVersion >= changeLogStart && version - sinceVersion <= changedCells.length;
+    }
+
+    /**
+     * Метод для получения изменений типов клеток после указанной версии в порядке их применения
+     *
+     * @param sinceVersion версия лабиринта
+     *
+     * @return список изменений или пустой {@link Optional}, если журнал выключен
+     * или уже не хранит часть изменений (тогда состояние нужно строить заново по текущей сетке)
+     */
+    public Optional<List<CellChange>> changesSince(long sinceVersion) {
+        if (!hasChangesSince(sinceVersion)) {
+            return Optional.empty();
+        }
+
+        List<CellChange> changes = new ArrayList<>((int) (version - sinceVersion));
+
+        for (long changeVersion = sinceVersion; changeVersion < version; changeVersion++) {
+            int slot = (int) (changeVersion % changedCells.length);
+            int index = changedCells[slot];
+
+            changes.add(new CellChange(
+                new Coordinate(row(index), col(index)),
+                CELL_TYPES[previousTypes[slot]],
+                CELL_TYPES[newTypes[slot]]
+            ));
+        }
+
+        return Optional.of(changes);
+    }
+
+    /**
+     * Метод для проверки, является ли клетка стеной
+     *
+     * @param index индекс клетки
+     *
+     * @return {@code true}, если клетка - стена
+     */
+    public boolean isWall(int index) {
+        return cells[index] == WALL;
+    }
+
+    /**
+     * Метод для проверки, является ли клетка стеной
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     *
+     * @return {@code true}, если клетка - стена
+     */
+    public boolean isWall(int row, int col) {
+        return isWall(index(row, col));
+    }
+
+    /**
+     * Метод для получения веса клетки
+     *
+     * @param index индекс клетки
+     *
+     * @return вес клетки
+     */
+    public int weight(int index) {
+        return CELL_TYPES[cells[index]].weight();
+    }
+
+    /**
+     * Метод для получения клетки. Объект клетки создается при каждом вызове
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     *
+     * @return клетку лабиринта
+     */
+    public Cell cell(int row, int col) {
+        return new Cell(row, col, cellType(row, col));
+    }
+
+    /**
+     * Метод для получения сетки лабиринта в виде двумерного массива клеток.
+     * Сетка собирается заново при каждом вызове, поэтому для больших лабиринтов лучше использовать
+     * {@link Maze#cellType(int, int)}
+     *
+     * @return сетку лабиринта
+     */
+    public Cell[][] grid() {
+        Cell[][] grid = new Cell[height][width];
+
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                grid[row][col] = cell(row, col);
+            }
+        }
+
+        return grid;
+    }
+
+    /**
+     * Метод для получения случайного прохода/поверхности в лабиринте
      *
      * @return клетку-проход/поверхность лабиринта
      */
     public Coordinate getRandomCoordinate() {
-        initializeNotWallCells();
+        initializeNotWallIndices();
 
-        Cell randomCell = notWallCells.get(RandomUtil.getRandomInt(notWallCells.size()));
+        int index = notWallIndices[RandomUtil.getRandomInt(notWallIndices.length)];
 
-        return new Coordinate(randomCell.row(), randomCell.col());
+        return new Coordinate(row(index), col(index));
     }
 
+    /**
+     * Метод для получения списка клеток-не-стен. Клетки создаются при каждом вызове
+     *
+     * @return список клеток-не-стен
+     */
     public List<Cell> notWallCells() {
-        initializeNotWallCells();
+        initializeNotWallIndices();
+
+        List<Cell> notWallCells = new ArrayList<>(notWallIndices.length);
+
+        for (int index : notWallIndices) {
+            notWallCells.add(cell(row(index), col(index)));
+        }
 
         return notWallCells;
     }
 
     /**
-     * Метод для инициализации списка клеток-не-стен
+     * Метод для получения 64-битного хэша содержимого лабиринта (размеров и типов всех клеток) по алгоритму FNV-1a.
+     * Лабиринты с одинаковым содержимым имеют одинаковый хэш, поэтому он подходит для ключей кэша
+     *
+     * @return хэш содержимого
      */
-    private void initializeNotWallCells() {
-        if (notWallCells == null || notWallCells.isEmpty()) {
-            notWallCells = Arrays.stream(grid)
-                    .flatMap(Arrays::stream)
-                    .filter(cell -> cell.type() != Cell.CellType.WALL)
-                    .toList();
+    public long contentHash() {
+        if (!isContentHashValid) {
+            long hash = FNV_OFFSET_BASIS;
+
+            hash = (hash ^ height) * FNV_PRIME;
+            hash = (hash ^ width) * FNV_PRIME;
+
+            for (byte cell : cells) {
+                hash = (hash ^ cell) * FNV_PRIME;
+            }
+
+            contentHash = hash;
+            isContentHashValid = true;
+        }
+
+        return contentHash;
+    }
+
+    /**
+     * Метод для учета массового изменения клеток: версия растет на количество измененных клеток,
+     * журнал начинается с новой версии, кэши сбрасываются
+     *
+     * @param changedCount количество измененных клеток
+     */
+    private synchronized void recordBulkChange(int changedCount) {
+        version += changedCount;
+        changeLogStart = version;
+        notWallIndices = null;
+        isContentHashValid = false;
+    }
+
+    /**
+     * Метод для инициализации массива индексов клеток-не-стен
+     */
+    private void initializeNotWallIndices() {
+        if (notWallIndices == null || notWallIndices.length == 0) {
+            int count = 0;
+
+            for (byte cell : cells) {
+                if (cell != WALL) {
+                    count++;
+                }
+            }
+
+            notWallIndices = new int[count];
+            int position = 0;
+
+            for (int index = 0; index < cells.length; index++) {
+                if (!isWall(index)) {
+                    notWallIndices[position++] = index;
+                }
+            }
         }
     }
 }
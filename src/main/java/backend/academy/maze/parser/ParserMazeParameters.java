@@ -1,6 +1,5 @@
 package backend.academy.maze.parser;
 
-import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
 import backend.academy.maze.utils.RandomUtil;
@@ -257,7 +256,7 @@ public class ParserMazeParameters {
      */
     private void validateCoordinate(Maze maze, int row, int col) {
         if (isCoordinateNotInBounds(maze, row, col)
-            || maze.grid()[row][col].type() == Cell.CellType.WALL
+            || maze.isWall(row, col)
         ) {
             throw new IllegalArgumentException(RED + "Координата недоступна." + RESET);
         }
@@ -281,7 +280,7 @@ public class ParserMazeParameters {
         int finishCol
     ) {
         if (isCoordinateNotInBounds(maze, finishRow, finishCol)
-            || maze.grid()[finishRow][finishCol].type() == Cell.CellType.WALL
+            || maze.isWall(finishRow, finishCol)
             || startRow == finishRow && startCol == finishCol
         ) {
             throw new IllegalArgumentException(RED
@@ -2,6 +2,7 @@ package backend.academy.maze.renderer;
 
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -27,4 +28,25 @@ public interface RendererMaze {
      * @return объединенные лабиринт и путь, преобразованные в строку
      */
     String renderMazeWithPath(Maze maze, List<Coordinate> path);
+
+    /**
+     * Метод для построчной записи лабиринта в приемник без построения промежуточной строки
+     *
+     * @param maze лабиринт
+     * @param output приемник вывода
+     *
+     * @throws UncheckedIOException при ошибке записи в приемник
+     */
+    void renderMaze(Maze maze, Appendable output);
+
+    /**
+     * Метод для построчной записи лабиринта с путем в приемник без построения промежуточной строки
+     *
+     * @param maze лабиринт
+     * @param path путь в лабиринте
+     * @param output приемник вывода
+     *
+     * @throws UncheckedIOException при ошибке записи в приемник
+     */
+    void renderMazeWithPath(Maze maze, List<Coordinate> path, Appendable output);
 }
@@ -4,16 +4,22 @@ import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
 import backend.academy.maze.renderer.RendererMaze;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.BitSet;
 import java.util.List;
 
 /**
- * Класс-маппер для преобразования лабиринта и решения лабиринта в строку для вывода
+ * Класс-маппер для преобразования лабиринта и решения лабиринта в строку для вывода.
+ * Строковые методы собирают результат через потоковые: лабиринт пишется построчно через переиспользуемый буфер строки
  */
 public class RendererMazeImpl implements RendererMaze {
 
     private final static String RESET = "\u001B[0m";
     private final static String GREEN = "\u001B[32m";
     private final static String BOLD = "\033[1m";
+    private final static String PATH_NOT_FOUND = "Путь не найден";
 
     private final static int START_AND_FINISH_BUFFER = 8;
     private final static int PATH_FACTOR = 9; // я честно не знаю почему, методом подбора
@@ -23,13 +29,7 @@ public class RendererMazeImpl implements RendererMaze {
         int buffer = maze.width() * maze.height() + maze.height();
         StringBuilder mazeString = new StringBuilder(buffer);
 
-        for (int row = 0; row < maze.height(); row++) {
-            for (int col = 0; col < maze.width(); col++) {
-                mazeString.append(maze.grid()[row][col].type().symbol());
-            }
-
-            mazeString.append('\n');
-        }
+        renderMaze(maze, mazeString);
 
         return mazeString.toString();
     }
@@ -37,35 +37,131 @@ public class RendererMazeImpl implements RendererMaze {
     @Override
     public String renderMazeWithPath(Maze maze, List<Coordinate> path) {
         if (path.isEmpty()) {
-            return "Путь не найден";
+            return PATH_NOT_FOUND;
         }
         int buffer = maze.width() * maze.height() + maze.height() + START_AND_FINISH_BUFFER + path.size() * PATH_FACTOR;
 
         StringBuilder mazeWithPathString = new StringBuilder(buffer);
 
+        renderMazeWithPath(maze, path, mazeWithPathString);
+
+        return mazeWithPathString.toString();
+    }
+
+    @Override
+    public void renderMaze(Maze maze, Appendable output) {
+        LineWriter lineWriter = new LineWriter(output, maze.width());
+
         for (int row = 0; row < maze.height(); row++) {
+            StringBuilder line = lineWriter.line();
+
             for (int col = 0; col < maze.width(); col++) {
-                Coordinate coordinate = new Coordinate(row, col);
-
-                if (path.contains(coordinate)) {
-                    if (path.getFirst().equals(coordinate)) {
-                        mazeWithPathString.append(GREEN + BOLD + "A" + RESET); // Стартовая координата пути
-                        continue;
-                    } else if (path.getLast().equals(coordinate)) {
-                        mazeWithPathString.append(GREEN + BOLD + "B" + RESET); // Конечная координата пути
-                        continue;
-                    }
+                line.append(maze.cellType(row, col).symbol());
+            }
 
-                    mazeWithPathString.append(Cell.CellType.PATH.symbol());
-                    continue;
-                }
+            lineWriter.flushLine();
+        }
+    }
+
+    @Override
+    public void renderMazeWithPath(Maze maze, List<Coordinate> path, Appendable output) {
+        LineWriter lineWriter = new LineWriter(output, maze.width());
 
-                mazeWithPathString.append(maze.grid()[row][col].type().symbol());
+        if (path.isEmpty()) {
+            lineWriter.line().append(PATH_NOT_FOUND);
+            lineWriter.write();
+            return;
+        }
+
+        BitSet pathCells = createPathOverlay(maze, path);
+        int startIndex = maze.index(path.getFirst().row(), path.getFirst().col());
+        int finishIndex = maze.index(path.getLast().row(), path.getLast().col());
+
+        for (int row = 0, index = 0; row < maze.height(); row++) {
+            StringBuilder line = lineWriter.line();
+
+            for (int col = 0; col < maze.width(); col++, index++) {
+                if (index == startIndex) {
+                    line.append(GREEN + BOLD + "A" + RESET); // Стартовая координата пути
+                } else if (index == finishIndex) {
+                    line.append(GREEN + BOLD + "B" + RESET); // Конечная координата пути
+                } else if (pathCells.get(index)) {
+                    line.append(Cell.CellType.PATH.symbol());
+                } else {
+                    line.append(maze.cellType(index).symbol());
+                }
             }
 
-            mazeWithPathString.append('\n');
+            lineWriter.flushLine();
         }
+    }
 
-        return mazeWithPathString.toString();
+    /**
+     * Метод для построения маски клеток пути по индексам упакованной сетки.
+     * Проверка принадлежности клетки пути при отрисовке выполняется за O(1)
+     *
+     * @param maze лабиринт
+     * @param path путь в лабиринте
+     *
+     * @return маска клеток пути
+     */
+    private BitSet createPathOverlay(Maze maze, List<Coordinate> path) {
+        BitSet pathCells = new BitSet(maze.size());
+
+        for (Coordinate coordinate : path) {
+            pathCells.set(maze.index(coordinate.row(), coordinate.col()));
+        }
+
+        return pathCells;
+    }
+
+    /**
+     * Построчная запись в приемник через переиспользуемый буфер строки.
+     * Если приемник - {@link Writer}, строка передается массивом символов без создания промежуточной {@link String}
+     */
+    private static final class LineWriter {
+        private final Appendable output;
+        private final StringBuilder line;
+        private char[] chars;
+
+        private LineWriter(Appendable output, int width) {
+            this.output = output;
+            this.line = new StringBuilder(width + 1);
+            this.chars = new char[width + 1];
+        }
+
+        private StringBuilder line() {
+            return line;
+        }
+
+        /**
+         * Метод для завершения строки переводом строки и ее записи в приемник
+         */
+        private void flushLine() {
+            line.append('\n');
+            write();
+        }
+
+        /**
+         * Метод для записи буфера строки в приемник и очистки буфера
+         */
+        private void write() {
+            try {
+                if (output instanceof Writer writer) {
+                    if (chars.length < line.length()) {
+                        chars = new char[line.length()];
+                    }
+
+                    line.getChars(0, line.length(), chars, 0);
+                    writer.write(chars, 0, line.length());
+                } else {
+                    output.append(line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            line.setLength(0);
+        }
     }
 }
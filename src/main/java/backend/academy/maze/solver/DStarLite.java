@@ -0,0 +1,349 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.CellChange;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.queue.IndexedMinHeap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Инкрементальный планировщик D* Lite для одной конечной клетки изменяемого лабиринта.
+ * Поиск идет от конечной клетки к стартовой: {@code g} - найденная стоимость пути от клетки до конечной,
+ * {@code rhs} - та же стоимость, пересчитанная по соседям за один шаг. Клетки, у которых значения расходятся,
+ * лежат в очереди. После изменения типов клеток пересчитываются только сами клетки и их соседи,
+ * а поиск раскрывает лишь ту область, где стоимости действительно изменились. Изменения берутся из журнала
+ * лабиринта ({@link Maze#changesSince(long)}); если журнал их уже не хранит, состояние строится заново.
+ * Стартовая клетка может меняться между запросами: поправка ключей {@code keyModifier} сохраняет порядок
+ * очереди без ее перестроения
+ */
+public class DStarLite {
+
+    private static final int INFINITY = DistanceField.UNREACHABLE;
+    private static final int NO_CELL = SolverMaze.NO_CELL;
+    /**
+     * Цена шага в эвристике - на единицу меньше наименьшего положительного веса клетки (клетки пути {@code PATH}
+     * с нулевым весом появляются только при отрисовке решения). Каждый шаг стоит строго больше, чем уменьшается
+     * эвристика, поэтому у клетки ключ строго больше, чем у следующей за ней клетки кратчайшего пути,
+     * и очереди достаточно одной компоненты ключа без разрешения равенств по стоимости
+     */
+    private static final int HEURISTIC_STEP = Math.max(0, Arrays.stream(Cell.CellType.values())
+        .mapToInt(Cell.CellType::weight)
+        .filter(weight -> weight > 0)
+        .min()
+        .orElse(0) - 1);
+    /**
+     * Предел поправки ключей, после которого состояние строится заново, чтобы ключи не переполнились
+     */
+    private static final int KEY_MODIFIER_LIMIT = Integer.MAX_VALUE >> 2;
+
+    private final Maze maze;
+    private final int finish;
+    /**
+     * Стоимость пути от клетки до конечной клетки, найденная поиском
+     */
+    private final int[] costs;
+    /**
+     * Стоимость пути от клетки до конечной клетки через лучшего соседа (rhs)
+     */
+    private final int[] lookaheads;
+    /**
+     * Клетки, у которых {@code costs} и {@code lookaheads} расходятся, с их ключами
+     */
+    private final IndexedMinHeap openQueue;
+
+    /**
+     * Версия лабиринта, изменения до которой уже учтены
+     */
+    private long version;
+    private int keyModifier;
+    private int lastStart;
+    private int lastExpandedCells;
+
+    /**
+     * Конструктор планировщика. Лабиринт не меняется: для инкрементального пересчета вызывающий код
+     * сам включает журнал изменений ({@link Maze#enableChangeLog(int)}), иначе после каждого изменения
+     * состояние строится заново
+     *
+     * @param maze лабиринт
+     * @param finish конечная координата
+     */
+    public DStarLite(Maze maze, Coordinate finish) {
+        this.maze = maze;
+        this.finish = maze.index(finish.row(), finish.col());
+        this.costs = new int[maze.size()];
+        this.lookaheads = new int[maze.size()];
+        this.openQueue = new IndexedMinHeap(maze.size());
+
+        reset();
+    }
+
+    /**
+     * Метод для проверки, что планировщик построен для этого лабиринта и этой конечной клетки.
+     * Изменения содержимого лабиринта планировщик учитывает сам
+     *
+     * @param other лабиринт
+     * @param otherFinish конечная координата
+     *
+     * @return {@code true}, если планировщик можно использовать для запроса
+     */
+    public boolean isBuiltFor(Maze other, Coordinate otherFinish) {
+        return other == maze && maze.index(otherFinish.row(), otherFinish.col()) == finish;
+    }
+
+    /**
+     * Метод для поиска кратчайшего по весам клеток пути до конечной клетки. Перед поиском учитываются
+     * изменения лабиринта после предыдущего запроса. Координата должна быть проверена вызывающим кодом
+     *
+     * @param start стартовая координата
+     *
+     * @return список координат пути или пустой список, если путь не существует
+     */
+    public synchronized List<Coordinate> findPath(Coordinate start) {
+        int startCell = maze.index(start.row(), start.col());
+
+        lastExpandedCells = 0;
+
+        if (version != maze.version() && !maze.hasChangesSince(version)) {
+            reset();
+        }
+
+        moveStart(startCell);
+        applyChanges();
+        computeShortestPath(startCell);
+
+        if (costs[startCell] == INFINITY) {
+            return Collections.emptyList();
+        }
+
+        return extractPath(startCell);
+    }
+
+    /**
+     * Метод для получения количества раскрытых клеток при последнем запросе. После небольшого изменения
+     * лабиринта оно пропорционально размеру затронутой области, а не всего лабиринта
+     *
+     * @return количество раскрытых клеток
+     */
+    public synchronized int lastExpandedCells() {
+        return lastExpandedCells;
+    }
+
+    /**
+     * Метод для сброса состояния: все стоимости неизвестны, в очереди только конечная клетка
+     */
+    private void reset() {
+        Arrays.fill(costs, INFINITY);
+        Arrays.fill(lookaheads, INFINITY);
+        openQueue.clear();
+
+        lookaheads[finish] = 0;
+        // Пока старт неизвестен, ключ конечной клетки занижен; он уточнится при извлечении из очереди
+        openQueue.insertOrDecrease(finish, 0);
+
+        version = maze.version();
+        keyModifier = 0;
+        lastStart = NO_CELL;
+    }
+
+    /**
+     * Метод для смены стартовой клетки. Ключи в очереди считались от прежнего старта, поэтому поправка ключей
+     * растет на эвристику между стартами: так ключи остаются нижними границами и не пересчитываются
+     *
+     * @param startCell индекс новой стартовой клетки
+     */
+    private void moveStart(int startCell) {
+        if (lastStart != NO_CELL && lastStart != startCell) {
+            int shift = heuristic(lastStart, startCell);
+
+            if (keyModifier > KEY_MODIFIER_LIMIT - shift) {
+                reset();
+            } else {
+                keyModifier += shift;
+            }
+        }
+
+        lastStart = startCell;
+    }
+
+    /**
+     * Метод для учета изменений лабиринта: у измененной клетки меняется стоимость входа в нее
+     * (или она становится/перестает быть стеной), поэтому пересчитываются она сама и ее соседи
+     */
+    private void applyChanges() {
+        if (version == maze.version()) {
+            return;
+        }
+
+        List<CellChange> changes = maze.changesSince(version).orElseThrow();
+
+        version = maze.version();
+
+        for (CellChange change : changes) {
+            int cell = maze.index(change.coordinate().row(), change.coordinate().col());
+
+            updateCell(cell);
+            updateNeighbors(cell);
+        }
+    }
+
+    /**
+     * Метод для раскрытия клеток очереди, пока стартовая клетка не станет согласованной
+     * и ключ очереди не догонит ее ключ
+     *
+     * @param startCell индекс стартовой клетки
+     */
+    private void computeShortestPath(int startCell) {
+        while (!openQueue.isEmpty()) {
+            int cell = openQueue.peek();
+            int oldKey = openQueue.priority(cell);
+
+            if (costs[startCell] == lookaheads[startCell] && oldKey >= key(startCell)) {
+                break;
+            }
+
+            int newKey = key(cell);
+
+            if (oldKey < newKey) {
+                // Ключ устарел после смены старта: клетка возвращается в очередь с актуальным ключом
+                openQueue.remove(cell);
+                openQueue.insertOrDecrease(cell, newKey);
+                continue;
+            }
+
+            lastExpandedCells++;
+            openQueue.remove(cell);
+
+            if (costs[cell] > lookaheads[cell]) {
+                // Стоимость уменьшилась - она окончательная
+                costs[cell] = lookaheads[cell];
+            } else {
+                // Стоимость выросла - клетка пересчитывается заново вместе с соседями
+                costs[cell] = INFINITY;
+                updateCell(cell);
+            }
+
+            updateNeighbors(cell);
+        }
+    }
+
+    /**
+     * Метод для извлечения пути: из каждой клетки шаг делается в соседа с наименьшей стоимостью пути через него
+     *
+     * @param startCell индекс стартовой клетки
+     *
+     * @return список координат пути
+     */
+    private List<Coordinate> extractPath(int startCell) {
+        List<Coordinate> path = new ArrayList<>();
+        int current = startCell;
+
+        path.add(new Coordinate(maze.row(current), maze.col(current)));
+
+        while (current != finish && path.size() <= maze.size()) {
+            int next = NO_CELL;
+            int bestCost = INFINITY;
+
+            for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+                int neighbor = SolverMaze.neighbor(maze, current, direction);
+
+                if (neighbor != NO_CELL && costs[neighbor] != INFINITY
+                    && costs[neighbor] + maze.weight(neighbor) < bestCost) {
+                    bestCost = costs[neighbor] + maze.weight(neighbor);
+                    next = neighbor;
+                }
+            }
+
+            if (next == NO_CELL) {
+                return Collections.emptyList();
+            }
+
+            current = next;
+            path.add(new Coordinate(maze.row(current), maze.col(current)));
+        }
+
+        return path;
+    }
+
+    /**
+     * Метод для пересчета стоимости клетки через соседей и ее места в очереди
+     *
+     * @param cell индекс клетки
+     */
+    private void updateCell(int cell) {
+        if (cell != finish) {
+            lookaheads[cell] = maze.isWall(cell) ? INFINITY : bestNeighborCost(cell);
+        }
+
+        openQueue.remove(cell);
+
+        if (costs[cell] != lookaheads[cell]) {
+            openQueue.insertOrDecrease(cell, key(cell));
+        }
+    }
+
+    private void updateNeighbors(int cell) {
+        for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+            int neighbor = SolverMaze.neighbor(maze, cell, direction);
+
+            if (neighbor != NO_CELL) {
+                updateCell(neighbor);
+            }
+        }
+    }
+
+    private int bestNeighborCost(int cell) {
+        int best = INFINITY;
+
+        for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+            int neighbor = SolverMaze.neighbor(maze, cell, direction);
+
+            if (neighbor != NO_CELL && costs[neighbor] != INFINITY) {
+                best = Math.min(best, costs[neighbor] + maze.weight(neighbor));
+            }
+        }
+
+        return best;
+    }
+
+    private int minCost(int cell) {
+        return Math.min(costs[cell], lookaheads[cell]);
+    }
+
+    /**
+     * Метод для расчета ключа клетки: стоимость до конечной клетки, эвристика от старта и поправка ключей
+     *
+     * @param cell индекс клетки
+     *
+     * @return ключ клетки или {@code INFINITY}, если стоимость неизвестна
+     */
+    private int key(int cell) {
+        int cost = minCost(cell);
+
+        if (cost == INFINITY) {
+            return INFINITY;
+        }
+
+        return cost + heuristic(lastStart, cell) + keyModifier;
+    }
+
+    /**
+     * Метод для расчета эвристики - манхэттенского расстояния, умноженного на цену шага
+     *
+     * @param first индекс первой клетки
+     * @param second индекс второй клетки
+     *
+     * @return нижнюю границу стоимости пути между клетками
+     */
+    private int heuristic(int first, int second) {
+        if (first == NO_CELL) {
+            return 0;
+        }
+
+        return HEURISTIC_STEP * (Math.abs(maze.row(first) - maze.row(second))
+            + Math.abs(maze.col(first) - maze.col(second)));
+    }
+}
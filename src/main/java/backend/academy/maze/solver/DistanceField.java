@@ -0,0 +1,121 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Поле расстояний от одной стартовой клетки до всех клеток лабиринта.
+ * Хранит расстояния и родителей в массивах {@code int[]} по индексам упакованной сетки лабиринта,
+ * поэтому путь до любой клетки извлекается за время, пропорциональное его длине, без повторного поиска
+ */
+public class DistanceField {
+
+    /**
+     * Расстояние до недостижимой клетки
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final Maze maze;
+    @Getter
+    private final Coordinate start;
+    /**
+     * Расстояния от старта по индексам клеток ({@link DistanceField#UNREACHABLE} у недостижимых)
+     */
+    private final int[] distances;
+    /**
+     * Родители клеток по индексам ({@link SolverMaze#NO_PARENT} у старта и недостижимых клеток)
+     */
+    private final int[] parent;
+
+    /**
+     * Конструктор поля расстояний. Массивы не копируются
+     *
+     * @param maze лабиринт
+     * @param start стартовая координата
+     * @param distances расстояния от старта по индексам клеток
+     * @param parent родители клеток по индексам
+     */
+    public DistanceField(Maze maze, Coordinate start, int[] distances, int[] parent) {
+        this.maze = maze;
+        this.start = start;
+        this.distances = distances;
+        this.parent = parent;
+    }
+
+    /**
+     * Метод для определения, достижима ли клетка из старта
+     *
+     * @param coordinate координата клетки
+     *
+     * @return {@code true}, если клетка достижима
+     */
+    public boolean isReachable(Coordinate coordinate) {
+        return distance(coordinate) != UNREACHABLE;
+    }
+
+    /**
+     * Метод для получения расстояния от старта до клетки
+     *
+     * @param coordinate координата клетки
+     *
+     * @return расстояние или {@link DistanceField#UNREACHABLE}, если клетка недостижима или вне лабиринта
+     */
+    public int distance(Coordinate coordinate) {
+        if (coordinate.row() < 0 || coordinate.row() >= maze.height()
+            || coordinate.col() < 0 || coordinate.col() >= maze.width()) {
+            return UNREACHABLE;
+        }
+
+        return distances[maze.index(coordinate.row(), coordinate.col())];
+    }
+
+    /**
+     * Метод для извлечения пути от старта до клетки по массиву родителей
+     *
+     * @param finish конечная координата
+     *
+     * @return список координат пути от старта до конца или пустой список, если клетка недостижима
+     */
+    public List<Coordinate> pathTo(Coordinate finish) {
+        if (!isReachable(finish)) {
+            return Collections.emptyList();
+        }
+
+        int finishIndex = maze.index(finish.row(), finish.col());
+        int length = 0;
+
+        for (int at = finishIndex; at != SolverMaze.NO_PARENT; at = parent[at]) {
+            length++;
+        }
+
+        Coordinate[] path = new Coordinate[length];
+        int position = length;
+
+        for (int at = finishIndex; at != SolverMaze.NO_PARENT; at = parent[at]) {
+            path[--position] = new Coordinate(maze.row(at), maze.col(at));
+        }
+
+        return List.of(path);
+    }
+
+    /**
+     * Метод для получения массива расстояний по индексам клеток. Массив не копируется и не должен изменяться
+     *
+     * @return массив расстояний
+     */
+    public int[] distances() {
+        return distances;
+    }
+
+    /**
+     * Метод для получения массива родителей по индексам клеток. Массив не копируется и не должен изменяться
+     *
+     * @return массив родителей
+     */
+    public int[] parents() {
+        return parent;
+    }
+}
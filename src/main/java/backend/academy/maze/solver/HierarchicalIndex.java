@@ -0,0 +1,555 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.queue.IndexedMinHeap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Иерархический индекс лабиринта для поиска пути в стиле HPA*. Строится один раз на лабиринт.
+ * Внутренняя часть лабиринта делится на квадратные кластеры. Клетки по обе стороны границы кластеров,
+ * через которые можно пройти, становятся входами - вершинами абстрактного графа. Ребра графа - переходы через
+ * границу и заранее посчитанные стоимости путей между входами внутри одного кластера (по весам клеток).
+ * Запрос соединяет старт и конец с входами их кластеров, ищет путь по абстрактному графу и уточняет до клеток
+ * только кластеры на найденном пути.
+ * Любой путь между соседними пересечениями границ лежит внутри одного кластера, а каждое пересечение - вход,
+ * поэтому стоимость найденного пути равна стоимости кратчайшего пути по сетке
+ */
+public class HierarchicalIndex extends MazeIndex {
+
+    /**
+     * Сторона кластера по умолчанию
+     */
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private static final int NOT_FOUND = -1;
+    private static final int EDGE_FIELDS = 3;
+
+    @Getter
+    private final int clusterSize;
+    private final int clusterCols;
+    /**
+     * Маска клеток-входов
+     */
+    private final BitSet entrances;
+    /**
+     * Вершины (входы) сгруппированы по кластерам: вершины кластера {@code c} -
+     * {@code clusterNodeStart[c]..clusterNodeStart[c + 1] - 1}, внутри кластера упорядочены по индексу клетки
+     */
+    private final int[] clusterNodeStart;
+    /**
+     * Индекс клетки каждой вершины
+     */
+    private final int[] nodeCell;
+    /**
+     * Ребра в формате CSR: ребра вершины {@code v} - {@code edgeStart[v]..edgeStart[v + 1] - 1}
+     */
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final int[] edgeCost;
+
+    /**
+     * Конструктор индекса: поиск входов и расчет стоимостей путей между входами каждого кластера
+     *
+     * @param maze лабиринт. Индекс соответствует содержимому лабиринта на момент построения
+     * @param clusterSize сторона кластера (не меньше 2)
+     */
+    public HierarchicalIndex(Maze maze, int clusterSize) {
+        super(maze);
+
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("Сторона кластера должна быть не меньше 2.");
+        }
+
+        this.clusterSize = clusterSize;
+        this.clusterCols = ceilDiv(maze.width() - 2, clusterSize);
+
+        int clusters = ceilDiv(maze.height() - 2, clusterSize) * clusterCols;
+        this.entrances = findEntrances();
+
+        this.clusterNodeStart = new int[clusters + 1];
+        this.nodeCell = groupNodesByCluster(entrances);
+
+        IntArrayBuffer edges = new IntArrayBuffer();
+
+        addCrossingEdges(edges);
+        addClusterEdges(edges);
+
+        this.edgeStart = new int[nodeCell.length + 1];
+        this.edgeTarget = new int[edges.size / EDGE_FIELDS];
+        this.edgeCost = new int[edges.size / EDGE_FIELDS];
+
+        buildAdjacency(edges);
+    }
+
+    public int nodeCount() {
+        return nodeCell.length;
+    }
+
+    public int edgeCount() {
+        return edgeTarget.length;
+    }
+
+    /**
+     * Метод для поиска кратчайшего по весам клеток пути. Координаты должны быть проверены вызывающим кодом
+     *
+     * @param start стартовая координата
+     * @param finish конечная координата
+     *
+     * @return список координат пути или пустой список, если путь не существует
+     */
+    public List<Coordinate> findPath(Coordinate start, Coordinate finish) {
+        int startCell = maze.index(start.row(), start.col());
+        int finishCell = maze.index(finish.row(), finish.col());
+        int startCluster = clusterOf(startCell);
+        int finishCluster = clusterOf(finishCell);
+        ClusterSearch clusterSearch = new ClusterSearch();
+
+        // Стоимости от старта до входов его кластера и от входов кластера конца до конца
+        clusterSearch.run(startCell, NOT_FOUND, false);
+        int[] startCosts = clusterSearch.nodeDistances(startCluster);
+        int directCost = startCluster == finishCluster ? clusterSearch.distance(finishCell) : Integer.MAX_VALUE;
+
+        clusterSearch.run(finishCell, NOT_FOUND, true);
+        int[] finishCosts = clusterSearch.nodeDistances(finishCluster);
+
+        int[] abstractPath = searchAbstract(startCluster, startCosts, finishCluster, finishCosts, directCost);
+
+        if (abstractPath.length == 0 && directCost == Integer.MAX_VALUE) {
+            return Collections.emptyList();
+        }
+
+        return refine(clusterSearch, startCell, finishCell, abstractPath).toCoordinates(maze);
+    }
+
+    /**
+     * Метод для поиска пути по абстрактному графу алгоритмом Дейкстры. Вершина старта соединяется со входами
+     * своего кластера, входы кластера конца - с вершиной конца
+     *
+     * @param startCluster кластер старта
+     * @param startCosts стоимости от старта до входов его кластера
+     * @param finishCluster кластер конца
+     * @param finishCosts стоимости от входов кластера конца до конца
+     * @param directCost стоимость пути внутри общего кластера старта и конца
+     *
+     * @return входы на пути от старта до конца или пустой массив, если путь через входы не дешевле прямого
+     */
+    private int[] searchAbstract(
+        int startCluster,
+        int[] startCosts,
+        int finishCluster,
+        int[] finishCosts,
+        int directCost
+    ) {
+        int startNode = nodeCell.length;
+        int finishNode = startNode + 1;
+        SearchScratch scratch = SearchScratch.acquire(maze);
+        IndexedMinHeap queue = scratch.heap();
+
+        scratch.visit(startNode, SolverMaze.NO_PARENT, 0);
+        queue.insertOrDecrease(startNode, 0);
+
+        while (!queue.isEmpty() && scratch.distance(queue.peek()) < directCost) {
+            int node = queue.poll();
+
+            if (node == finishNode) {
+                return extractAbstractPath(scratch.parents(), finishNode);
+            }
+
+            if (node == startNode) {
+                relaxAll(scratch, queue, node, clusterNodeStart[startCluster], startCosts);
+                continue;
+            }
+
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                relax(scratch, queue, node, edgeTarget[edge], edgeCost[edge]);
+            }
+
+            if (clusterOf(nodeCell[node]) == finishCluster) {
+                relax(scratch, queue, node, finishNode, finishCosts[node - clusterNodeStart[finishCluster]]);
+            }
+        }
+
+        return new int[0];
+    }
+
+    private void relaxAll(SearchScratch scratch, IndexedMinHeap queue, int node, int firstTarget, int[] costs) {
+        for (int i = 0; i < costs.length; i++) {
+            relax(scratch, queue, node, firstTarget + i, costs[i]);
+        }
+    }
+
+    private void relax(SearchScratch scratch, IndexedMinHeap queue, int node, int target, int cost) {
+        if (cost == Integer.MAX_VALUE) {
+            return;
+        }
+
+        int newDist = scratch.distance(node) + cost;
+
+        if (newDist < scratch.distance(target)) {
+            scratch.visit(target, node, newDist);
+            queue.insertOrDecrease(target, newDist);
+        }
+    }
+
+    /**
+     * Метод для извлечения входов на абстрактном пути (без вершин старта и конца)
+     *
+     * @param parent массив родителей абстрактного поиска
+     * @param finishNode вершина конца
+     *
+     * @return входы от старта к концу
+     */
+    private int[] extractAbstractPath(int[] parent, int finishNode) {
+        int length = 0;
+
+        for (int at = parent[finishNode]; parent[at] != SolverMaze.NO_PARENT; at = parent[at]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        int position = length;
+
+        for (int at = parent[finishNode]; parent[at] != SolverMaze.NO_PARENT; at = parent[at]) {
+            path[--position] = at;
+        }
+
+        return path;
+    }
+
+    /**
+     * Метод для уточнения абстрактного пути до клеток. Переходы через границу - соседние клетки,
+     * участки внутри кластера восстанавливаются поиском, ограниченным этим кластером
+     *
+     * @param clusterSearch поиск внутри кластера
+     * @param startCell индекс стартовой клетки
+     * @param finishCell индекс конечной клетки
+     * @param abstractPath входы на пути (пустой массив - путь внутри одного кластера)
+     *
+     * @return индексы клеток пути
+     */
+    private IntArrayBuffer refine(ClusterSearch clusterSearch, int startCell, int finishCell, int[] abstractPath) {
+        IntArrayBuffer cells = new IntArrayBuffer();
+        int previousCell = startCell;
+
+        cells.add(startCell);
+
+        for (int node : abstractPath) {
+            int cell = nodeCell[node];
+
+            if (clusterOf(cell) == clusterOf(previousCell)) {
+                clusterSearch.run(previousCell, cell, false);
+                clusterSearch.appendPath(cell, cells);
+            } else {
+                cells.add(cell);
+            }
+
+            previousCell = cell;
+        }
+
+        clusterSearch.run(previousCell, finishCell, false);
+        clusterSearch.appendPath(finishCell, cells);
+
+        return cells;
+    }
+
+    /**
+     * Метод для поиска входов - проходимых клеток по обе стороны каждой границы кластеров
+     *
+     * @return маска клеток-входов
+     */
+    private BitSet findEntrances() {
+        BitSet mask = new BitSet(maze.size());
+        int lastRow = maze.height() - 2;
+        int lastCol = maze.width() - 2;
+
+        // Вертикальные границы: последний столбец кластера и первый столбец следующего
+        for (int col = clusterSize; col < lastCol; col += clusterSize) {
+            for (int row = 1; row <= lastRow; row++) {
+                markCrossing(mask, maze.index(row, col), maze.index(row, col + 1));
+            }
+        }
+
+        // Горизонтальные границы
+        for (int row = clusterSize; row < lastRow; row += clusterSize) {
+            for (int col = 1; col <= lastCol; col++) {
+                markCrossing(mask, maze.index(row, col), maze.index(row + 1, col));
+            }
+        }
+
+        return mask;
+    }
+
+    private void markCrossing(BitSet mask, int first, int second) {
+        if (!maze.isWall(first) && !maze.isWall(second)) {
+            mask.set(first);
+            mask.set(second);
+        }
+    }
+
+    /**
+     * Метод для нумерации входов по кластерам (сортировка подсчетом). Заполняет {@code clusterNodeStart}
+     *
+     * @param mask маска клеток-входов
+     *
+     * @return индексы клеток вершин
+     */
+    private int[] groupNodesByCluster(BitSet mask) {
+        for (int cell = mask.nextSetBit(0); cell >= 0; cell = mask.nextSetBit(cell + 1)) {
+            clusterNodeStart[clusterOf(cell) + 1]++;
+        }
+
+        for (int cluster = 0; cluster + 1 < clusterNodeStart.length; cluster++) {
+            clusterNodeStart[cluster + 1] += clusterNodeStart[cluster];
+        }
+
+        int[] cells = new int[mask.cardinality()];
+        int[] next = Arrays.copyOf(clusterNodeStart, clusterNodeStart.length - 1);
+
+        for (int cell = mask.nextSetBit(0); cell >= 0; cell = mask.nextSetBit(cell + 1)) {
+            cells[next[clusterOf(cell)]++] = cell;
+        }
+
+        return cells;
+    }
+
+    /**
+     * Метод для добавления ребер перехода через границы кластеров. Стоимость ребра - вес клетки, в которую входят
+     *
+     * @param edges буфер ребер (тройки: откуда, куда, стоимость)
+     */
+    private void addCrossingEdges(IntArrayBuffer edges) {
+        for (int node = 0; node < nodeCell.length; node++) {
+            int cell = nodeCell[node];
+            int row = maze.row(cell);
+            int col = maze.col(cell);
+
+            for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + SolverMaze.ROW_DIRECTIONS[direction];
+                int newCol = col + SolverMaze.COL_DIRECTIONS[direction];
+
+                if (isInterior(newRow, newCol)) {
+                    int neighbor = maze.index(newRow, newCol);
+                    int neighborCluster = clusterOf(neighbor);
+
+                    if (neighborCluster != clusterOf(cell) && !maze.isWall(neighbor)) {
+                        edges.addEdge(node, findNode(neighborCluster, neighbor), maze.weight(neighbor));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Метод для добавления ребер между входами одного кластера: поиск из каждого входа, ограниченный кластером.
+     * Ребро не добавляется, если найденный кратчайший путь проходит через другой вход: его стоимость складывается
+     * из ребер до этого входа и от него, поэтому граф остается точным, но становится заметно разреженнее
+     *
+     * @param edges буфер ребер (тройки: откуда, куда, стоимость)
+     */
+    private void addClusterEdges(IntArrayBuffer edges) {
+        ClusterSearch clusterSearch = new ClusterSearch();
+
+        for (int cluster = 0; cluster + 1 < clusterNodeStart.length; cluster++) {
+            for (int node = clusterNodeStart[cluster]; node < clusterNodeStart[cluster + 1]; node++) {
+                clusterSearch.run(nodeCell[node], NOT_FOUND, false);
+
+                int[] costs = clusterSearch.nodeDistances(cluster);
+
+                for (int i = 0; i < costs.length; i++) {
+                    int target = clusterNodeStart[cluster] + i;
+
+                    if (target != node && costs[i] != Integer.MAX_VALUE
+                        && clusterSearch.isReachedDirectly(nodeCell[target])) {
+                        edges.addEdge(node, target, costs[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Метод для перевода ребер из троек в формат CSR (сортировка подсчетом по начальной вершине)
+     *
+     * @param edges буфер ребер
+     */
+    private void buildAdjacency(IntArrayBuffer edges) {
+        for (int i = 0; i < edges.size; i += EDGE_FIELDS) {
+            edgeStart[edges.values[i] + 1]++;
+        }
+
+        for (int node = 0; node < nodeCell.length; node++) {
+            edgeStart[node + 1] += edgeStart[node];
+        }
+
+        int[] next = Arrays.copyOf(edgeStart, nodeCell.length);
+
+        for (int i = 0; i < edges.size; i += EDGE_FIELDS) {
+            int position = next[edges.values[i]]++;
+
+            edgeTarget[position] = edges.values[i + 1];
+            edgeCost[position] = edges.values[i + 2];
+        }
+    }
+
+    private int findNode(int cluster, int cell) {
+        return Arrays.binarySearch(nodeCell, clusterNodeStart[cluster], clusterNodeStart[cluster + 1], cell);
+    }
+
+    private int clusterOf(int cell) {
+        return (maze.row(cell) - 1) / clusterSize * clusterCols + (maze.col(cell) - 1) / clusterSize;
+    }
+
+    private boolean isInterior(int row, int col) {
+        return row >= 1 && row < maze.height() - 1 && col >= 1 && col < maze.width() - 1;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * Поиск Дейкстры, ограниченный одним кластером. Работает в локальных индексах кластера
+     * на собственных рабочих массивах размером с кластер
+     */
+    private final class ClusterSearch {
+        private final SearchScratch scratch = new SearchScratch(clusterSize * clusterSize);
+        /**
+         * Метка клеток, кратчайший путь до которых не проходит через другие входы.
+         * Следующая за ней метка - клетки, путь до которых проходит через вход
+         */
+        private int directMark;
+        private int firstRow;
+        private int firstCol;
+        private int lastRow;
+        private int lastCol;
+
+        /**
+         * Метод для запуска поиска из клетки внутри ее кластера
+         *
+         * @param source индекс исходной клетки
+         * @param target индекс клетки, на которой поиск останавливается, или {@link HierarchicalIndex#NOT_FOUND}
+         * @param isReverse флаг обратного поиска: расстояния - стоимости путей от клеток до исходной
+         */
+        private void run(int source, int target, boolean isReverse) {
+            firstRow = (maze.row(source) - 1) / clusterSize * clusterSize + 1;
+            firstCol = (maze.col(source) - 1) / clusterSize * clusterSize + 1;
+            lastRow = Math.min(firstRow + clusterSize, maze.height() - 1);
+            lastCol = Math.min(firstCol + clusterSize, maze.width() - 1);
+
+            directMark = scratch.beginQuery(2);
+
+            IndexedMinHeap queue = scratch.heap();
+            int sourceLocal = toLocal(source);
+
+            scratch.visit(sourceLocal, directMark, SolverMaze.NO_PARENT, 0);
+            queue.insertOrDecrease(sourceLocal, 0);
+
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                int cell = toCell(current);
+
+                if (cell == target) {
+                    return;
+                }
+
+                int mark = current != sourceLocal && entrances.get(cell) ? directMark + 1 : scratch.mark(current);
+
+                for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+                    int newRow = maze.row(cell) + SolverMaze.ROW_DIRECTIONS[direction];
+                    int newCol = maze.col(cell) + SolverMaze.COL_DIRECTIONS[direction];
+
+                    if (newRow < firstRow || newRow >= lastRow || newCol < firstCol || newCol >= lastCol
+                        || maze.isWall(newRow, newCol)) {
+                        continue;
+                    }
+
+                    int neighbor = maze.index(newRow, newCol);
+                    int neighborLocal = toLocal(neighbor);
+                    // Стоимость шага - вес клетки, в которую входят (при обратном поиске - текущей)
+                    int newDist = scratch.distance(current) + maze.weight(isReverse ? cell : neighbor);
+
+                    if (newDist < scratch.distance(neighborLocal)) {
+                        scratch.visit(neighborLocal, mark, current, newDist);
+                        queue.insertOrDecrease(neighborLocal, newDist);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Метод для получения расстояния до клетки кластера последнего поиска
+         *
+         * @param cell индекс клетки
+         *
+         * @return расстояние или {@link Integer#MAX_VALUE}, если клетка не достигнута
+         */
+        private int distance(int cell) {
+            return scratch.distance(toLocal(cell));
+        }
+
+        /**
+         * Метод для проверки, что найденный кратчайший путь до клетки не проходит через другие входы
+         *
+         * @param cell индекс достигнутой клетки
+         *
+         * @return {@code true}, если путь идет напрямую
+         */
+        private boolean isReachedDirectly(int cell) {
+            return scratch.mark(toLocal(cell)) == directMark;
+        }
+
+        /**
+         * Метод для получения расстояний до всех входов кластера в порядке их номеров
+         *
+         * @param cluster кластер последнего поиска
+         *
+         * @return расстояния до входов
+         */
+        private int[] nodeDistances(int cluster) {
+            int[] distances = new int[clusterNodeStart[cluster + 1] - clusterNodeStart[cluster]];
+
+            for (int i = 0; i < distances.length; i++) {
+                distances[i] = distance(nodeCell[clusterNodeStart[cluster] + i]);
+            }
+
+            return distances;
+        }
+
+        /**
+         * Метод для добавления в буфер пути последнего поиска до клетки без исходной клетки
+         *
+         * @param cell индекс конечной клетки
+         * @param cells буфер клеток пути
+         */
+        private void appendPath(int cell, IntArrayBuffer cells) {
+            int length = 0;
+
+            for (int at = toLocal(cell); scratch.parents()[at] != SolverMaze.NO_PARENT; at = scratch.parents()[at]) {
+                length++;
+            }
+
+            int position = cells.size + length;
+
+            cells.ensureCapacity(position);
+
+            for (int at = toLocal(cell); scratch.parents()[at] != SolverMaze.NO_PARENT; at = scratch.parents()[at]) {
+                cells.values[--position] = toCell(at);
+            }
+
+            cells.size += length;
+        }
+
+        private int toLocal(int cell) {
+            return (maze.row(cell) - firstRow) * clusterSize + maze.col(cell) - firstCol;
+        }
+
+        private int toCell(int local) {
+            return maze.index(firstRow + local / clusterSize, firstCol + local % clusterSize);
+        }
+    }
+}
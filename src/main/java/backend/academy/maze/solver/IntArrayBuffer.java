@@ -0,0 +1,63 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Растущий буфер целых чисел для индексов поиска пути: списков клеток и ребер графа.
+ * Поля открыты внутри пакета, чтобы индексы могли заполнять и читать массив без копирования
+ */
+final class IntArrayBuffer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    int[] values = new int[INITIAL_CAPACITY];
+    int size;
+
+    void add(int value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Метод для добавления ребра графа тройкой значений
+     *
+     * @param from начальная вершина
+     * @param to конечная вершина
+     * @param cost стоимость
+     */
+    void addEdge(int from, int to, int cost) {
+        add(from);
+        add(to);
+        add(cost);
+    }
+
+    void ensureCapacity(int capacity) {
+        if (values.length < capacity) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+        }
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Метод для превращения буфера индексов клеток в путь
+     *
+     * @param maze лабиринт, по сетке которого заданы индексы
+     *
+     * @return список координат клеток в порядке буфера
+     */
+    List<Coordinate> toCoordinates(Maze maze) {
+        Coordinate[] path = new Coordinate[size];
+
+        for (int i = 0; i < size; i++) {
+            path[i] = new Coordinate(maze.row(values[i]), maze.col(values[i]));
+        }
+
+        return Arrays.asList(path);
+    }
+}
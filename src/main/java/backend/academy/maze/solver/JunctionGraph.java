@@ -0,0 +1,661 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.queue.IndexedMinHeap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Граф развилок лабиринта: результат заливки тупиков и стягивания коридоров. Строится один раз на лабиринт.
+ * Заливка тупиков многократно удаляет клетки с одним проходимым соседом, поэтому удаленные клетки образуют
+ * деревья, подвешенные к оставшемуся ядру (или целую компоненту-дерево, если в ней нет циклов).
+ * В ядре клетки ровно с двумя соседями образуют коридоры, которые стягиваются во взвешенные ребра между
+ * развилками. Стоимость ребра - сумма весов клеток коридора и конечной развилки, как при шаге по сетке.
+ * Лабиринты из {@code GeneratorDfs}, {@code GeneratorKruskal} и {@code GeneratorPrim} до
+ * {@code randomizeWalls} - деревья, поэтому почти весь лабиринт уходит в деревья тупиков, а граф развилок
+ * остается небольшим. Путь по дереву единственный, поэтому поиск нужен только между точками крепления
+ * старта и конца к ядру, а найденный путь разворачивается обратно в клетки
+ */
+public class JunctionGraph extends MazeIndex {
+
+    private static final int NO_CELL = SolverMaze.NO_CELL;
+
+    /**
+     * Клетки ядра - проходимые клетки, оставшиеся после заливки тупиков
+     */
+    private final BitSet core = new BitSet();
+    /**
+     * Развилки - клетки ядра, у которых не два соседа в ядре, и по одной клетке в каждом цикле без развилок
+     */
+    private final BitSet junctions = new BitSet();
+    /**
+     * Родитель удаленной клетки в дереве тупиков - ее единственный сосед на момент удаления
+     * ({@link SolverMaze#NO_PARENT} у корня компоненты-дерева, у клеток ядра и стен)
+     */
+    private final int[] treeParent;
+    /**
+     * Индекс клетки каждой вершины (развилки), по возрастанию
+     */
+    private final int[] nodeCell;
+    /**
+     * Ребра в формате CSR: ребра вершины {@code v} - {@code edgeStart[v]..edgeStart[v + 1] - 1}
+     */
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final int[] edgeCost;
+    /**
+     * Первая клетка коридора после начальной развилки - по ней ребро разворачивается в клетки
+     */
+    private final int[] edgeFirstCell;
+
+    /**
+     * Конструктор графа: заливка тупиков, поиск развилок и стягивание коридоров в ребра
+     *
+     * @param maze лабиринт. Граф соответствует содержимому лабиринта на момент построения
+     */
+    public JunctionGraph(Maze maze) {
+        super(maze);
+
+        this.treeParent = new int[maze.size()];
+
+        fillDeadEnds();
+        findJunctions();
+
+        this.nodeCell = junctions.stream().toArray();
+        this.edgeStart = new int[nodeCell.length + 1];
+
+        IntArrayBuffer edges = new IntArrayBuffer();
+        IntArrayBuffer firstCells = new IntArrayBuffer();
+
+        contractCorridors(edges, firstCells);
+
+        this.edgeTarget = new int[firstCells.size];
+        this.edgeCost = new int[firstCells.size];
+        this.edgeFirstCell = Arrays.copyOf(firstCells.values, firstCells.size);
+
+        for (int edge = 0; edge < firstCells.size; edge++) {
+            edgeTarget[edge] = edges.values[edge * 2];
+            edgeCost[edge] = edges.values[edge * 2 + 1];
+        }
+    }
+
+    public int nodeCount() {
+        return nodeCell.length;
+    }
+
+    public int edgeCount() {
+        return edgeTarget.length;
+    }
+
+    /**
+     * Метод для получения количества клеток ядра, оставшихся после заливки тупиков
+     *
+     * @return количество клеток ядра
+     */
+    public int coreSize() {
+        return core.cardinality();
+    }
+
+    /**
+     * Метод для поиска кратчайшего по весам клеток пути. Координаты должны быть проверены вызывающим кодом
+     *
+     * @param start стартовая координата
+     * @param finish конечная координата
+     *
+     * @return список координат пути или пустой список, если путь не существует
+     */
+    public List<Coordinate> findPath(Coordinate start, Coordinate finish) {
+        int startCell = maze.index(start.row(), start.col());
+        int finishCell = maze.index(finish.row(), finish.col());
+        int startTop = findTop(startCell);
+        int finishTop = findTop(finishCell);
+
+        // Старт и конец в одном дереве тупиков: путь по дереву единственный и кратчайший
+        if (startTop == finishTop) {
+            return findTreePath(startCell, finishCell).toCoordinates(maze);
+        }
+
+        // Корни разных компонент-деревьев или дерево и ядро - разные компоненты связности
+        if (!core.get(startTop) || !core.get(finishTop)) {
+            return Collections.emptyList();
+        }
+
+        IntArrayBuffer cells = new IntArrayBuffer();
+
+        appendClimb(startCell, startTop, cells);
+
+        if (!appendCorePath(startTop, finishTop, cells)) {
+            return Collections.emptyList();
+        }
+
+        appendDescent(finishTop, finishCell, cells);
+
+        return cells.toCoordinates(maze);
+    }
+
+    /**
+     * Метод для поиска пути по ядру между клетками ядра: алгоритм Дейкстры по графу развилок, к которому
+     * временно подключены обе клетки. Клетка коридора подключается к развилкам на его концах
+     *
+     * @param from начальная клетка ядра
+     * @param to конечная клетка ядра
+     * @param cells буфер клеток пути, в который добавляется путь без начальной клетки
+     *
+     * @return {@code true}, если путь существует
+     */
+    private boolean appendCorePath(int from, int to, IntArrayBuffer cells) {
+        Attachment source = attach(from, to);
+        Attachment target = attach(to, NO_CELL);
+        int startNode = nodeCell.length;
+        int finishNode = startNode + 1;
+        SearchScratch scratch = SearchScratch.acquire(maze);
+        IndexedMinHeap queue = scratch.heap();
+
+        scratch.visit(startNode, SolverMaze.NO_PARENT, 0);
+        queue.insertOrDecrease(startNode, 0);
+
+        while (!queue.isEmpty() && scratch.distance(queue.peek()) < source.directCost) {
+            int node = queue.poll();
+
+            if (node == finishNode) {
+                expandNodePath(scratch.parents(), finishNode, source, target, cells);
+
+                return true;
+            }
+
+            if (node == startNode) {
+                relax(scratch, queue, node, source.nodes[0], source.costs[0]);
+                relax(scratch, queue, node, source.nodes[1], source.costs[1]);
+                continue;
+            }
+
+            for (int edge = edgeStart[node]; edge < edgeStart[node + 1]; edge++) {
+                relax(scratch, queue, node, edgeTarget[edge], edgeCost[edge]);
+            }
+
+            for (int side = 0; side < 2; side++) {
+                if (target.nodes[side] == node) {
+                    relax(scratch, queue, node, finishNode, target.reverseCost(side));
+                }
+            }
+        }
+
+        if (source.directCost == Integer.MAX_VALUE) {
+            return false;
+        }
+
+        walk(from, source.directFirstCell, to, cells);
+
+        return true;
+    }
+
+    private void relax(SearchScratch scratch, IndexedMinHeap queue, int node, int target, int cost) {
+        if (target == NO_CELL || cost == Integer.MAX_VALUE) {
+            return;
+        }
+
+        int newDist = scratch.distance(node) + cost;
+
+        if (newDist < scratch.distance(target)) {
+            scratch.visit(target, node, newDist);
+            queue.insertOrDecrease(target, newDist);
+        }
+    }
+
+    /**
+     * Метод для разворачивания пути по графу развилок в клетки
+     *
+     * @param parent массив родителей поиска по графу
+     * @param finishNode временная вершина конца
+     * @param source подключение начальной клетки ядра
+     * @param target подключение конечной клетки ядра
+     * @param cells буфер клеток пути
+     */
+    private void expandNodePath(
+        int[] parent,
+        int finishNode,
+        Attachment source,
+        Attachment target,
+        IntArrayBuffer cells
+    ) {
+        int length = 0;
+
+        for (int at = parent[finishNode]; parent[at] != SolverMaze.NO_PARENT; at = parent[at]) {
+            length++;
+        }
+
+        int[] nodes = new int[length];
+        int position = length;
+
+        for (int at = parent[finishNode]; parent[at] != SolverMaze.NO_PARENT; at = parent[at]) {
+            nodes[--position] = at;
+        }
+
+        source.appendTo(nodes[0], cells);
+
+        for (int i = 1; i < nodes.length; i++) {
+            int edge = findCheapestEdge(nodes[i - 1], nodes[i]);
+
+            walk(nodeCell[nodes[i - 1]], edgeFirstCell[edge], NO_CELL, cells);
+        }
+
+        target.appendReversedTo(nodes[nodes.length - 1], cells);
+    }
+
+    /**
+     * Метод для поиска самого дешевого из параллельных ребер между развилками - именно его использовал поиск
+     *
+     * @param from начальная вершина
+     * @param to конечная вершина
+     *
+     * @return номер ребра
+     */
+    private int findCheapestEdge(int from, int to) {
+        int cheapest = NO_CELL;
+
+        for (int edge = edgeStart[from]; edge < edgeStart[from + 1]; edge++) {
+            if (edgeTarget[edge] == to && (cheapest == NO_CELL || edgeCost[edge] < edgeCost[cheapest])) {
+                cheapest = edge;
+            }
+        }
+
+        return cheapest;
+    }
+
+    /**
+     * Метод для подключения клетки ядра к графу развилок. Развилка подключается сама к себе с нулевой стоимостью,
+     * клетка коридора - к развилкам на обоих концах коридора
+     *
+     * @param cell клетка ядра
+     * @param stopCell клетка, при встрече которой в коридоре запоминается прямой путь, или {@code NO_CELL}
+     *
+     * @return подключение клетки
+     */
+    private Attachment attach(int cell, int stopCell) {
+        Attachment attachment = new Attachment(cell);
+
+        if (junctions.get(cell)) {
+            attachment.nodes[0] = findNode(cell);
+            attachment.costs[0] = 0;
+
+            return attachment;
+        }
+
+        int side = 0;
+
+        for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+            int neighbor = SolverMaze.neighbor(maze, cell, direction);
+
+            if (neighbor == NO_CELL || !core.get(neighbor)) {
+                continue;
+            }
+
+            IntArrayBuffer corridor = new IntArrayBuffer();
+            int cost = walk(cell, neighbor, stopCell, corridor);
+            int end = corridor.values[corridor.size - 1];
+
+            // Конечная клетка может встретиться в обе стороны цикла - остается более дешевый проход
+            if (end == stopCell) {
+                if (cost < attachment.directCost) {
+                    attachment.directCost = cost;
+                    attachment.directFirstCell = neighbor;
+                }
+            } else {
+                attachment.nodes[side] = findNode(end);
+                attachment.costs[side] = cost;
+                attachment.corridors[side] = corridor;
+                side++;
+            }
+        }
+
+        return attachment;
+    }
+
+    /**
+     * Метод для прохода по коридору до развилки. Клетки коридора имеют ровно двух соседей в ядре,
+     * поэтому следующая клетка - сосед, отличный от предыдущей
+     *
+     * @param from клетка, из которой начинается проход
+     * @param first первая клетка прохода (сосед начальной клетки в ядре)
+     * @param stopCell клетка, на которой проход останавливается, даже если это не развилка, или {@code NO_CELL}
+     * @param cells буфер, в который добавляются клетки прохода без начальной
+     *
+     * @return стоимость прохода - сумма весов пройденных клеток
+     */
+    private int walk(int from, int first, int stopCell, IntArrayBuffer cells) {
+        int previous = from;
+        int current = first;
+        int cost = maze.weight(current);
+
+        cells.add(current);
+
+        while (!junctions.get(current) && current != stopCell) {
+            int next = nextCorridorCell(current, previous);
+
+            previous = current;
+            current = next;
+            cost += maze.weight(current);
+            cells.add(current);
+        }
+
+        return cost;
+    }
+
+    private int nextCorridorCell(int cell, int previous) {
+        for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+            int neighbor = SolverMaze.neighbor(maze, cell, direction);
+
+            if (neighbor != NO_CELL && neighbor != previous && core.get(neighbor)) {
+                return neighbor;
+            }
+        }
+
+        return NO_CELL;
+    }
+
+    /**
+     * Метод для поиска верхней клетки дерева тупиков: точки крепления к ядру или корня компоненты-дерева
+     *
+     * @param cell индекс клетки
+     *
+     * @return индекс верхней клетки (сама клетка, если она в ядре)
+     */
+    private int findTop(int cell) {
+        int top = cell;
+
+        while (!core.get(top) && treeParent[top] != SolverMaze.NO_PARENT) {
+            top = treeParent[top];
+        }
+
+        return top;
+    }
+
+    /**
+     * Метод для поиска пути внутри одного дерева тупиков через ближайшего общего предка
+     *
+     * @param startCell индекс стартовой клетки
+     * @param finishCell индекс конечной клетки
+     *
+     * @return клетки пути
+     */
+    private IntArrayBuffer findTreePath(int startCell, int finishCell) {
+        SearchScratch scratch = SearchScratch.acquire(maze);
+
+        for (int at = startCell; at != NO_CELL; at = core.get(at) ? NO_CELL : treeParent[at]) {
+            scratch.visit(at, SolverMaze.NO_PARENT, 0);
+        }
+
+        int ancestor = finishCell;
+
+        while (!scratch.isVisited(ancestor)) {
+            ancestor = treeParent[ancestor];
+        }
+
+        IntArrayBuffer cells = new IntArrayBuffer();
+
+        appendClimb(startCell, ancestor, cells);
+        appendDescent(ancestor, finishCell, cells);
+
+        return cells;
+    }
+
+    /**
+     * Метод для добавления в буфер клеток подъема по дереву от клетки до предка включительно
+     *
+     * @param cell индекс начальной клетки
+     * @param ancestor индекс предка
+     * @param cells буфер клеток пути
+     */
+    private void appendClimb(int cell, int ancestor, IntArrayBuffer cells) {
+        for (int at = cell; at != ancestor; at = treeParent[at]) {
+            cells.add(at);
+        }
+
+        cells.add(ancestor);
+    }
+
+    /**
+     * Метод для добавления в буфер клеток спуска по дереву от предка (не включая его) до клетки
+     *
+     * @param ancestor индекс предка
+     * @param cell индекс конечной клетки
+     * @param cells буфер клеток пути
+     */
+    private void appendDescent(int ancestor, int cell, IntArrayBuffer cells) {
+        int length = 0;
+
+        for (int at = cell; at != ancestor; at = treeParent[at]) {
+            length++;
+        }
+
+        int position = cells.size + length;
+
+        cells.ensureCapacity(position);
+
+        for (int at = cell; at != ancestor; at = treeParent[at]) {
+            cells.values[--position] = at;
+        }
+
+        cells.size += length;
+    }
+
+    /**
+     * Метод для заливки тупиков: клетки, у которых остался не больше чем один проходимый сосед, удаляются
+     * по очереди, а их единственный оставшийся сосед запоминается как родитель в дереве тупиков.
+     * Оставшиеся клетки образуют ядро
+     */
+    private void fillDeadEnds() {
+        int[] degree = new int[maze.size()];
+        int[] queue = new int[maze.size()];
+        int tail = 0;
+
+        Arrays.fill(treeParent, SolverMaze.NO_PARENT);
+
+        for (int cell = 0; cell < maze.size(); cell++) {
+            if (!maze.isWall(cell)) {
+                core.set(cell);
+            }
+        }
+
+        for (int cell = core.nextSetBit(0); cell >= 0; cell = core.nextSetBit(cell + 1)) {
+            degree[cell] = countCoreNeighbors(cell);
+
+            if (degree[cell] <= 1) {
+                queue[tail++] = cell;
+            }
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int cell = queue[head];
+            int parent = nextCorridorCell(cell, NO_CELL);
+
+            core.clear(cell);
+
+            if (parent != NO_CELL) {
+                treeParent[cell] = parent;
+
+                if (--degree[parent] == 1) {
+                    queue[tail++] = parent;
+                }
+            }
+        }
+    }
+
+    /**
+     * Метод для поиска развилок: клеток ядра, у которых не два соседа в ядре. Циклы ядра без развилок
+     * получают по одной развилке, чтобы каждая клетка коридора вела к развилке
+     */
+    private void findJunctions() {
+        for (int cell = core.nextSetBit(0); cell >= 0; cell = core.nextSetBit(cell + 1)) {
+            if (countCoreNeighbors(cell) != 2) {
+                junctions.set(cell);
+            }
+        }
+
+        BitSet covered = (BitSet) junctions.clone();
+        IntArrayBuffer corridor = new IntArrayBuffer();
+
+        for (int cell = core.nextSetBit(0); cell >= 0; cell = core.nextSetBit(cell + 1)) {
+            if (covered.get(cell)) {
+                continue;
+            }
+
+            // Проход, вернувшийся в исходную клетку без развилок, обошел цикл
+            corridor.clear();
+            walk(cell, nextCorridorCell(cell, NO_CELL), cell, corridor);
+
+            if (corridor.values[corridor.size - 1] == cell) {
+                junctions.set(cell);
+            }
+
+            markCorridorCells(cell, covered);
+        }
+    }
+
+    private void markCorridorCells(int cell, BitSet covered) {
+        IntArrayBuffer corridor = new IntArrayBuffer();
+
+        covered.set(cell);
+
+        for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+            int neighbor = SolverMaze.neighbor(maze, cell, direction);
+
+            if (neighbor != NO_CELL && core.get(neighbor) && !covered.get(neighbor)) {
+                corridor.clear();
+                walk(cell, neighbor, NO_CELL, corridor);
+
+                for (int i = 0; i < corridor.size; i++) {
+                    covered.set(corridor.values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Метод для стягивания коридоров: проход из каждой развилки в каждом направлении дает ребро до развилки
+     * на другом конце коридора. Петли, возвращающиеся в ту же развилку, не укорачивают пути и пропускаются
+     *
+     * @param edges буфер ребер (пары: конечная вершина, стоимость) в порядке начальных вершин
+     * @param firstCells буфер первых клеток коридоров ребер
+     */
+    private void contractCorridors(IntArrayBuffer edges, IntArrayBuffer firstCells) {
+        IntArrayBuffer corridor = new IntArrayBuffer();
+
+        for (int node = 0; node < nodeCell.length; node++) {
+            edgeStart[node] = firstCells.size;
+
+            for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+                int neighbor = SolverMaze.neighbor(maze, nodeCell[node], direction);
+
+                if (neighbor == NO_CELL || !core.get(neighbor)) {
+                    continue;
+                }
+
+                corridor.clear();
+
+                int cost = walk(nodeCell[node], neighbor, NO_CELL, corridor);
+                int target = findNode(corridor.values[corridor.size - 1]);
+
+                if (target != node) {
+                    edges.add(target);
+                    edges.add(cost);
+                    firstCells.add(neighbor);
+                }
+            }
+        }
+
+        edgeStart[nodeCell.length] = firstCells.size;
+    }
+
+    private int countCoreNeighbors(int cell) {
+        int count = 0;
+
+        for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+            int neighbor = SolverMaze.neighbor(maze, cell, direction);
+
+            if (neighbor != NO_CELL && core.get(neighbor)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private int findNode(int cell) {
+        return Arrays.binarySearch(nodeCell, cell);
+    }
+
+    /**
+     * Подключение клетки ядра к графу развилок на время запроса: до двух развилок со стоимостями
+     * и коридорами до них, а также прямой путь по коридору до конечной клетки, если она в том же коридоре
+     */
+    private final class Attachment {
+        private final int cell;
+        private final int[] nodes = {NO_CELL, NO_CELL};
+        private final int[] costs = {Integer.MAX_VALUE, Integer.MAX_VALUE};
+        private final IntArrayBuffer[] corridors = new IntArrayBuffer[2];
+        private int directCost = Integer.MAX_VALUE;
+        private int directFirstCell = NO_CELL;
+
+        private Attachment(int cell) {
+            this.cell = cell;
+        }
+
+        /**
+         * Метод для расчета стоимости пути от развилки до клетки по коридору в обратном направлении:
+         * вес развилки не входит в стоимость, а вес самой клетки входит
+         *
+         * @param side номер развилки подключения
+         *
+         * @return стоимость пути от развилки до клетки
+         */
+        private int reverseCost(int side) {
+            if (nodes[side] == NO_CELL || corridors[side] == null) {
+                return costs[side];
+            }
+
+            return costs[side] - maze.weight(nodeCell[nodes[side]]) + maze.weight(cell);
+        }
+
+        /**
+         * Метод для добавления в буфер коридора от клетки до развилки (без клетки)
+         *
+         * @param node вершина развилки, выбранная поиском
+         * @param cells буфер клеток пути
+         */
+        private void appendTo(int node, IntArrayBuffer cells) {
+            int side = cheapestSide(node, costs[0], costs[1]);
+
+            if (corridors[side] != null) {
+                for (int i = 0; i < corridors[side].size; i++) {
+                    cells.add(corridors[side].values[i]);
+                }
+            }
+        }
+
+        /**
+         * Метод для добавления в буфер коридора от развилки (без нее) до клетки
+         *
+         * @param node вершина развилки, выбранная поиском
+         * @param cells буфер клеток пути
+         */
+        private void appendReversedTo(int node, IntArrayBuffer cells) {
+            int side = cheapestSide(node, reverseCost(0), reverseCost(1));
+
+            if (corridors[side] != null) {
+                for (int i = corridors[side].size - 2; i >= 0; i--) {
+                    cells.add(corridors[side].values[i]);
+                }
+
+                cells.add(cell);
+            }
+        }
+
+        private int cheapestSide(int node, int firstCost, int secondCost) {
+            return nodes[1] == node && (nodes[0] != node || secondCost < firstCost) ? 1 : 0;
+        }
+    }
+}
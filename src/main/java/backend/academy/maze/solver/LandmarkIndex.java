@@ -0,0 +1,165 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.impl.SolverDial;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Индекс ориентиров (landmarks) для эвристики ALT (A*, ориентиры, неравенство треугольника).
+ * Для нескольких клеток-ориентиров хранятся полные поля расстояний, а нижняя граница расстояния между клетками
+ * получается из неравенства треугольника. В отличие от манхэттенского расстояния граница учитывает стены,
+ * поэтому остается точной и в идеальном лабиринте, где путь далеко уходит от прямой.
+ * Ориентиры выбираются по правилу самой дальней точки: каждый следующий - клетка, наиболее удаленная
+ * от уже выбранных
+ */
+public class LandmarkIndex extends MazeIndex {
+
+    /**
+     * Количество ориентиров по умолчанию
+     */
+    public static final int DEFAULT_LANDMARK_COUNT = 4;
+
+    /**
+     * Индексы клеток-ориентиров
+     */
+    private final int[] landmarks;
+    /**
+     * Расстояния от каждого ориентира до всех клеток по индексам
+     */
+    private final int[][] distances;
+
+    /**
+     * Конструктор индекса: выбор ориентиров и расчет полей расстояний от них
+     *
+     * @param maze лабиринт. Индекс соответствует содержимому лабиринта на момент построения
+     * @param landmarkCount количество ориентиров (больше 0)
+     */
+    public LandmarkIndex(Maze maze, int landmarkCount) {
+        super(maze);
+
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("Количество ориентиров должно быть больше 0.");
+        }
+
+        List<int[]> fields = new ArrayList<>();
+        List<Integer> cells = new ArrayList<>();
+        int firstCell = findFirstPassableCell();
+
+        if (firstCell != SolverMaze.NO_PARENT) {
+            selectLandmarks(firstCell, landmarkCount, cells, fields);
+        }
+
+        this.landmarks = cells.stream().mapToInt(Integer::intValue).toArray();
+        this.distances = fields.toArray(int[][]::new);
+    }
+
+    /**
+     * Метод для получения координат ориентиров в порядке выбора
+     *
+     * @return список координат ориентиров
+     */
+    public List<Coordinate> landmarks() {
+        List<Coordinate> coordinates = new ArrayList<>(landmarks.length);
+
+        for (int cell : landmarks) {
+            coordinates.add(new Coordinate(maze.row(cell), maze.col(cell)));
+        }
+
+        return coordinates;
+    }
+
+    /**
+     * Метод для расчета нижней границы стоимости пути между клетками.
+     * Стоимость шага - вес клетки, в которую входят, поэтому расстояния несимметричны:
+     * {@code d(a, b) = d(b, a) + w(b) - w(a)}. Через это соотношение из расстояний от ориентира {@code L}
+     * получаются обе оценки неравенства треугольника: {@code d(L, t) - d(L, v)} и {@code d(v, L) - d(t, L)}
+     *
+     * @param cell индекс клетки
+     * @param target индекс целевой клетки
+     *
+     * @return нижняя граница стоимости пути от клетки до целевой клетки
+     */
+    public int lowerBound(int cell, int target) {
+        int bound = 0;
+
+        for (int[] fromLandmark : distances) {
+            int toCell = fromLandmark[cell];
+            int toTarget = fromLandmark[target];
+
+            // Ориентир из другой компоненты связности ничего не говорит о расстоянии
+            if (toCell != DistanceField.UNREACHABLE && toTarget != DistanceField.UNREACHABLE) {
+                int forward = toTarget - toCell;
+                int backward = toCell - maze.weight(cell) - toTarget + maze.weight(target);
+
+                bound = Math.max(bound, Math.max(forward, backward));
+            }
+        }
+
+        return bound;
+    }
+
+    /**
+     * Метод для выбора ориентиров по правилу самой дальней точки. Первый ориентир - клетка, самая дальняя
+     * от первой проходимой клетки, следующие - клетки с наибольшим расстоянием до ближайшего из выбранных
+     *
+     * @param firstCell индекс первой проходимой клетки
+     * @param landmarkCount количество ориентиров
+     * @param cells список для индексов ориентиров
+     * @param fields список для полей расстояний от ориентиров
+     */
+    private void selectLandmarks(int firstCell, int landmarkCount, List<Integer> cells, List<int[]> fields) {
+        int[] nearest = computeDistances(firstCell);
+        int landmark = findFarthestCell(nearest);
+
+        while (cells.size() < landmarkCount && nearest[landmark] > 0) {
+            int[] field = computeDistances(landmark);
+
+            cells.add(landmark);
+            fields.add(field);
+
+            for (int cell = 0; cell < nearest.length; cell++) {
+                nearest[cell] = cells.size() == 1 ? field[cell] : Math.min(nearest[cell], field[cell]);
+            }
+
+            landmark = findFarthestCell(nearest);
+        }
+    }
+
+    private int[] computeDistances(int cell) {
+        return new SolverDial()
+            .computeDistanceField(maze, new Coordinate(maze.row(cell), maze.col(cell)))
+            .distances();
+    }
+
+    /**
+     * Метод для поиска достижимой клетки с наибольшим расстоянием
+     *
+     * @param distances расстояния по индексам клеток
+     *
+     * @return индекс самой дальней достижимой клетки
+     */
+    private int findFarthestCell(int[] distances) {
+        int farthest = 0;
+
+        for (int cell = 1; cell < distances.length; cell++) {
+            if (distances[cell] != DistanceField.UNREACHABLE
+                && (distances[farthest] == DistanceField.UNREACHABLE || distances[cell] > distances[farthest])) {
+                farthest = cell;
+            }
+        }
+
+        return farthest;
+    }
+
+    private int findFirstPassableCell() {
+        for (int cell = 0; cell < maze.size(); cell++) {
+            if (!maze.isWall(cell)) {
+                return cell;
+            }
+        }
+
+        return SolverMaze.NO_PARENT;
+    }
+}
@@ -0,0 +1,35 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Maze;
+
+/**
+ * Базовый класс индексов, которые строятся один раз для лабиринта и переиспользуются между запросами.
+ * Запоминает лабиринт и хеш его содержимого на момент построения
+ */
+public abstract class MazeIndex {
+
+    protected final Maze maze;
+    private final long contentHash;
+
+    /**
+     * Конструктор индекса. Хеш содержимого берется до построения, поэтому индекс соответствует содержимому
+     * лабиринта на момент вызова
+     *
+     * @param maze лабиринт
+     */
+    protected MazeIndex(Maze maze) {
+        this.maze = maze;
+        this.contentHash = maze.contentHash();
+    }
+
+    /**
+     * Метод для проверки, что индекс построен для этого лабиринта и его содержимое с тех пор не менялось
+     *
+     * @param other лабиринт
+     *
+     * @return {@code true}, если индекс можно использовать для лабиринта
+     */
+    public boolean isBuiltFor(Maze other) {
+        return other == maze && other.contentHash() == contentHash;
+    }
+}
@@ -0,0 +1,44 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Maze;
+import java.util.function.Function;
+
+/**
+ * Хранилище индекса лабиринта для решателя: индекс строится при первом запросе к лабиринту
+ * и переиспользуется, пока запрашивается тот же лабиринт с тем же содержимым.
+ * Одновременные запросы могут построить индекс дважды, но каждый получит корректный индекс
+ *
+ * @param <T> тип индекса
+ */
+public class MazeIndexCache<T extends MazeIndex> {
+
+    private final Function<Maze, T> factory;
+    private volatile T index;
+
+    /**
+     * Конструктор хранилища
+     *
+     * @param factory построение индекса для лабиринта
+     */
+    public MazeIndexCache(Function<Maze, T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Метод для получения индекса лабиринта, при необходимости перестроенного
+     *
+     * @param maze лабиринт
+     *
+     * @return индекс, построенный для текущего содержимого лабиринта
+     */
+    public T get(Maze maze) {
+        T current = index;
+
+        if (current == null || !current.isBuiltFor(maze)) {
+            current = factory.apply(maze);
+            index = current;
+        }
+
+        return current;
+    }
+}
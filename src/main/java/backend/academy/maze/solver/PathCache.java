@@ -0,0 +1,101 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.List;
+
+/**
+ * Ограниченный кэш найденных путей. Ключ - хэш содержимого лабиринта, его размеры, алгоритм поиска и координаты
+ * старта и конца, поэтому повторные запросы на одинаковых лабиринтах отвечаются без повторного поиска.
+ * Вес записи - количество координат пути: при превышении суммарного веса вытесняются редко используемые пути
+ */
+public class PathCache {
+
+    /**
+     * Максимальный суммарный вес кэша по умолчанию (количество координат во всех путях)
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 1_000_000L;
+
+    private final Cache<PathKey, List<Coordinate>> cache;
+
+    public PathCache() {
+        this(DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Конструктор кэша путей
+     *
+     * @param maxWeight максимальное суммарное количество координат во всех путях кэша
+     */
+    public PathCache(long maxWeight) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((PathKey key, List<Coordinate> path) -> Math.max(1, path.size()))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Метод для получения пути из кэша или его поиска решателем при промахе.
+     * Путь в кэше неизменяемый и может возвращаться нескольким вызывающим
+     *
+     * @param solverMaze решатель лабиринта
+     * @param maze лабиринт
+     * @param start стартовая координата
+     * @param finish конечная координата
+     *
+     * @return список координат, составляющих путь в лабиринте
+     */
+    public List<Coordinate> solveMaze(SolverMaze solverMaze, Maze maze, Coordinate start, Coordinate finish) {
+        PathKey key = new PathKey(
+            maze.contentHash(),
+            maze.height(),
+            maze.width(),
+            solverMaze.getSolverMazeType(),
+            start,
+            finish
+        );
+
+        return cache.get(key, ignored -> List.copyOf(solverMaze.solveMaze(maze, start, finish)));
+    }
+
+    /**
+     * Метод для получения статистики кэша: попаданий, промахов и вытеснений
+     *
+     * @return статистика кэша
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Метод для очистки кэша
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Ключ кэша путей
+     *
+     * @param mazeHash хэш содержимого лабиринта
+     * @param height высота лабиринта
+     * @param width ширина лабиринта
+     * @param solverMazeType алгоритм поиска пути
+     * @param start стартовая координата
+     * @param finish конечная координата
+     */
+    private record PathKey(
+        long mazeHash,
+        int height,
+        int width,
+        SolverMazeType solverMazeType,
+        Coordinate start,
+        Coordinate finish
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Coordinate;
+
+/**
+ * Рекорд запроса пути для пакетного поиска
+ *
+ * @param start стартовая координата
+ * @param finish конечная координата
+ */
+public record PathQuery(Coordinate start, Coordinate finish) {
+}
@@ -0,0 +1,247 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.queue.BucketQueue;
+import backend.academy.maze.solver.queue.IndexedMinHeap;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+/**
+ * Рабочие массивы поиска пути: расстояния, родители, буферы индексов и очереди по индексам упакованной сетки.
+ * Каждый поток получает свой экземпляр из пула через {@link SearchScratch#acquire(Maze)}, и он переиспользуется
+ * между запросами, пока размер лабиринта не превышает его емкость.
+ * Массивы не очищаются между запросами: клетка считается посещенной в текущем запросе, только если отмечена
+ * его меткой (поколением), поэтому начало запроса стоит O(1), а в установившемся режиме память выделяется
+ * только под возвращаемый путь.
+ * Экземпляр нельзя удерживать после возврата из решателя: следующий запрос в том же потоке его перезапишет.
+ * Массивы пула растут до самого большого лабиринта, который видел поток. Пул хранит их через
+ * {@link SoftReference}, поэтому при нехватке памяти сборщик мусора освобождает их между запросами
+ * (например, у рабочих потоков {@link java.util.concurrent.ForkJoinPool#commonPool()} после пакета запросов
+ * к большому лабиринту). Освободить массивы текущего потока сразу можно через {@link SearchScratch#release()}
+ */
+public final class SearchScratch {
+
+    /**
+     * Количество буферов индексов: достаточно для двух фронтов двунаправленного обхода
+     */
+    private static final int BUFFER_SLOTS = 4;
+    private static final ThreadLocal<SoftReference<SearchScratch>> POOL = new ThreadLocal<>();
+
+    private final int capacity;
+    /**
+     * Метка запроса, которым клетка посещена в последний раз
+     */
+    private final int[] stamps;
+    private final int[] distances;
+    private final int[] parent;
+    private final int[][] buffers = new int[BUFFER_SLOTS][];
+    private IndexedMinHeap heap;
+    private BucketQueue bucketQueue;
+    /**
+     * Первая метка текущего запроса. Все метки запроса не меньше нее
+     */
+    private int queryStamp;
+    /**
+     * Последняя выданная метка
+     */
+    private int lastStamp;
+
+    /**
+     * Конструктор рабочих массивов вне пула, например для результатов, которые переживают запрос
+     *
+     * @param capacity количество клеток
+     */
+    public SearchScratch(int capacity) {
+        this.capacity = capacity;
+        this.stamps = new int[capacity];
+        this.distances = new int[capacity];
+        this.parent = new int[capacity];
+    }
+
+    /**
+     * Метод для получения рабочих массивов текущего потока и начала нового запроса с одной меткой.
+     * Массивы пересоздаются, если лабиринт больше их емкости
+     *
+     * @param maze лабиринт
+     *
+     * @return рабочие массивы поиска
+     */
+    public static SearchScratch acquire(Maze maze) {
+        SoftReference<SearchScratch> reference = POOL.get();
+        SearchScratch scratch = reference == null ? null : reference.get();
+
+        if (scratch == null || scratch.capacity < maze.size()) {
+            scratch = new SearchScratch(maze.size());
+            POOL.set(new SoftReference<>(scratch));
+        }
+
+        scratch.beginQuery(1);
+
+        return scratch;
+    }
+
+    /**
+     * Метод для освобождения рабочих массивов текущего потока. Следующий {@link SearchScratch#acquire(Maze)}
+     * в этом потоке создаст новые массивы по размеру лабиринта
+     */
+    public static void release() {
+        POOL.remove();
+    }
+
+    /**
+     * Метод для начала нового запроса. Запрос может использовать несколько меток подряд,
+     * например по одной на каждый фронт двунаправленного поиска. При переполнении меток массив меток обнуляется
+     *
+     * @param marks количество меток запроса
+     *
+     * @return первая метка запроса
+     */
+    public int beginQuery(int marks) {
+        if (lastStamp > Integer.MAX_VALUE - marks) {
+            Arrays.fill(stamps, 0);
+            lastStamp = 0;
+        }
+
+        queryStamp = lastStamp + 1;
+        lastStamp += marks;
+
+        return queryStamp;
+    }
+
+    /**
+     * Метод для проверки, посещена ли клетка в текущем запросе (любой его меткой)
+     *
+     * @param cell индекс клетки
+     *
+     * @return {@code true}, если клетка посещена
+     */
+    public boolean isVisited(int cell) {
+        return stamps[cell] >= queryStamp;
+    }
+
+    /**
+     * Метод для получения метки, которой клетка посещена в текущем запросе
+     *
+     * @param cell индекс клетки
+     *
+     * @return метка клетки (меньше первой метки запроса, если клетка не посещена)
+     */
+    public int mark(int cell) {
+        return stamps[cell];
+    }
+
+    /**
+     * Метод для отметки клетки первой меткой запроса с записью родителя и расстояния
+     *
+     * @param cell индекс клетки
+     * @param parentCell индекс родителя или {@link SolverMaze#NO_PARENT}
+     * @param distance расстояние от старта
+     */
+    public void visit(int cell, int parentCell, int distance) {
+        visit(cell, queryStamp, parentCell, distance);
+    }
+
+    /**
+     * Метод для отметки клетки заданной меткой запроса с записью родителя и расстояния
+     *
+     * @param cell индекс клетки
+     * @param mark метка запроса
+     * @param parentCell индекс родителя или {@link SolverMaze#NO_PARENT}
+     * @param distance расстояние от старта
+     */
+    public void visit(int cell, int mark, int parentCell, int distance) {
+        stamps[cell] = mark;
+        parent[cell] = parentCell;
+        distances[cell] = distance;
+    }
+
+    /**
+     * Метод для получения расстояния до клетки в текущем запросе
+     *
+     * @param cell индекс клетки
+     *
+     * @return расстояние или {@link DistanceField#UNREACHABLE}, если клетка не посещена
+     */
+    public int distance(int cell) {
+        return isVisited(cell) ? distances[cell] : DistanceField.UNREACHABLE;
+    }
+
+    /**
+     * Метод для получения массива родителей. Значения актуальны только для посещенных клеток,
+     * поэтому цепочка родителей от посещенной клетки всегда корректна
+     *
+     * @return массив родителей
+     */
+    public int[] parents() {
+        return parent;
+    }
+
+    /**
+     * Метод для получения массива расстояний. Значения актуальны только для посещенных клеток
+     *
+     * @return массив расстояний
+     */
+    public int[] distances() {
+        return distances;
+    }
+
+    /**
+     * Метод для записи в непосещенные клетки {@link DistanceField#UNREACHABLE} и {@link SolverMaze#NO_PARENT},
+     * чтобы массивы можно было отдать как самостоятельный результат
+     */
+    public void fillUnvisited() {
+        for (int cell = 0; cell < capacity; cell++) {
+            if (!isVisited(cell)) {
+                distances[cell] = DistanceField.UNREACHABLE;
+                parent[cell] = SolverMaze.NO_PARENT;
+            }
+        }
+    }
+
+    /**
+     * Метод для получения буфера индексов клеток длиной в емкость
+     *
+     * @param slot номер буфера (от 0 до 3)
+     *
+     * @return буфер индексов
+     */
+    public int[] buffer(int slot) {
+        if (buffers[slot] == null) {
+            buffers[slot] = new int[capacity];
+        }
+
+        return buffers[slot];
+    }
+
+    /**
+     * Метод для получения пустой индексированной кучи
+     *
+     * @return куча
+     */
+    public IndexedMinHeap heap() {
+        if (heap == null) {
+            heap = new IndexedMinHeap(capacity);
+        }
+
+        heap.clear();
+
+        return heap;
+    }
+
+    /**
+     * Метод для получения пустой карманной очереди
+     *
+     * @param bucketCount количество карманов
+     *
+     * @return карманная очередь
+     */
+    public BucketQueue bucketQueue(int bucketCount) {
+        if (bucketQueue == null || bucketQueue.bucketCount() != bucketCount) {
+            bucketQueue = new BucketQueue(bucketCount);
+        }
+
+        bucketQueue.clear();
+
+        return bucketQueue;
+    }
+}
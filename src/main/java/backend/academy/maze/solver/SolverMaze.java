@@ -1,20 +1,31 @@
 package backend.academy.maze.solver;
 
 import backend.academy.maze.enums.SolverMazeType;
-import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Абстрактный класс для решателя лабиринта
  */
 public abstract class SolverMaze {
 
+    /**
+     * Отсутствие родителя у клетки в массиве родителей
+     */
+    public static final int NO_PARENT = -1;
+    /**
+     * Отсутствие клетки: соседа за границей лабиринта или стены
+     */
+    protected static final int NO_CELL = -1;
+    /**
+     * Смещения соседних клеток по строкам и столбцам: вверх, вниз, влево, вправо
+     */
+    protected static final int[] ROW_DIRECTIONS = {-1, 1, 0, 0};
+    protected static final int[] COL_DIRECTIONS = {0, 0, -1, 1};
+
     /**
      * Метод для поиска пути в лабиринте по одному из алгоритмов от стартовой до конечной точки
      *
@@ -26,6 +37,26 @@ public abstract class SolverMaze {
      */
     public abstract List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish);
 
+    /**
+     * Метод для пакетного поиска путей в одном лабиринте. По умолчанию запросы решаются по очереди
+     * через {@link SolverMaze#solveMaze(Maze, Coordinate, Coordinate)}; решатели, умеющие переиспользовать
+     * общую работу между запросами, переопределяют его
+     *
+     * @param maze лабиринт
+     * @param queries запросы пути
+     *
+     * @return список путей в порядке запросов (пустой путь, если конечная точка недостижима)
+     */
+    public List<List<Coordinate>> solveMazes(Maze maze, List<PathQuery> queries) {
+        List<List<Coordinate>> paths = new ArrayList<>(queries.size());
+
+        for (PathQuery query : queries) {
+            paths.add(solveMaze(maze, query.start(), query.finish()));
+        }
+
+        return paths;
+    }
+
     /**
      * Метод для получения типа алгоритма поиска пути в лабиринте
      *
@@ -43,14 +74,27 @@ public abstract class SolverMaze {
      */
     protected void validateStartAndFinish(Maze maze, Coordinate start, Coordinate finish) {
         if (isCoordinateNotInBounds(start, maze) || isCoordinateNotInBounds(finish, maze)
-            || maze.grid()[start.row()][start.col()].type() == Cell.CellType.WALL
-            || maze.grid()[finish.row()][finish.col()].type() == Cell.CellType.WALL
+            || maze.isWall(start.row(), start.col())
+            || maze.isWall(finish.row(), finish.col())
             || start.equals(finish)
         ) {
             throw new IllegalArgumentException("Стартовая или конечная координаты недоступны, или они одинаковы.");
         }
     }
 
+    /**
+     * Метод валидации стартовой координаты поиска без конечной точки.
+     * Она должна находиться в лабиринте и не на стене
+     *
+     * @param maze лабиринт
+     * @param start стартовая координата
+     */
+    protected void validateStart(Maze maze, Coordinate start) {
+        if (isCoordinateNotInBounds(start, maze) || maze.isWall(start.row(), start.col())) {
+            throw new IllegalArgumentException("Стартовая координата недоступна.");
+        }
+    }
+
     /**
      * Вспомогательный метод для метода валидации
      * {@link SolverMaze#validateStartAndFinish(Maze, Coordinate, Coordinate)}
@@ -68,52 +112,63 @@ public abstract class SolverMaze {
     }
 
     /**
-     * Метод для получения соседних клеток
+     * Вспомогательный метод для определения, что клетка находится в рамках лабиринта (не на рамке)
      *
-     * @param coordinate координата клетки, для которой нужно получить соседей
-     * @param height высота лабиринта
-     * @param width ширина лабиринта
+     * @param row номер строки
+     * @param col номер столбца
+     * @param maze лабиринт
      *
-     * @return список клеток-соседей
+     * @return {@code true}, если клетка ВНЕ рамках лабиринта
+     * <p>{@code false}, если клетка в рамках лабиринте
      */
-    protected List<Coordinate> getNeighborsOfCoordinate(Coordinate coordinate, int height, int width) {
-        List<Coordinate> neighbors = new ArrayList<>();
-        int row = coordinate.row();
-        int col = coordinate.col();
+    protected boolean isCoordinateNotInBounds(int row, int col, Maze maze) {
+        return row < 1 || row >= maze.height() - 1
+            || col < 1 || col >= maze.width() - 1;
+    }
 
-        if (row > 0) {
-            neighbors.add(new Coordinate(row - 1, col)); // вверх
-        }
-        if (row < height - 1) {
-            neighbors.add(new Coordinate(row + 1, col)); // вниз
-        }
-        if (col > 0) {
-            neighbors.add(new Coordinate(row, col - 1)); // влево
-        }
-        if (col < width - 1) {
-            neighbors.add(new Coordinate(row, col + 1)); // вправо
+    /**
+     * Метод для получения соседней проходимой клетки
+     *
+     * @param maze лабиринт
+     * @param cell индекс клетки
+     * @param direction направление (индекс в {@link SolverMaze#ROW_DIRECTIONS})
+     *
+     * @return индекс соседней клетки или {@link SolverMaze#NO_CELL}, если сосед за границей лабиринта или стена
+     */
+    protected static int neighbor(Maze maze, int cell, int direction) {
+        int row = maze.row(cell) + ROW_DIRECTIONS[direction];
+        int col = maze.col(cell) + COL_DIRECTIONS[direction];
+
+        if (row < 0 || row >= maze.height() || col < 0 || col >= maze.width() || maze.isWall(row, col)) {
+            return NO_CELL;
         }
 
-        return neighbors;
+        return maze.index(row, col);
     }
 
     /**
-     * Метод для реконструкции пути. Собирает путь по координатам и разворачивает
+     * Метод для реконструкции пути по массиву родителей, где клетки заданы индексами упакованной сетки
      *
-     * @param previous карта для отслеживания из какой клетки пришли в текущую
-     * @param finish конечная точка
+     * @param maze лабиринт
+     * @param parent массив родителей ({@link SolverMaze#NO_PARENT} у стартовой клетки)
+     * @param finish индекс конечной клетки
      *
-     * @return список координат пути
+     * @return список координат пути от старта до конца
      */
-    protected List<Coordinate> reconstructPath(Map<Coordinate, Coordinate> previous, Coordinate finish) {
-        List<Coordinate> path = new LinkedList<>();
+    protected List<Coordinate> reconstructPath(Maze maze, int[] parent, int finish) {
+        int length = 0;
 
-        for (Coordinate at = finish; at != null; at = previous.get(at)) {
-            path.add(at);
+        for (int at = finish; at != NO_PARENT; at = parent[at]) {
+            length++;
         }
 
-        Collections.reverse(path);
+        Coordinate[] path = new Coordinate[length];
+        int position = length;
+
+        for (int at = finish; at != NO_PARENT; at = parent[at]) {
+            path[--position] = new Coordinate(maze.row(at), maze.col(at));
+        }
 
-        return path;
+        return Arrays.asList(path);
     }
 }
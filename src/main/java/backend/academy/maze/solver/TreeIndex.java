@@ -0,0 +1,425 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Индекс дерева для идеального лабиринта (без {@code randomizeWalls}), в котором путь между клетками единственный.
+ * Строится один раз на лабиринт. Проходимые клетки нумеруются в прямом порядке обхода в глубину, поэтому
+ * поддерево занимает непрерывный отрезок номеров, а ближайший общий предок клеток {@code u} и {@code v}
+ * ({@code tin[u] < tin[v]}) - родитель клетки с наименьшей глубиной на отрезке {@code (tin[u], tin[v]]}.
+ * Минимум на отрезке ищется за O(1): разреженная таблица по блокам из 64 номеров и битовые маски
+ * стека минимумов внутри блоков, поэтому память линейна по числу клеток.
+ * Длина и стоимость пути считаются за O(1) по глубинам, сам путь извлекается за время, пропорциональное его длине
+ */
+public class TreeIndex extends MazeIndex {
+
+    private static final int BLOCK_BITS = 6;
+    private static final int BLOCK_SIZE = 1 << BLOCK_BITS;
+    private static final int NO_VERTEX = -1;
+
+    /**
+     * Номер вершины (в прямом порядке обхода) каждой клетки или {@code NO_VERTEX} у стен
+     */
+    private final int[] vertexOfCell;
+    /**
+     * Индекс клетки каждой вершины
+     */
+    private final int[] cellOfVertex;
+    private final int[] parent;
+    /**
+     * Количество шагов от корня компоненты
+     */
+    private final int[] depth;
+    /**
+     * Стоимость пути от корня компоненты - сумма весов клеток пути без корня
+     */
+    private final int[] costDepth;
+    /**
+     * Корень компоненты связности каждой вершины
+     */
+    private final int[] root;
+    /**
+     * Маски стека минимумов: бит {@code j} маски позиции {@code i} установлен, если позиция
+     * {@code blockStart + j} - минимум глубины на отрезке от нее до {@code i}
+     */
+    private final long[] stackMasks;
+    /**
+     * Разреженная таблица позиций минимумов по блокам: {@code blockMinimums[k][b]} - минимум блоков
+     * {@code b..b + 2^k - 1}
+     */
+    private final int[][] blockMinimums;
+
+    /**
+     * Конструктор индекса: обход лабиринта в глубину и построение структуры поиска минимума на отрезке
+     *
+     * @param maze идеальный лабиринт. Индекс соответствует содержимому лабиринта на момент построения
+     *
+     * @throws IllegalArgumentException если в лабиринте есть цикл
+     */
+    public TreeIndex(Maze maze) {
+        super(maze);
+
+        this.vertexOfCell = new int[maze.size()];
+
+        int vertexCount = 0;
+
+        for (int cell = 0; cell < maze.size(); cell++) {
+            vertexOfCell[cell] = NO_VERTEX;
+
+            if (!maze.isWall(cell)) {
+                vertexCount++;
+            }
+        }
+
+        this.cellOfVertex = new int[vertexCount];
+        this.parent = new int[vertexCount];
+        this.depth = new int[vertexCount];
+        this.costDepth = new int[vertexCount];
+        this.root = new int[vertexCount];
+
+        numberVertices();
+
+        this.stackMasks = buildStackMasks();
+        this.blockMinimums = buildBlockMinimums();
+    }
+
+    /**
+     * Метод для получения количества шагов пути между клетками за O(1)
+     *
+     * @param start стартовая координата
+     * @param finish конечная координата
+     *
+     * @return количество шагов или {@link DistanceField#UNREACHABLE}, если клетки в разных компонентах
+     */
+    public int distance(Coordinate start, Coordinate finish) {
+        int first = toVertex(start);
+        int second = toVertex(finish);
+
+        if (root[first] != root[second]) {
+            return DistanceField.UNREACHABLE;
+        }
+
+        return depth[first] + depth[second] - 2 * depth[lowestCommonAncestor(first, second)];
+    }
+
+    /**
+     * Метод для получения стоимости пути между клетками (суммы весов клеток пути без стартовой) за O(1)
+     *
+     * @param start стартовая координата
+     * @param finish конечная координата
+     *
+     * @return стоимость пути или {@link DistanceField#UNREACHABLE}, если клетки в разных компонентах
+     */
+    public int cost(Coordinate start, Coordinate finish) {
+        int first = toVertex(start);
+        int second = toVertex(finish);
+
+        if (root[first] != root[second]) {
+            return DistanceField.UNREACHABLE;
+        }
+
+        int ancestor = lowestCommonAncestor(first, second);
+
+        // Подъем входит в клетки от родителя старта до предка, спуск - от клетки после предка до конца
+        return costDepth[first] - weight(first) + weight(ancestor) + costDepth[second] - 2 * costDepth[ancestor];
+    }
+
+    /**
+     * Метод для получения ближайшего общего предка клеток относительно корня их компоненты
+     *
+     * @param first первая координата
+     * @param second вторая координата
+     *
+     * @return координата предка или {@code null}, если клетки в разных компонентах
+     */
+    public Coordinate lowestCommonAncestor(Coordinate first, Coordinate second) {
+        int firstVertex = toVertex(first);
+        int secondVertex = toVertex(second);
+
+        if (root[firstVertex] != root[secondVertex]) {
+            return null;
+        }
+
+        return toCoordinate(lowestCommonAncestor(firstVertex, secondVertex));
+    }
+
+    /**
+     * Метод для извлечения единственного пути между клетками за время, пропорциональное его длине
+     *
+     * @param start стартовая координата
+     * @param finish конечная координата
+     *
+     * @return список координат пути или пустой список, если клетки в разных компонентах
+     */
+    public List<Coordinate> findPath(Coordinate start, Coordinate finish) {
+        int first = toVertex(start);
+        int second = toVertex(finish);
+
+        if (root[first] != root[second]) {
+            return Collections.emptyList();
+        }
+
+        int ancestor = lowestCommonAncestor(first, second);
+        Coordinate[] path = new Coordinate[depth[first] + depth[second] - 2 * depth[ancestor] + 1];
+        int position = 0;
+
+        for (int at = first; at != ancestor; at = parent[at]) {
+            path[position++] = toCoordinate(at);
+        }
+
+        path[position] = toCoordinate(ancestor);
+
+        for (int at = second, back = path.length - 1; at != ancestor; at = parent[at], back--) {
+            path[back] = toCoordinate(at);
+        }
+
+        return Arrays.asList(path);
+    }
+
+    /**
+     * Метод для поиска ближайшего общего предка вершин
+     *
+     * @param first первая вершина
+     * @param second вторая вершина из той же компоненты
+     *
+     * @return вершина предка
+     */
+    private int lowestCommonAncestor(int first, int second) {
+        if (first == second) {
+            return first;
+        }
+
+        // Номера вершин - время входа в прямом порядке обхода
+        int from = Math.min(first, second) + 1;
+        int to = Math.max(first, second);
+
+        return parent[findMinimumDepth(from, to)];
+    }
+
+    /**
+     * Метод для поиска позиции с наименьшей глубиной на отрезке номеров за O(1)
+     *
+     * @param from начало отрезка
+     * @param to конец отрезка включительно
+     *
+     * @return номер вершины с наименьшей глубиной
+     */
+    private int findMinimumDepth(int from, int to) {
+        int fromBlock = from >> BLOCK_BITS;
+        int toBlock = to >> BLOCK_BITS;
+
+        if (fromBlock == toBlock) {
+            return findMinimumInBlock(from, to);
+        }
+
+        int minimum = lessDeep(
+            findMinimumInBlock(from, (fromBlock << BLOCK_BITS) + BLOCK_SIZE - 1),
+            findMinimumInBlock(toBlock << BLOCK_BITS, to)
+        );
+
+        if (fromBlock + 1 < toBlock) {
+            int level = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(toBlock - fromBlock - 1);
+
+            minimum = lessDeep(minimum, lessDeep(
+                blockMinimums[level][fromBlock + 1],
+                blockMinimums[level][toBlock - (1 << level)]
+            ));
+        }
+
+        return minimum;
+    }
+
+    /**
+     * Метод для поиска минимума внутри блока: младший бит маски стека минимумов конца отрезка,
+     * не лежащий левее начала отрезка
+     *
+     * @param from начало отрезка
+     * @param to конец отрезка включительно (в том же блоке)
+     *
+     * @return номер вершины с наименьшей глубиной
+     */
+    private int findMinimumInBlock(int from, int to) {
+        int blockStart = from & -BLOCK_SIZE;
+
+        return blockStart + Long.numberOfTrailingZeros(stackMasks[to] & (-1L << (from - blockStart)));
+    }
+
+    private int lessDeep(int first, int second) {
+        return depth[second] < depth[first] ? second : first;
+    }
+
+    /**
+     * Метод для нумерации вершин обходом в глубину из каждой еще не пройденной проходимой клетки.
+     * Вершина получает номер при извлечении из стека, поэтому поддерево нумеруется непрерывно
+     *
+     * @throws IllegalArgumentException если обход нашел уже открытую клетку, отличную от родителя
+     */
+    private void numberVertices() {
+        int[] stack = new int[cellOfVertex.length];
+        int[] parentCell = new int[maze.size()];
+        int next = 0;
+
+        for (int rootCell = 0; rootCell < maze.size(); rootCell++) {
+            if (maze.isWall(rootCell) || vertexOfCell[rootCell] != NO_VERTEX) {
+                continue;
+            }
+
+            int rootVertex = next;
+            int size = 0;
+
+            stack[size++] = rootCell;
+            parentCell[rootCell] = NO_VERTEX;
+            // Открытые, но еще не пронумерованные клетки отмечаются номером за пределами диапазона
+            vertexOfCell[rootCell] = cellOfVertex.length;
+
+            while (size > 0) {
+                int cell = stack[--size];
+                int vertex = next++;
+
+                vertexOfCell[cell] = vertex;
+                cellOfVertex[vertex] = cell;
+                root[vertex] = rootVertex;
+                setParent(vertex, parentCell[cell]);
+
+                size = pushChildren(cell, parentCell, stack, size);
+            }
+        }
+    }
+
+    private void setParent(int vertex, int parentCell) {
+        if (parentCell == NO_VERTEX) {
+            parent[vertex] = NO_VERTEX;
+            return;
+        }
+
+        int parentVertex = vertexOfCell[parentCell];
+
+        parent[vertex] = parentVertex;
+        depth[vertex] = depth[parentVertex] + 1;
+        costDepth[vertex] = costDepth[parentVertex] + weight(vertex);
+    }
+
+    /**
+     * Метод для добавления в стек обхода соседей клетки, кроме родителя
+     *
+     * @param cell индекс клетки
+     * @param parentCell родители клеток
+     * @param stack стек обхода
+     * @param size текущий размер стека
+     *
+     * @return новый размер стека
+     */
+    private int pushChildren(int cell, int[] parentCell, int[] stack, int size) {
+        int newSize = size;
+
+        for (int direction = 0; direction < SolverMaze.ROW_DIRECTIONS.length; direction++) {
+            int neighbor = SolverMaze.neighbor(maze, cell, direction);
+
+            if (neighbor == SolverMaze.NO_CELL || neighbor == parentCell[cell]) {
+                continue;
+            }
+
+            if (vertexOfCell[neighbor] != NO_VERTEX) {
+                throw new IllegalArgumentException("Лабиринт содержит циклы, индекс дерева строится только для "
+                    + "идеального лабиринта.");
+            }
+
+            vertexOfCell[neighbor] = cellOfVertex.length;
+            parentCell[neighbor] = cell;
+            stack[newSize++] = neighbor;
+        }
+
+        return newSize;
+    }
+
+    /**
+     * Метод для построения масок стека минимумов глубины внутри каждого блока
+     *
+     * @return маски по номерам вершин
+     */
+    private long[] buildStackMasks() {
+        long[] masks = new long[depth.length];
+        long mask = 0;
+
+        for (int vertex = 0; vertex < depth.length; vertex++) {
+            int blockStart = vertex & -BLOCK_SIZE;
+            int offset = vertex - blockStart;
+
+            if (offset == 0) {
+                mask = 0;
+            }
+
+            // Из стека уходят позиции, которые не меньше новой: они больше не минимумы ни одного отрезка
+            while (mask != 0 && depth[blockStart + Long.SIZE - 1 - Long.numberOfLeadingZeros(mask)] >= depth[vertex]) {
+                mask ^= Long.highestOneBit(mask);
+            }
+
+            mask |= 1L << offset;
+            masks[vertex] = mask;
+        }
+
+        return masks;
+    }
+
+    /**
+     * Метод для построения разреженной таблицы минимумов по блокам
+     *
+     * @return таблица позиций минимумов
+     */
+    private int[][] buildBlockMinimums() {
+        int blocks = (depth.length + BLOCK_SIZE - 1) >> BLOCK_BITS;
+        int levels = blocks == 0 ? 1 : Integer.SIZE - Integer.numberOfLeadingZeros(blocks);
+        int[][] table = new int[levels][];
+
+        table[0] = new int[blocks];
+
+        for (int block = 0; block < blocks; block++) {
+            int blockStart = block << BLOCK_BITS;
+
+            table[0][block] = findMinimumInBlock(blockStart, Math.min(blockStart + BLOCK_SIZE, depth.length) - 1);
+        }
+
+        for (int level = 1; level < levels; level++) {
+            int span = 1 << (level - 1);
+
+            table[level] = new int[blocks - (1 << level) + 1];
+
+            for (int block = 0; block < table[level].length; block++) {
+                table[level][block] = lessDeep(table[level - 1][block], table[level - 1][block + span]);
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Метод для получения вершины координаты
+     *
+     * @param coordinate координата проходимой клетки
+     *
+     * @return номер вершины
+     *
+     * @throws IllegalArgumentException если координата за пределами лабиринта или на стене
+     */
+    private int toVertex(Coordinate coordinate) {
+        if (coordinate.row() < 0 || coordinate.row() >= maze.height()
+            || coordinate.col() < 0 || coordinate.col() >= maze.width()
+            || vertexOfCell[maze.index(coordinate.row(), coordinate.col())] == NO_VERTEX) {
+            throw new IllegalArgumentException("Координата недоступна.");
+        }
+
+        return vertexOfCell[maze.index(coordinate.row(), coordinate.col())];
+    }
+
+    private Coordinate toCoordinate(int vertex) {
+        return new Coordinate(maze.row(cellOfVertex[vertex]), maze.col(cellOfVertex[vertex]));
+    }
+
+    private int weight(int vertex) {
+        return maze.weight(cellOfVertex[vertex]);
+    }
+}
@@ -1,96 +1,129 @@
 package backend.academy.maze.solver.impl;
 
 import backend.academy.maze.enums.SolverMazeType;
-import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SearchScratch;
 import backend.academy.maze.solver.SolverMaze;
+import backend.academy.maze.solver.queue.IndexedMinHeap;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
 
 /**
- * Класс решателя лабиринта, основанный на алгоритме A* (A-Star)
+ * Класс решателя лабиринта, основанный на алгоритме A* (A-Star).
+ * Работает на индексах упакованной сетки: стоимости и родители хранятся в массивах {@code int[]},
+ * открытый список - индексированная куча с уменьшением приоритета.
+ * Массивы и куча берутся из рабочих массивов потока ({@link SearchScratch}) и переиспользуются между запросами
  */
 public class SolverAStar extends SolverMaze {
 
+    /**
+     * Количество раскрытых клеток (извлеченных из открытого списка) за все запросы
+     */
+    private final LongAdder expandedCells = new LongAdder();
+
     @Override
     public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
         validateStartAndFinish(maze, start, finish);
 
-        int height = maze.height();
-        int width = maze.width();
+        return search(maze, start, finish, cell -> heuristic(maze.row(cell), maze.col(cell), finish));
+    }
 
-        Cell[][] grid = maze.grid();
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.A_STAR;
+    }
 
-        Map<Coordinate, Integer> gScores = new HashMap<>(); // стоимость пути от начала до каждой клетки
-        // Стоимость пути от начальной до конечной клетки через каждую клетку
-        Map<Coordinate, Integer> fScores = new HashMap<>();
-        Map<Coordinate, Coordinate> cameFrom = new HashMap<>(); // отслеживание из какой клетки пришли
+    /**
+     * Метод для получения количества раскрытых клеток за все запросы к решателю. Позволяет сравнивать
+     * эвристики: чем точнее эвристика, тем меньше клеток раскрывает поиск
+     *
+     * @return количество раскрытых клеток
+     */
+    public long expandedCells() {
+        return expandedCells.sum();
+    }
 
-        // Сначала обрабатываются клетки с наименьшей стоимостью
-        PriorityQueue<Coordinate> openQueue = new PriorityQueue<>(Comparator.comparingInt(fScores::get));
+    /**
+     * Метод для поиска пути с заданной эвристикой. Координаты должны быть проверены вызывающим кодом
+     *
+     * @param maze лабиринт
+     * @param start стартовая координата
+     * @param finish конечная координата
+     * @param heuristic нижняя граница стоимости пути от клетки (по индексу) до конечной клетки
+     *
+     * @return список координат пути или пустой список, если путь не существует
+     */
+    protected List<Coordinate> search(Maze maze, Coordinate start, Coordinate finish, IntUnaryOperator heuristic) {
+        // Расстояния в рабочих массивах - стоимости пути от начала до каждой клетки,
+        // родители - из какой клетки пришли
+        SearchScratch scratch = SearchScratch.acquire(maze);
+        IndexedMinHeap openQueue = scratch.heap();
 
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Coordinate coordinate = new Coordinate(row, col);
+        int startIndex = maze.index(start.row(), start.col());
+        int finishIndex = maze.index(finish.row(), finish.col());
 
-                gScores.put(coordinate, Integer.MAX_VALUE);
-                fScores.put(coordinate, Integer.MAX_VALUE);
-            }
-        }
+        scratch.visit(startIndex, NO_PARENT, 0);
+        // Сначала обрабатываются клетки с наименьшей стоимостью
+        openQueue.insertOrDecrease(startIndex, heuristic.applyAsInt(startIndex));
 
-        gScores.put(start, 0);
-        fScores.put(start, heuristic(start, finish));
-        openQueue.add(start);
+        int expanded = 0;
 
         while (!openQueue.isEmpty()) {
-            Coordinate current = openQueue.poll();
+            int current = openQueue.poll();
+
+            expanded++;
 
-            if (current.equals(finish)) {
-                return reconstructPath(cameFrom, finish);
+            if (current == finishIndex) {
+                expandedCells.add(expanded);
+
+                return reconstructPath(maze, scratch.parents(), finishIndex);
             }
 
-            for (Coordinate neighbor : getNeighborsOfCoordinate(current, height, width)) {
-                if (grid[neighbor.row()][neighbor.col()].type() == Cell.CellType.WALL) {
+            int row = maze.row(current);
+            int col = maze.col(current);
+
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + ROW_DIRECTIONS[direction];
+                int newCol = col + COL_DIRECTIONS[direction];
+
+                if (isCoordinateNotInBounds(newRow, newCol, maze)) {
                     continue;
                 }
 
-                // Стоимость пути до соседней клетки
-                int tentativeGScore = gScores.get(current) + grid[neighbor.row()][neighbor.col()].type().weight();
+                int neighbor = maze.index(newRow, newCol);
 
-                if (tentativeGScore < gScores.get(neighbor)) {
-                    cameFrom.put(neighbor, current);
-                    gScores.put(neighbor, tentativeGScore);
-                    fScores.put(neighbor, tentativeGScore + heuristic(neighbor, finish));
+                if (maze.isWall(neighbor)) {
+                    continue;
+                }
 
-                    if (!openQueue.contains(neighbor)) {
-                        openQueue.add(neighbor);
-                    }
+                // Стоимость пути до соседней клетки
+                int tentativeGScore = scratch.distance(current) + maze.weight(neighbor);
+
+                if (tentativeGScore < scratch.distance(neighbor)) {
+                    scratch.visit(neighbor, current, tentativeGScore);
+                    openQueue.insertOrDecrease(neighbor, tentativeGScore + heuristic.applyAsInt(neighbor));
                 }
             }
         }
 
-        return Collections.emptyList();
-    }
+        expandedCells.add(expanded);
 
-    @Override
-    public SolverMazeType getSolverMazeType() {
-        return SolverMazeType.A_STAR;
+        return Collections.emptyList();
     }
 
     /**
      * Метод для расчета эвристики - манхэттенского расстояния между точками для нахождения наиболее оптимального пути
      *
-     * @param a первая точка
-     * @param b вторая точка
+     * @param row строка первой точки
+     * @param col столбец первой точки
+     * @param finish вторая точка
      *
      * @return манхэттонское расстояние между точками
      */
-    private int heuristic(Coordinate a, Coordinate b) {
-        return Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+    private int heuristic(int row, int col, Coordinate finish) {
+        return Math.abs(row - finish.row()) + Math.abs(col - finish.col());
     }
 }
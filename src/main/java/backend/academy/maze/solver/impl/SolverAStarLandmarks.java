@@ -0,0 +1,62 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.LandmarkIndex;
+import backend.academy.maze.solver.MazeIndexCache;
+import java.util.List;
+
+/**
+ * Класс решателя лабиринта, основанный на алгоритме A* с эвристикой ALT (ориентиры и неравенство треугольника).
+ * Для лабиринта один раз строится {@link LandmarkIndex}, и повторные запросы к тому же лабиринту используют
+ * его нижние границы вместо манхэттенского расстояния. Индекс перестраивается, если запрошен другой лабиринт
+ * или содержимое лабиринта изменилось
+ */
+public class SolverAStarLandmarks extends SolverAStar {
+
+    private final MazeIndexCache<LandmarkIndex> index;
+
+    public SolverAStarLandmarks() {
+        this(LandmarkIndex.DEFAULT_LANDMARK_COUNT);
+    }
+
+    /**
+     * Конструктор решателя
+     *
+     * @param landmarkCount количество ориентиров индекса (больше 0)
+     */
+    public SolverAStarLandmarks(int landmarkCount) {
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("Количество ориентиров должно быть больше 0.");
+        }
+
+        this.index = new MazeIndexCache<>(maze -> new LandmarkIndex(maze, landmarkCount));
+    }
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        LandmarkIndex landmarkIndex = getIndex(maze);
+        int finishIndex = maze.index(finish.row(), finish.col());
+
+        return search(maze, start, finish, cell -> landmarkIndex.lowerBound(cell, finishIndex));
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.A_STAR_LANDMARKS;
+    }
+
+    /**
+     * Метод для получения индекса ориентиров, построенного для текущего содержимого лабиринта
+     *
+     * @param maze лабиринт
+     *
+     * @return индекс ориентиров лабиринта
+     */
+    public LandmarkIndex getIndex(Maze maze) {
+        return index.get(maze);
+    }
+}
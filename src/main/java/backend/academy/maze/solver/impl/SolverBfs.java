@@ -1,20 +1,16 @@
 package backend.academy.maze.solver.impl;
 
 import backend.academy.maze.enums.SolverMazeType;
-import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SearchScratch;
 import backend.academy.maze.solver.SolverMaze;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
 
 /**
- * Класс решателя лабиринта, основанный на алгоритме обхода в ширину
+ * Класс решателя лабиринта, основанный на алгоритме обхода в ширину.
+ * Очередь и родители хранятся в рабочих массивах потока ({@link SearchScratch}) по индексам упакованной сетки
  */
 public class SolverBfs extends SolverMaze {
 
@@ -22,55 +18,46 @@ public class SolverBfs extends SolverMaze {
     public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
         validateStartAndFinish(maze, start, finish);
 
-        // Очередь координат, которые нужно проверить
-        Queue<Coordinate> coordinateQueue = new LinkedList<>();
-        // Карта родительских клеток
-        Map<Coordinate, Coordinate> parentCoordinateMap = new HashMap<>();
+        SearchScratch scratch = SearchScratch.acquire(maze);
+        // Очередь клеток, которые нужно проверить. Каждая клетка попадает в нее не больше одного раза
+        int[] queue = scratch.buffer(0);
+        int head = 0;
+        int tail = 0;
 
-        coordinateQueue.add(start);
-        parentCoordinateMap.put(start, null);
+        int startIndex = maze.index(start.row(), start.col());
+        int finishIndex = maze.index(finish.row(), finish.col());
 
-        // вверх, вниз, влево, вправо
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+        scratch.visit(startIndex, NO_PARENT, 0);
+        queue[tail++] = startIndex;
 
-        while (!coordinateQueue.isEmpty()) {
-            Coordinate current = coordinateQueue.poll();
+        while (head < tail) {
+            int current = queue[head++];
 
-            if (current.equals(finish)) {
-                break;
+            if (current == finishIndex) {
+                return reconstructPath(maze, scratch.parents(), finishIndex);
             }
 
-            for (int[] direction : directions) {
-                int rowDirection = 0;
-                int colDirection = 1;
-                int newRow = current.row() + direction[rowDirection];
-                int newCol = current.col() + direction[colDirection];
+            int row = maze.row(current);
+            int col = maze.col(current);
 
-                Coordinate newCoordinate = new Coordinate(newRow, newCol);
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + ROW_DIRECTIONS[direction];
+                int newCol = col + COL_DIRECTIONS[direction];
 
-                if (!isCoordinateNotInBounds(newCoordinate, maze)
-                    && maze.grid()[newRow][newCol].type() != Cell.CellType.WALL
-                    && !parentCoordinateMap.containsKey(newCoordinate)
-                ) {
-                    coordinateQueue.add(newCoordinate);
-                    parentCoordinateMap.put(newCoordinate, current);
+                if (isCoordinateNotInBounds(newRow, newCol, maze)) {
+                    continue;
                 }
-            }
-        }
 
-        List<Coordinate> path = new ArrayList<>();
-
-        for (Coordinate at = finish; at != null; at = parentCoordinateMap.get(at)) {
-            path.add(at);
-        }
+                int neighbor = maze.index(newRow, newCol);
 
-        if (path.isEmpty() || !path.getLast().equals(start)) {
-            return List.of();
+                if (!scratch.isVisited(neighbor) && !maze.isWall(neighbor)) {
+                    scratch.visit(neighbor, current, scratch.distance(current) + 1);
+                    queue[tail++] = neighbor;
+                }
+            }
         }
 
-        Collections.reverse(path);
-
-        return path;
+        return Collections.emptyList();
     }
 
     @Override
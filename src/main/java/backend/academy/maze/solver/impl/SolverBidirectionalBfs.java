@@ -0,0 +1,187 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SearchScratch;
+import backend.academy.maze.solver.SolverMaze;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Класс решателя лабиринта, основанный на двунаправленном обходе в ширину.
+ * Фронты растут одновременно от стартовой и конечной клеток (каждый раз расширяется меньший фронт на целый уровень)
+ * и встречаются посередине, поэтому на длинных коридорах просматривается примерно вдвое меньше клеток.
+ * Фронты используют общие рабочие массивы потока ({@link SearchScratch}) и различаются метками посещения
+ */
+public class SolverBidirectionalBfs extends SolverMaze {
+
+    private static final int FORWARD_CELLS_SLOT = 0;
+    private static final int FORWARD_NEXT_SLOT = 1;
+    private static final int BACKWARD_CELLS_SLOT = 2;
+    private static final int BACKWARD_NEXT_SLOT = 3;
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        SearchScratch scratch = SearchScratch.acquire(maze);
+        int forwardMark = scratch.beginQuery(2);
+
+        Frontier forward = new Frontier(scratch, forwardMark, FORWARD_CELLS_SLOT, FORWARD_NEXT_SLOT,
+            maze.index(start.row(), start.col()));
+        Frontier backward = new Frontier(scratch, forwardMark + 1, BACKWARD_CELLS_SLOT, BACKWARD_NEXT_SLOT,
+            maze.index(finish.row(), finish.col()));
+
+        while (!forward.isEmpty() && !backward.isEmpty()) {
+            // Первая встреча фронтов при поуровневом расширении дает кратчайший путь
+            if (forward.size <= backward.size) {
+                if (expandLevel(maze, scratch, forward)) {
+                    return reconstructPath(maze, scratch.parents(), forward.meetingCell, forward.meetingNeighbor);
+                }
+            } else if (expandLevel(maze, scratch, backward)) {
+                return reconstructPath(maze, scratch.parents(), backward.meetingNeighbor, backward.meetingCell);
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.BIDIRECTIONAL_BFS;
+    }
+
+    /**
+     * Метод для расширения фронта на один уровень. При встрече с другим фронтом запоминает ребро встречи
+     *
+     * @param maze лабиринт
+     * @param scratch рабочие массивы
+     * @param frontier расширяемый фронт
+     *
+     * @return {@code true}, если фронты встретились
+     */
+    private boolean expandLevel(Maze maze, SearchScratch scratch, Frontier frontier) {
+        int levelSize = frontier.size;
+
+        frontier.size = 0;
+
+        for (int i = 0; i < levelSize; i++) {
+            int current = frontier.cells[i];
+            int row = maze.row(current);
+            int col = maze.col(current);
+
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + ROW_DIRECTIONS[direction];
+                int newCol = col + COL_DIRECTIONS[direction];
+
+                if (isCoordinateNotInBounds(newRow, newCol, maze)) {
+                    continue;
+                }
+
+                int neighbor = maze.index(newRow, newCol);
+
+                if (maze.isWall(neighbor)) {
+                    continue;
+                }
+
+                if (scratch.isVisited(neighbor)) {
+                    // Клетка другого фронта - фронты встретились на ребре (current, neighbor)
+                    if (scratch.mark(neighbor) != frontier.mark) {
+                        frontier.meetingCell = current;
+                        frontier.meetingNeighbor = neighbor;
+                        return true;
+                    }
+                    continue;
+                }
+
+                scratch.visit(neighbor, frontier.mark, current, 0);
+                frontier.next[frontier.nextSize++] = neighbor;
+            }
+        }
+
+        frontier.swap();
+
+        return false;
+    }
+
+    /**
+     * Метод для реконструкции пути через ребро встречи фронтов
+     *
+     * @param maze лабиринт
+     * @param parent общий массив родителей фронтов
+     * @param forwardCell клетка прямого фронта на ребре встречи
+     * @param backwardCell клетка обратного фронта на ребре встречи
+     *
+     * @return список координат пути от старта до конца
+     */
+    private List<Coordinate> reconstructPath(Maze maze, int[] parent, int forwardCell, int backwardCell) {
+        int forwardLength = 0;
+
+        for (int at = forwardCell; at != NO_PARENT; at = parent[at]) {
+            forwardLength++;
+        }
+
+        int backwardLength = 0;
+
+        for (int at = backwardCell; at != NO_PARENT; at = parent[at]) {
+            backwardLength++;
+        }
+
+        Coordinate[] path = new Coordinate[forwardLength + backwardLength];
+        int position = forwardLength;
+
+        for (int at = forwardCell; at != NO_PARENT; at = parent[at]) {
+            path[--position] = new Coordinate(maze.row(at), maze.col(at));
+        }
+
+        position = forwardLength;
+
+        for (int at = backwardCell; at != NO_PARENT; at = parent[at]) {
+            path[position++] = new Coordinate(maze.row(at), maze.col(at));
+        }
+
+        return Arrays.asList(path);
+    }
+
+    /**
+     * Фронт обхода в ширину: метка посещения, текущий уровень и буфер следующего уровня.
+     * Буферы - буферы индексов рабочих массивов длиной в размер лабиринта, поэтому не растут
+     */
+    private static final class Frontier {
+        private final int mark;
+        private int[] cells;
+        private int[] next;
+        private int size;
+        private int nextSize;
+        private int meetingCell;
+        private int meetingNeighbor;
+
+        private Frontier(SearchScratch scratch, int mark, int cellsSlot, int nextSlot, int root) {
+            this.mark = mark;
+            this.cells = scratch.buffer(cellsSlot);
+            this.next = scratch.buffer(nextSlot);
+
+            scratch.visit(root, mark, NO_PARENT, 0);
+            cells[0] = root;
+            size = 1;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        /**
+         * Метод для перехода к следующему уровню
+         */
+        private void swap() {
+            int[] level = cells;
+
+            cells = next;
+            size = nextSize;
+            next = level;
+            nextSize = 0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.DStarLite;
+import backend.academy.maze.solver.SolverMaze;
+import java.util.List;
+
+/**
+ * Класс решателя лабиринта, основанный на инкрементальном алгоритме D* Lite ({@link DStarLite}).
+ * Планировщик хранится между запросами к тому же лабиринту с той же конечной клеткой: если у лабиринта включен
+ * журнал изменений ({@link Maze#enableChangeLog(int)}), после изменения типов клеток
+ * ({@link Maze#setCellType(int, int, backend.academy.maze.maze.Cell.CellType)}) прежнее решение исправляется
+ * только в затронутой области, а стартовая клетка может меняться без перестроения. Как и {@link SolverDijkstra},
+ * находит путь с минимальной суммой весов клеток
+ */
+public class SolverDStarLite extends SolverMaze {
+
+    private volatile DStarLite planner;
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        return getPlanner(maze, finish).findPath(start);
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.D_STAR_LITE;
+    }
+
+    /**
+     * Метод для получения планировщика для лабиринта и конечной клетки. Планировщик создается при первом запросе
+     * и переиспользуется, пока запрашиваются тот же лабиринт и та же конечная клетка
+     *
+     * @param maze лабиринт
+     * @param finish конечная координата
+     *
+     * @return планировщик D* Lite
+     */
+    public DStarLite getPlanner(Maze maze, Coordinate finish) {
+        DStarLite current = planner;
+
+        if (current == null || !current.isBuiltFor(maze, finish)) {
+            current = new DStarLite(maze, finish);
+            planner = current;
+        }
+
+        return current;
+    }
+}
@@ -0,0 +1,449 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Класс решателя лабиринта, основанный на параллельном алгоритме delta-stepping.
+ * Клетки раскладываются по карманам ширины {@code delta} по расстоянию от старта. Карман обрабатывается фазами:
+ * сначала, пока карман не опустеет, параллельно ослабляются легкие ребра (вес не больше {@code delta}),
+ * которые могут вернуть клетки в тот же карман, затем один раз - тяжелые ребра всех извлеченных клеток.
+ * Расстояние и родитель клетки упакованы в одно {@code long} и обновляются атомарно (compare-and-set),
+ * поэтому параллельные ослабления не рассогласуют расстояние и родителя
+ */
+public class SolverDeltaStepping extends SolverMaze {
+
+    /**
+     * Ширина кармана по умолчанию - среднее значение весов проходимых клеток: примерно половина ребер
+     * оказывается легкими, а число фаз остается небольшим
+     */
+    public static final int DEFAULT_DELTA = getDefaultDelta();
+
+    private static final int MAX_WEIGHT = getMaxWeight();
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final int NOT_IN_BUCKET = -1;
+    private static final int DISTANCE_SHIFT = 32;
+    private static final long PARENT_MASK = 0xFFFFFFFFL;
+    /**
+     * Количество клеток, ослабляемых одной задачей. Меньшие наборы обрабатываются в вызывающем потоке без пула
+     */
+    private static final int CHUNK_SIZE = 2048;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final VarHandle STATE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int delta;
+    private final ForkJoinPool pool;
+
+    public SolverDeltaStepping() {
+        this(DEFAULT_DELTA, ForkJoinPool.commonPool());
+    }
+
+    public SolverDeltaStepping(ForkJoinPool pool) {
+        this(DEFAULT_DELTA, pool);
+    }
+
+    /**
+     * Конструктор решателя
+     *
+     * @param delta ширина кармана (больше 0)
+     * @param pool пул потоков для ослабления ребер
+     */
+    public SolverDeltaStepping(int delta, ForkJoinPool pool) {
+        if (delta <= 0) {
+            throw new IllegalArgumentException("Ширина кармана должна быть больше 0.");
+        }
+
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        int startIndex = maze.index(start.row(), start.col());
+        int finishIndex = maze.index(finish.row(), finish.col());
+
+        Search search = new Search(maze, startIndex);
+
+        search.run(finishIndex);
+
+        return search.isReached(finishIndex)
+            ? reconstructPath(maze, search.parents(), finishIndex)
+            : Collections.emptyList();
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.DELTA_STEPPING;
+    }
+
+    /**
+     * Метод для ослабления ребер из части клеток. Клетки, расстояние до которых уменьшилось, пишутся в буфер части
+     *
+     * @param maze лабиринт
+     * @param state упакованные расстояния и родители клеток
+     * @param cells клетки
+     * @param from начало части (включительно)
+     * @param to конец части (не включительно)
+     * @param isLight флаг ослабления легких ребер ({@code false} - тяжелых)
+     * @param buffer буфер улучшенных клеток части
+     */
+    private void relaxChunk(
+        Maze maze,
+        long[] state,
+        int[] cells,
+        int from,
+        int to,
+        boolean isLight,
+        CellBuffer buffer
+    ) {
+        buffer.clear();
+
+        for (int i = from; i < to; i++) {
+            int current = cells[i];
+            int distance = distanceOf((long) STATE.getOpaque(state, current));
+            int row = maze.row(current);
+            int col = maze.col(current);
+
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + ROW_DIRECTIONS[direction];
+                int newCol = col + COL_DIRECTIONS[direction];
+
+                if (isCoordinateNotInBounds(newRow, newCol, maze)) {
+                    continue;
+                }
+
+                int neighbor = maze.index(newRow, newCol);
+                int weight = maze.weight(neighbor);
+
+                if (maze.isWall(neighbor) || weight <= delta != isLight) {
+                    continue;
+                }
+
+                if (tryRelax(state, neighbor, current, distance + weight)) {
+                    buffer.add(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Метод для атомарного уменьшения расстояния до клетки
+     *
+     * @param state упакованные расстояния и родители клеток
+     * @param cell индекс клетки
+     * @param parent индекс нового родителя
+     * @param distance новое расстояние
+     *
+     * @return {@code true}, если расстояние уменьшено
+     */
+    private static boolean tryRelax(long[] state, int cell, int parent, int distance) {
+        long packed = pack(distance, parent);
+        long current = (long) STATE.getOpaque(state, cell);
+
+        while (distance < distanceOf(current)) {
+            long witness = (long) STATE.compareAndExchange(state, cell, current, packed);
+
+            if (witness == current) {
+                return true;
+            }
+
+            current = witness;
+        }
+
+        return false;
+    }
+
+    private static long pack(int distance, int parent) {
+        return (long) distance << DISTANCE_SHIFT | parent & PARENT_MASK;
+    }
+
+    private static int distanceOf(long packed) {
+        return (int) (packed >>> DISTANCE_SHIFT);
+    }
+
+    private static int parentOf(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Метод для получения максимального веса клетки
+     *
+     * @return максимальный вес клетки
+     */
+    private static int getMaxWeight() {
+        int maxWeight = 0;
+
+        for (Cell.CellType cellType : Cell.CellType.values()) {
+            maxWeight = Math.max(maxWeight, cellType.weight());
+        }
+
+        return maxWeight;
+    }
+
+    /**
+     * Метод для получения среднего веса клеток с положительным весом
+     *
+     * @return ширина кармана по умолчанию
+     */
+    private static int getDefaultDelta() {
+        int sum = 0;
+        int count = 0;
+
+        for (Cell.CellType cellType : Cell.CellType.values()) {
+            if (cellType.weight() > 0) {
+                sum += cellType.weight();
+                count++;
+            }
+        }
+
+        return Math.max(1, sum / Math.max(count, 1));
+    }
+
+    /**
+     * Состояние одного поиска: упакованные расстояния, кольцевой массив карманов и буферы частей
+     */
+    private final class Search {
+        private final Maze maze;
+        private final long[] state;
+        /**
+         * Номер кармана, в котором клетка ожидает обработки, или {@link SolverDeltaStepping#NOT_IN_BUCKET}.
+         * Исключает повторы клетки в одном кармане
+         */
+        private final int[] pendingKey;
+        /**
+         * Карманы хранятся по кругу: клетки в очереди отстоят от текущего кармана не дальше, чем на
+         * максимальный вес клетки
+         */
+        private final CellBuffer[] buckets = new CellBuffer[MAX_WEIGHT / delta + 2];
+        private final CellBuffer request = new CellBuffer();
+        private final CellBuffer settled = new CellBuffer();
+        private CellBuffer[] chunkBuffers = new CellBuffer[0];
+        /**
+         * Количество записей во всех карманах, включая устаревшие
+         */
+        private int pending;
+
+        private Search(Maze maze, int startIndex) {
+            this.maze = maze;
+            this.state = new long[maze.size()];
+            this.pendingKey = new int[maze.size()];
+
+            Arrays.fill(state, pack(UNREACHED, NO_PARENT));
+            Arrays.fill(pendingKey, NOT_IN_BUCKET);
+
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                buckets[bucket] = new CellBuffer();
+            }
+
+            state[startIndex] = pack(0, NO_PARENT);
+            push(startIndex);
+        }
+
+        /**
+         * Метод для обработки карманов по возрастанию, пока конечная клетка не окажется в обработанном кармане
+         *
+         * @param finishIndex индекс конечной клетки
+         */
+        private void run(int finishIndex) {
+            for (int key = 0; pending > 0; key++) {
+                CellBuffer bucket = buckets[key % buckets.length];
+
+                if (bucket.size == 0) {
+                    continue;
+                }
+
+                settled.clear();
+
+                while (bucket.size > 0) {
+                    takeRequest(bucket, key);
+                    settled.addAll(request);
+                    relax(request, true);
+                }
+
+                relax(settled, false);
+
+                // После обработки кармана расстояния меньше его верхней границы окончательны
+                if (isReached(finishIndex) && distanceOf(state[finishIndex]) / delta <= key) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Метод для переноса актуальных клеток кармана в набор для ослабления. Устаревшие записи
+         * (клетка уже переложена в карман с меньшим номером) пропускаются
+         *
+         * @param bucket карман
+         * @param key номер кармана
+         */
+        private void takeRequest(CellBuffer bucket, int key) {
+            request.clear();
+
+            for (int i = 0; i < bucket.size; i++) {
+                int cell = bucket.cells[i];
+
+                if (pendingKey[cell] == key) {
+                    pendingKey[cell] = NOT_IN_BUCKET;
+                    request.add(cell);
+                }
+            }
+
+            pending -= bucket.size;
+            bucket.clear();
+        }
+
+        /**
+         * Метод для параллельного ослабления легких или тяжелых ребер набора клеток
+         * и раскладки улучшенных клеток по карманам
+         *
+         * @param cells набор клеток
+         * @param isLight флаг ослабления легких ребер
+         */
+        private void relax(CellBuffer cells, boolean isLight) {
+            int chunks = (cells.size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            if (chunks == 0) {
+                return;
+            }
+
+            if (chunkBuffers.length < chunks) {
+                int oldLength = chunkBuffers.length;
+
+                chunkBuffers = Arrays.copyOf(chunkBuffers, chunks);
+
+                for (int chunk = oldLength; chunk < chunks; chunk++) {
+                    chunkBuffers[chunk] = new CellBuffer();
+                }
+            }
+
+            if (chunks == 1) {
+                relaxChunk(maze, state, cells.cells, 0, cells.size, isLight, chunkBuffers[0]);
+            } else {
+                pool.invoke(new RelaxTask(this, cells, isLight, 0, chunks));
+            }
+
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                CellBuffer buffer = chunkBuffers[chunk];
+
+                for (int i = 0; i < buffer.size; i++) {
+                    push(buffer.cells[i]);
+                }
+            }
+        }
+
+        /**
+         * Метод для добавления клетки в карман по ее текущему расстоянию, если она еще не ожидает в нем
+         *
+         * @param cell индекс клетки
+         */
+        private void push(int cell) {
+            int key = distanceOf(state[cell]) / delta;
+
+            if (pendingKey[cell] != key) {
+                pendingKey[cell] = key;
+                buckets[key % buckets.length].add(cell);
+                pending++;
+            }
+        }
+
+        private boolean isReached(int cell) {
+            return distanceOf(state[cell]) != UNREACHED;
+        }
+
+        /**
+         * Метод для получения массива родителей из упакованного состояния
+         *
+         * @return массив родителей
+         */
+        private int[] parents() {
+            int[] parent = new int[state.length];
+
+            for (int cell = 0; cell < state.length; cell++) {
+                parent[cell] = parentOf(state[cell]);
+            }
+
+            return parent;
+        }
+    }
+
+    /**
+     * Задача ослабления диапазона частей набора клеток. Диапазон делится пополам, пока не останется одна часть
+     */
+    private final class RelaxTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Search search;
+        private final transient CellBuffer cells;
+        private final boolean isLight;
+        private final int fromChunk;
+        private final int toChunk;
+
+        private RelaxTask(Search search, CellBuffer cells, boolean isLight, int fromChunk, int toChunk) {
+            this.search = search;
+            this.cells = cells;
+            this.isLight = isLight;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int from = fromChunk * CHUNK_SIZE;
+                int to = Math.min(from + CHUNK_SIZE, cells.size);
+
+                relaxChunk(search.maze, search.state, cells.cells, from, to, isLight,
+                    search.chunkBuffers[fromChunk]);
+                return;
+            }
+
+            int middle = (fromChunk + toChunk) >>> 1;
+
+            invokeAll(
+                new RelaxTask(search, cells, isLight, fromChunk, middle),
+                new RelaxTask(search, cells, isLight, middle, toChunk)
+            );
+        }
+    }
+
+    /**
+     * Растущий буфер индексов клеток. Переиспользуется между фазами
+     */
+    private static final class CellBuffer {
+        private int[] cells = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(int cell) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, size * 2);
+            }
+
+            cells[size++] = cell;
+        }
+
+        private void addAll(CellBuffer other) {
+            if (cells.length < size + other.size) {
+                cells = Arrays.copyOf(cells, Math.max(size + other.size, cells.length * 2));
+            }
+
+            System.arraycopy(other.cells, 0, cells, size, other.size);
+            size += other.size;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.DistanceField;
+import backend.academy.maze.solver.PathQuery;
+import backend.academy.maze.solver.SearchScratch;
+import backend.academy.maze.solver.SolverMaze;
+import backend.academy.maze.solver.queue.BucketQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Класс решателя лабиринта, основанный на алгоритме Дайала (алгоритм Дейкстры с карманной очередью).
+ * Веса клеток - небольшие целые числа, поэтому вместо кучи используется кольцевой массив карманов:
+ * добавление и извлечение клетки выполняются за O(1), а весь поиск - за линейное время
+ */
+public class SolverDial extends SolverMaze {
+
+    /**
+     * Наибольший общий делитель весов клеток. Расстояния кратны ему, поэтому карманы нумеруются в этих единицах
+     */
+    private static final int WEIGHT_STEP = getWeightStep();
+    /**
+     * Количество карманов: все клетки в очереди отстоят от текущей не дальше, чем на максимальный вес клетки
+     */
+    private static final int BUCKET_COUNT = getMaxWeight() / WEIGHT_STEP + 1;
+    /**
+     * Количество задач пакетного поиска на поток пула, чтобы выровнять нагрузку при группах разного размера
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        int finishIndex = maze.index(finish.row(), finish.col());
+        // Минимальные расстояния от старта и родители клеток - в рабочих массивах потока
+        SearchScratch scratch = SearchScratch.acquire(maze);
+
+        return search(maze, maze.index(start.row(), start.col()), finishIndex, scratch)
+            ? reconstructPath(maze, scratch.parents(), finishIndex)
+            : Collections.emptyList();
+    }
+
+    /**
+     * Метод для построения поля расстояний от стартовой клетки до всех клеток лабиринта.
+     * Поиск не останавливается на конечной клетке, поэтому пути до любого количества клеток
+     * извлекаются из результата без повторного поиска
+     *
+     * @param maze лабиринт
+     * @param start стартовая координата
+     *
+     * @return поле расстояний (сумм весов клеток пути без стартовой)
+     */
+    public DistanceField computeDistanceField(Maze maze, Coordinate start) {
+        validateStart(maze, start);
+
+        // Массивы поля переживают запрос, поэтому берутся не из пула потока
+        SearchScratch scratch = new SearchScratch(maze.size());
+
+        scratch.beginQuery(1);
+        search(maze, maze.index(start.row(), start.col()), NO_PARENT, scratch);
+        scratch.fillUnvisited();
+
+        return new DistanceField(maze, start, scratch.distances(), scratch.parents());
+    }
+
+    /**
+     * Метод для пакетного поиска путей. Запросы группируются по стартовой клетке: для группы с одной
+     * конечной клеткой поиск останавливается на ней, для остальных строится поле расстояний, из которого
+     * извлекаются все пути группы. Группы обрабатываются параллельно в {@link ForkJoinPool#commonPool()},
+     * каждая группа решается в рабочих массивах своего потока ({@link SearchScratch})
+     *
+     * @param maze лабиринт
+     * @param queries запросы пути
+     *
+     * @return список путей в порядке запросов
+     */
+    @Override
+    public List<List<Coordinate>> solveMazes(Maze maze, List<PathQuery> queries) {
+        for (PathQuery query : queries) {
+            validateStartAndFinish(maze, query.start(), query.finish());
+        }
+
+        Map<Coordinate, List<Integer>> groupMap = new LinkedHashMap<>();
+
+        for (int i = 0; i < queries.size(); i++) {
+            groupMap.computeIfAbsent(queries.get(i).start(), start -> new ArrayList<>()).add(i);
+        }
+
+        List<List<Integer>> groups = new ArrayList<>(groupMap.values());
+        // Задачи записывают пути по разным номерам, размер списка не меняется
+        List<List<Coordinate>> paths = new ArrayList<>(Collections.nCopies(queries.size(), null));
+        int groupsPerTask = Math.max(1, groups.size() / (ForkJoinPool.getCommonPoolParallelism() * TASKS_PER_THREAD));
+
+        ForkJoinPool.commonPool().invoke(new GroupTask(maze, queries, groups, paths, groupsPerTask, 0, groups.size()));
+
+        return paths;
+    }
+
+    /**
+     * Метод для решения группы запросов с общей стартовой клеткой
+     *
+     * @param maze лабиринт
+     * @param queries запросы пути
+     * @param group номера запросов группы
+     * @param paths список для записи путей
+     */
+    private void solveGroup(Maze maze, List<PathQuery> queries, List<Integer> group, List<List<Coordinate>> paths) {
+        Coordinate start = queries.get(group.getFirst()).start();
+        int startIndex = maze.index(start.row(), start.col());
+        // Для одной конечной клетки поиск останавливается на ней, иначе обходится весь лабиринт
+        int stopIndex = group.size() == 1
+            ? maze.index(queries.get(group.getFirst()).finish().row(), queries.get(group.getFirst()).finish().col())
+            : NO_PARENT;
+
+        SearchScratch scratch = SearchScratch.acquire(maze);
+
+        search(maze, startIndex, stopIndex, scratch);
+
+        for (int queryNumber : group) {
+            Coordinate finish = queries.get(queryNumber).finish();
+            int finishIndex = maze.index(finish.row(), finish.col());
+
+            paths.set(queryNumber, scratch.isVisited(finishIndex)
+                ? reconstructPath(maze, scratch.parents(), finishIndex)
+                : Collections.emptyList());
+        }
+    }
+
+    /**
+     * Метод для поиска кратчайших расстояний от стартовой клетки
+     *
+     * @param maze лабиринт
+     * @param startIndex индекс стартовой клетки
+     * @param finishIndex индекс конечной клетки, на которой поиск останавливается,
+     * или {@link SolverMaze#NO_PARENT} для обхода всего лабиринта
+     * @param scratch рабочие массивы с начатым запросом
+     *
+     * @return {@code true}, если конечная клетка достигнута
+     */
+    private boolean search(Maze maze, int startIndex, int finishIndex, SearchScratch scratch) {
+        BucketQueue queue = scratch.bucketQueue(BUCKET_COUNT);
+
+        scratch.visit(startIndex, NO_PARENT, 0);
+        queue.push(startIndex, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+
+            // Клетка уже была извлечена с меньшим расстоянием
+            if (scratch.distance(current) != queue.currentKey() * WEIGHT_STEP) {
+                continue;
+            }
+
+            if (current == finishIndex) {
+                return true;
+            }
+
+            int row = maze.row(current);
+            int col = maze.col(current);
+
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + ROW_DIRECTIONS[direction];
+                int newCol = col + COL_DIRECTIONS[direction];
+
+                if (isCoordinateNotInBounds(newRow, newCol, maze)) {
+                    continue;
+                }
+
+                int neighbor = maze.index(newRow, newCol);
+
+                if (maze.isWall(neighbor)) {
+                    continue;
+                }
+
+                int newDist = scratch.distance(current) + maze.weight(neighbor);
+
+                if (newDist < scratch.distance(neighbor)) {
+                    scratch.visit(neighbor, current, newDist);
+                    queue.push(neighbor, newDist / WEIGHT_STEP);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.DIAL;
+    }
+
+    /**
+     * Метод для получения максимального веса клетки
+     *
+     * @return максимальный вес клетки
+     */
+    private static int getMaxWeight() {
+        int maxWeight = 0;
+
+        for (Cell.CellType cellType : Cell.CellType.values()) {
+            maxWeight = Math.max(maxWeight, cellType.weight());
+        }
+
+        return maxWeight;
+    }
+
+    /**
+     * Метод для получения наибольшего общего делителя положительных весов клеток
+     *
+     * @return шаг весов клеток
+     */
+    private static int getWeightStep() {
+        int step = 0;
+
+        for (Cell.CellType cellType : Cell.CellType.values()) {
+            int weight = cellType.weight();
+
+            while (weight != 0) {
+                int remainder = step % weight;
+                step = weight;
+                weight = remainder;
+            }
+        }
+
+        return Math.max(step, 1);
+    }
+
+    /**
+     * Задача пакетного поиска для диапазона групп. Диапазон делится пополам до {@code groupsPerTask} групп,
+     * затем группы решаются последовательно в рабочих массивах потока
+     */
+    private final class GroupTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Maze maze;
+        private final transient List<PathQuery> queries;
+        private final transient List<List<Integer>> groups;
+        private final transient List<List<Coordinate>> paths;
+        private final int groupsPerTask;
+        private final int from;
+        private final int to;
+
+        private GroupTask(
+            Maze maze,
+            List<PathQuery> queries,
+            List<List<Integer>> groups,
+            List<List<Coordinate>> paths,
+            int groupsPerTask,
+            int from,
+            int to
+        ) {
+            this.maze = maze;
+            this.queries = queries;
+            this.groups = groups;
+            this.paths = paths;
+            this.groupsPerTask = groupsPerTask;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= groupsPerTask) {
+                for (int group = from; group < to; group++) {
+                    solveGroup(maze, queries, groups.get(group), paths);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+
+            invokeAll(
+                new GroupTask(maze, queries, groups, paths, groupsPerTask, from, middle),
+                new GroupTask(maze, queries, groups, paths, groupsPerTask, middle, to)
+            );
+        }
+    }
+}
@@ -1,19 +1,18 @@
 package backend.academy.maze.solver.impl;
 
 import backend.academy.maze.enums.SolverMazeType;
-import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SearchScratch;
 import backend.academy.maze.solver.SolverMaze;
+import backend.academy.maze.solver.queue.IndexedMinHeap;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
 
 /**
- * Класс решателя лабиринта, основанный на алгоритме Дейкстры
+ * Класс решателя лабиринта, основанный на алгоритме Дейкстры.
+ * Расстояния и родители хранятся в рабочих массивах потока ({@link SearchScratch}),
+ * очередь - индексированная куча с уменьшением приоритета
  */
 public class SolverDijkstra extends SolverMaze {
 
@@ -21,47 +20,45 @@ public class SolverDijkstra extends SolverMaze {
     public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
         validateStartAndFinish(maze, start, finish);
 
-        int height = maze.height();
-        int width = maze.width();
+        SearchScratch scratch = SearchScratch.acquire(maze);
+        // Выбирается клетка с наименьшим расстоянием от старта
+        IndexedMinHeap queue = scratch.heap();
 
-        Cell[][] grid = maze.grid();
+        int startIndex = maze.index(start.row(), start.col());
+        int finishIndex = maze.index(finish.row(), finish.col());
 
-        // Карта с минимальным расстоянием от старта до каждой точки
-        Map<Coordinate, Integer> distances = new HashMap<>();
-        // Карта родителей для каждой точки
-        Map<Coordinate, Coordinate> parent = new HashMap<>();
-        // Выбирается клетка с наименьшим весом
-        PriorityQueue<Coordinate> coordinateQueue = new PriorityQueue<>(Comparator.comparingInt(distances::get));
+        scratch.visit(startIndex, NO_PARENT, 0);
+        queue.insertOrDecrease(startIndex, 0);
 
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Coordinate coordinate = new Coordinate(row, col);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
 
-                distances.put(coordinate, Integer.MAX_VALUE);
+            if (current == finishIndex) {
+                return reconstructPath(maze, scratch.parents(), finishIndex);
             }
-        }
 
-        distances.put(start, 0);
-        coordinateQueue.add(start);
+            int row = maze.row(current);
+            int col = maze.col(current);
 
-        while (!coordinateQueue.isEmpty()) {
-            Coordinate current = coordinateQueue.poll();
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + ROW_DIRECTIONS[direction];
+                int newCol = col + COL_DIRECTIONS[direction];
 
-            if (current.equals(finish)) {
-                return reconstructPath(parent, finish);
-            }
+                if (isCoordinateNotInBounds(newRow, newCol, maze)) {
+                    continue;
+                }
+
+                int neighbor = maze.index(newRow, newCol);
 
-            for (Coordinate neighbor : getNeighborsOfCoordinate(current, height, width)) {
-                if (grid[neighbor.row()][neighbor.col()].type() == Cell.CellType.WALL) {
+                if (maze.isWall(neighbor)) {
                     continue;
                 }
 
-                int newDist = distances.get(current) + grid[neighbor.row()][neighbor.col()].type().weight();
+                int newDist = scratch.distance(current) + maze.weight(neighbor);
 
-                if (newDist < distances.get(neighbor)) {
-                    distances.put(neighbor, newDist);
-                    parent.put(neighbor, current);
-                    coordinateQueue.add(neighbor);
+                if (newDist < scratch.distance(neighbor)) {
+                    scratch.visit(neighbor, current, newDist);
+                    queue.insertOrDecrease(neighbor, newDist);
                 }
             }
         }
@@ -74,4 +71,3 @@ public class SolverDijkstra extends SolverMaze {
         return SolverMazeType.DIJKSTRA;
     }
 }
-
@@ -0,0 +1,61 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.HierarchicalIndex;
+import backend.academy.maze.solver.MazeIndexCache;
+import backend.academy.maze.solver.SolverMaze;
+import java.util.List;
+
+/**
+ * Класс решателя лабиринта, основанный на иерархическом поиске пути (HPA*).
+ * Для лабиринта один раз строится {@link HierarchicalIndex}, и повторные запросы к тому же лабиринту
+ * ищут путь по абстрактному графу входов кластеров, уточняя до клеток только кластеры на найденном пути.
+ * Индекс перестраивается, если запрошен другой лабиринт или содержимое лабиринта изменилось.
+ * Как и {@link SolverDijkstra}, находит путь с минимальной суммой весов клеток
+ */
+public class SolverHpaStar extends SolverMaze {
+
+    private final MazeIndexCache<HierarchicalIndex> index;
+
+    public SolverHpaStar() {
+        this(HierarchicalIndex.DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * Конструктор решателя
+     *
+     * @param clusterSize сторона кластера индекса (не меньше 2)
+     */
+    public SolverHpaStar(int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("Сторона кластера должна быть не меньше 2.");
+        }
+
+        this.index = new MazeIndexCache<>(maze -> new HierarchicalIndex(maze, clusterSize));
+    }
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        return getIndex(maze).findPath(start, finish);
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.HPA_STAR;
+    }
+
+    /**
+     * Метод для получения иерархического индекса, построенного для текущего содержимого лабиринта
+     *
+     * @param maze лабиринт
+     *
+     * @return иерархический индекс лабиринта
+     */
+    public HierarchicalIndex getIndex(Maze maze) {
+        return index.get(maze);
+    }
+}
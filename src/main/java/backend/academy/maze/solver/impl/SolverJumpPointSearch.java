@@ -0,0 +1,242 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SearchScratch;
+import backend.academy.maze.solver.SolverMaze;
+import backend.academy.maze.solver.queue.IndexedMinHeap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Класс решателя лабиринта, основанный на поиске по точкам прыжка (Jump Point Search) для 4-связной сетки
+ * с одинаковой стоимостью шага. Прямые участки без ответвлений проходятся сканированием сетки стен без обращения
+ * к очереди, а в кучу A* попадают только точки прыжка - клетки с вынужденными соседями, развилки и конечная клетка.
+ * Как и {@link SolverBfs}, находит путь с минимальным количеством шагов, веса клеток не учитываются
+ */
+public class SolverJumpPointSearch extends SolverMaze {
+
+    private static final int NO_JUMP_POINT = -1;
+    private static final int NO_DIRECTION = -1;
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        // Расстояния в рабочих массивах - количество шагов от старта, родители - предыдущие точки прыжка
+        SearchScratch scratch = SearchScratch.acquire(maze);
+        IndexedMinHeap openQueue = scratch.heap();
+
+        int startIndex = maze.index(start.row(), start.col());
+        int finishIndex = maze.index(finish.row(), finish.col());
+
+        scratch.visit(startIndex, NO_PARENT, 0);
+        openQueue.insertOrDecrease(startIndex, distance(maze, startIndex, finishIndex));
+
+        while (!openQueue.isEmpty()) {
+            int current = openQueue.poll();
+
+            if (current == finishIndex) {
+                return reconstructJumpPath(maze, scratch.parents(), finishIndex);
+            }
+
+            int backDirection = getBackDirection(maze, current, scratch.parents()[current]);
+
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                // Возврат к родителю никогда не дает более короткого пути
+                if (direction == backDirection) {
+                    continue;
+                }
+
+                int jumpPoint = jump(maze, current, direction, finishIndex);
+
+                if (jumpPoint == NO_JUMP_POINT) {
+                    continue;
+                }
+
+                int newDist = scratch.distance(current) + distance(maze, current, jumpPoint);
+
+                if (newDist < scratch.distance(jumpPoint)) {
+                    scratch.visit(jumpPoint, current, newDist);
+                    openQueue.insertOrDecrease(jumpPoint, newDist + distance(maze, jumpPoint, finishIndex));
+                }
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.JUMP_POINT_SEARCH;
+    }
+
+    /**
+     * Метод для поиска следующей точки прыжка в заданном направлении
+     *
+     * @param maze лабиринт
+     * @param from индекс клетки, из которой выполняется прыжок
+     * @param direction направление (индекс в {@link SolverMaze#ROW_DIRECTIONS})
+     * @param finishIndex индекс конечной клетки
+     *
+     * @return индекс точки прыжка или {@link SolverJumpPointSearch#NO_JUMP_POINT}, если направление тупиковое
+     */
+    private int jump(Maze maze, int from, int direction, int finishIndex) {
+        int row = maze.row(from);
+        int col = maze.col(from);
+
+        return ROW_DIRECTIONS[direction] == 0
+            ? jumpHorizontal(maze, row, col, COL_DIRECTIONS[direction], finishIndex)
+            : jumpVertical(maze, row, col, ROW_DIRECTIONS[direction], finishIndex);
+    }
+
+    /**
+     * Метод для прыжка по строке. Клетка - точка прыжка, если над или под ней открывается проход,
+     * закрытый у предыдущей клетки (вынужденный сосед)
+     *
+     * @param maze лабиринт
+     * @param row строка
+     * @param fromCol столбец клетки, из которой выполняется прыжок
+     * @param colStep шаг по столбцам (-1 или 1)
+     * @param finishIndex индекс конечной клетки
+     *
+     * @return индекс точки прыжка или {@link SolverJumpPointSearch#NO_JUMP_POINT}
+     */
+    private int jumpHorizontal(Maze maze, int row, int fromCol, int colStep, int finishIndex) {
+        for (int col = fromCol + colStep; isPassable(maze, row, col); col += colStep) {
+            int index = maze.index(row, col);
+
+            if (index == finishIndex
+                || isPassable(maze, row - 1, col) && !isPassable(maze, row - 1, col - colStep)
+                || isPassable(maze, row + 1, col) && !isPassable(maze, row + 1, col - colStep)) {
+                return index;
+            }
+        }
+
+        return NO_JUMP_POINT;
+    }
+
+    /**
+     * Метод для прыжка по столбцу. Кроме вынужденных соседей, клетка - точка прыжка, если из нее
+     * горизонтальный прыжок находит точку прыжка: иначе повороты с прямого вертикального участка были бы потеряны
+     *
+     * @param maze лабиринт
+     * @param fromRow строка клетки, из которой выполняется прыжок
+     * @param col столбец
+     * @param rowStep шаг по строкам (-1 или 1)
+     * @param finishIndex индекс конечной клетки
+     *
+     * @return индекс точки прыжка или {@link SolverJumpPointSearch#NO_JUMP_POINT}
+     */
+    private int jumpVertical(Maze maze, int fromRow, int col, int rowStep, int finishIndex) {
+        for (int row = fromRow + rowStep; isPassable(maze, row, col); row += rowStep) {
+            int index = maze.index(row, col);
+
+            if (index == finishIndex
+                || isPassable(maze, row, col - 1) && !isPassable(maze, row - rowStep, col - 1)
+                || isPassable(maze, row, col + 1) && !isPassable(maze, row - rowStep, col + 1)
+                || jumpHorizontal(maze, row, col, 1, finishIndex) != NO_JUMP_POINT
+                || jumpHorizontal(maze, row, col, -1, finishIndex) != NO_JUMP_POINT) {
+                return index;
+            }
+        }
+
+        return NO_JUMP_POINT;
+    }
+
+    /**
+     * Метод для проверки, что клетка внутри лабиринта (не на рамке) и не стена
+     *
+     * @param maze лабиринт
+     * @param row номер строки
+     * @param col номер столбца
+     *
+     * @return {@code true}, если по клетке можно пройти
+     */
+    private boolean isPassable(Maze maze, int row, int col) {
+        return !isCoordinateNotInBounds(row, col, maze) && !maze.isWall(row, col);
+    }
+
+    /**
+     * Метод для получения направления от клетки назад к ее родителю
+     *
+     * @param maze лабиринт
+     * @param cell индекс клетки
+     * @param parent индекс родителя (точки прыжка на той же строке или в том же столбце)
+     *
+     * @return индекс направления или {@link SolverJumpPointSearch#NO_DIRECTION}, если у клетки нет родителя
+     */
+    private int getBackDirection(Maze maze, int cell, int parent) {
+        if (parent == NO_PARENT) {
+            return NO_DIRECTION;
+        }
+
+        int rowStep = Integer.signum(maze.row(parent) - maze.row(cell));
+        int colStep = Integer.signum(maze.col(parent) - maze.col(cell));
+        int backDirection = NO_DIRECTION;
+
+        for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+            if (ROW_DIRECTIONS[direction] == rowStep && COL_DIRECTIONS[direction] == colStep) {
+                backDirection = direction;
+            }
+        }
+
+        return backDirection;
+    }
+
+    /**
+     * Метод для расчета манхэттенского расстояния между клетками. Для точек прыжка на одной прямой
+     * это количество шагов между ними, для остальных - допустимая эвристика
+     *
+     * @param maze лабиринт
+     * @param first индекс первой клетки
+     * @param second индекс второй клетки
+     *
+     * @return манхэттенское расстояние
+     */
+    private int distance(Maze maze, int first, int second) {
+        return Math.abs(maze.row(first) - maze.row(second)) + Math.abs(maze.col(first) - maze.col(second));
+    }
+
+    /**
+     * Метод для реконструкции пути по цепочке точек прыжка. Соседние точки прыжка лежат на одной прямой,
+     * поэтому промежуточные клетки восстанавливаются шагами вдоль нее
+     *
+     * @param maze лабиринт
+     * @param parent массив родителей (точек прыжка)
+     * @param finish индекс конечной клетки
+     *
+     * @return список координат пути от старта до конца
+     */
+    private List<Coordinate> reconstructJumpPath(Maze maze, int[] parent, int finish) {
+        int length = 1;
+        int start = finish;
+
+        for (; parent[start] != NO_PARENT; start = parent[start]) {
+            length += distance(maze, start, parent[start]);
+        }
+
+        Coordinate[] path = new Coordinate[length];
+        int position = length;
+
+        for (int at = finish; parent[at] != NO_PARENT; at = parent[at]) {
+            int row = maze.row(at);
+            int col = maze.col(at);
+            int rowStep = Integer.signum(maze.row(parent[at]) - row);
+            int colStep = Integer.signum(maze.col(parent[at]) - col);
+
+            // Клетки от точки прыжка до ее родителя (не включая родителя)
+            for (int step = distance(maze, at, parent[at]); step > 0; step--) {
+                path[--position] = new Coordinate(row, col);
+                row += rowStep;
+                col += colStep;
+            }
+        }
+
+        path[--position] = new Coordinate(maze.row(start), maze.col(start));
+
+        return Arrays.asList(path);
+    }
+}
@@ -0,0 +1,43 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.JunctionGraph;
+import backend.academy.maze.solver.MazeIndexCache;
+import backend.academy.maze.solver.SolverMaze;
+import java.util.List;
+
+/**
+ * Класс решателя лабиринта, основанный на графе развилок ({@link JunctionGraph}): тупики заливаются,
+ * коридоры стягиваются во взвешенные ребра, а алгоритм Дейкстры работает только на оставшихся развилках.
+ * Граф строится при первом запросе к лабиринту и перестраивается, если запрошен другой лабиринт
+ * или содержимое лабиринта изменилось. Как и {@link SolverDijkstra}, находит путь с минимальной суммой весов клеток
+ */
+public class SolverJunctionGraph extends SolverMaze {
+
+    private final MazeIndexCache<JunctionGraph> graph = new MazeIndexCache<>(JunctionGraph::new);
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        return getGraph(maze).findPath(start, finish);
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.JUNCTION_GRAPH;
+    }
+
+    /**
+     * Метод для получения графа развилок, построенного для текущего содержимого лабиринта
+     *
+     * @param maze лабиринт
+     *
+     * @return граф развилок лабиринта
+     */
+    public JunctionGraph getGraph(Maze maze) {
+        return graph.get(maze);
+    }
+}
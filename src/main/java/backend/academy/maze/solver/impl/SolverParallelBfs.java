@@ -0,0 +1,218 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.enums.SolverMazeType;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Класс решателя лабиринта, основанный на параллельном поуровневом обходе в ширину.
+ * Каждый уровень (фронт) делится на части, которые обрабатываются параллельно в {@link ForkJoinPool}.
+ * Клетка захватывается атомарной записью родителя (compare-and-set), поэтому попадает в следующий фронт один раз.
+ * Каждая часть пишет новые клетки в собственный буфер, после уровня буферы склеиваются в следующий фронт
+ */
+public class SolverParallelBfs extends SolverMaze {
+
+    /**
+     * Клетка еще не посещена
+     */
+    private static final int UNVISITED = -2;
+    /**
+     * Количество клеток фронта, обрабатываемых одной задачей. Фронт меньше этого размера обрабатывается
+     * в вызывающем потоке без пула
+     */
+    private static final int CHUNK_SIZE = 4096;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final VarHandle PARENT = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final ForkJoinPool pool;
+
+    public SolverParallelBfs() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SolverParallelBfs(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public List<Coordinate> solveMaze(Maze maze, Coordinate start, Coordinate finish) {
+        validateStartAndFinish(maze, start, finish);
+
+        int startIndex = maze.index(start.row(), start.col());
+        int finishIndex = maze.index(finish.row(), finish.col());
+
+        // Родитель каждой клетки. Одновременно служит множеством посещенных клеток
+        int[] parent = new int[maze.size()];
+
+        Arrays.fill(parent, UNVISITED);
+        parent[startIndex] = NO_PARENT;
+
+        Level level = new Level(maze, parent);
+
+        level.frontier[0] = startIndex;
+        level.size = 1;
+
+        while (level.size > 0 && parent[finishIndex] == UNVISITED) {
+            level.expand();
+        }
+
+        return parent[finishIndex] == UNVISITED
+            ? Collections.emptyList()
+            : reconstructPath(maze, parent, finishIndex);
+    }
+
+    @Override
+    public SolverMazeType getSolverMazeType() {
+        return SolverMazeType.PARALLEL_BFS;
+    }
+
+    /**
+     * Метод для обработки части фронта: захват непосещенных соседей и запись их в буфер части
+     *
+     * @param maze лабиринт
+     * @param parent родители клеток
+     * @param frontier текущий фронт
+     * @param from начало части (включительно)
+     * @param to конец части (не включительно)
+     * @param buffer буфер следующего фронта части
+     */
+    private void expandChunk(Maze maze, int[] parent, int[] frontier, int from, int to, ChunkBuffer buffer) {
+        buffer.size = 0;
+
+        for (int i = from; i < to; i++) {
+            int current = frontier[i];
+            int row = maze.row(current);
+            int col = maze.col(current);
+
+            for (int direction = 0; direction < ROW_DIRECTIONS.length; direction++) {
+                int newRow = row + ROW_DIRECTIONS[direction];
+                int newCol = col + COL_DIRECTIONS[direction];
+
+                if (isCoordinateNotInBounds(newRow, newCol, maze)) {
+                    continue;
+                }
+
+                int neighbor = maze.index(newRow, newCol);
+
+                // Обычное чтение отсекает большинство посещенных клеток до дорогой атомарной операции
+                if (parent[neighbor] == UNVISITED
+                    && !maze.isWall(neighbor)
+                    && PARENT.compareAndSet(parent, neighbor, UNVISITED, current)) {
+                    buffer.add(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Текущий уровень обхода: фронт и буферы частей для построения следующего фронта
+     */
+    private final class Level {
+        private final Maze maze;
+        private final int[] parent;
+        private int[] frontier = new int[INITIAL_CAPACITY];
+        private int size;
+        private ChunkBuffer[] buffers = new ChunkBuffer[0];
+
+        private Level(Maze maze, int[] parent) {
+            this.maze = maze;
+            this.parent = parent;
+        }
+
+        /**
+         * Метод для перехода к следующему уровню
+         */
+        private void expand() {
+            int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+            if (buffers.length < chunks) {
+                int oldLength = buffers.length;
+
+                buffers = Arrays.copyOf(buffers, chunks);
+
+                for (int chunk = oldLength; chunk < chunks; chunk++) {
+                    buffers[chunk] = new ChunkBuffer();
+                }
+            }
+
+            if (chunks == 1) {
+                expandChunk(maze, parent, frontier, 0, size, buffers[0]);
+            } else {
+                pool.invoke(new LevelTask(this, 0, chunks));
+            }
+
+            int nextSize = 0;
+
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                nextSize += buffers[chunk].size;
+            }
+
+            if (frontier.length < nextSize) {
+                frontier = new int[Math.max(nextSize, frontier.length * 2)];
+            }
+
+            size = 0;
+
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                System.arraycopy(buffers[chunk].cells, 0, frontier, size, buffers[chunk].size);
+                size += buffers[chunk].size;
+            }
+        }
+    }
+
+    /**
+     * Задача обработки диапазона частей фронта. Диапазон делится пополам, пока не останется одна часть
+     */
+    private final class LevelTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Level level;
+        private final int fromChunk;
+        private final int toChunk;
+
+        private LevelTask(Level level, int fromChunk, int toChunk) {
+            this.level = level;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                int from = fromChunk * CHUNK_SIZE;
+                int to = Math.min(from + CHUNK_SIZE, level.size);
+
+                expandChunk(level.maze, level.parent, level.frontier, from, to, level.buffers[fromChunk]);
+                return;
+            }
+
+            int middle = (fromChunk + toChunk) >>> 1;
+
+            invokeAll(new LevelTask(level, fromChunk, middle), new LevelTask(level, middle, toChunk));
+        }
+    }
+
+    /**
+     * Буфер новых клеток одной части фронта. Переиспользуется между уровнями
+     */
+    private static final class ChunkBuffer {
+        private int[] cells = new int[INITIAL_CAPACITY];
+        private int size;
+
+        private void add(int cell) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, size * 2);
+            }
+
+            cells[size++] = cell;
+        }
+    }
+}
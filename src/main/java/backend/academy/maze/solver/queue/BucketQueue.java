@@ -0,0 +1,108 @@
+package backend.academy.maze.solver.queue;
+
+import java.util.Arrays;
+
+/**
+ * Кольцевая карманная очередь с приоритетом по целочисленному ключу.
+ * Карман с номером {@code key % bucketCount} хранит элементы с ключом {@code key}, поэтому все ключи в очереди
+ * должны отстоять от минимального меньше, чем на {@code bucketCount}. Добавление и извлечение выполняются за O(1).
+ * Устаревшие записи не удаляются, а пропускаются вызывающим кодом при извлечении.
+ * Очередь выделяет память один раз и может переиспользоваться после {@link BucketQueue#clear()}
+ */
+public class BucketQueue {
+
+    private static final int INITIAL_BUCKET_CAPACITY = 16;
+
+    /**
+     * Карманы с элементами
+     */
+    private final int[][] buckets;
+    /**
+     * Количество элементов в каждом кармане
+     */
+    private final int[] sizes;
+    /**
+     * Общее количество элементов в очереди
+     */
+    private int size;
+    /**
+     * Ключ последнего извлеченного элемента (минимальный ключ в очереди)
+     */
+    private int currentKey;
+
+    /**
+     * Конструктор очереди
+     *
+     * @param bucketCount количество карманов (больше максимальной разницы ключей в очереди)
+     */
+    public BucketQueue(int bucketCount) {
+        buckets = new int[bucketCount][INITIAL_BUCKET_CAPACITY];
+        sizes = new int[bucketCount];
+    }
+
+    /**
+     * Метод для получения количества карманов
+     *
+     * @return количество карманов
+     */
+    public int bucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Метод для добавления элемента в очередь
+     *
+     * @param element элемент
+     * @param key ключ (не меньше текущего минимального)
+     */
+    public void push(int element, int key) {
+        int bucket = key % buckets.length;
+
+        if (sizes[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], sizes[bucket] * 2);
+        }
+
+        buckets[bucket][sizes[bucket]++] = element;
+        size++;
+    }
+
+    /**
+     * Метод для извлечения элемента с минимальным ключом
+     *
+     * @return элемент
+     */
+    public int poll() {
+        int bucket = currentKey % buckets.length;
+
+        while (sizes[bucket] == 0) {
+            currentKey++;
+            bucket = currentKey % buckets.length;
+        }
+
+        size--;
+
+        return buckets[bucket][--sizes[bucket]];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Метод для получения ключа последнего извлеченного элемента
+     *
+     * @return текущий минимальный ключ
+     */
+    public int currentKey() {
+        return currentKey;
+    }
+
+    /**
+     * Метод для очистки очереди. Емкость карманов сохраняется
+     */
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        size = 0;
+        currentKey = 0;
+    }
+}
@@ -0,0 +1,220 @@
+package backend.academy.maze.solver.queue;
+
+import java.util.Arrays;
+
+/**
+ * Индексированная двоичная min-куча над целыми элементами {@code 0..capacity-1} с целыми приоритетами.
+ * Хранит позицию каждого элемента в куче, поэтому поддерживает проверку наличия за O(1)
+ * и уменьшение приоритета (decrease-key) за O(log n) без дубликатов в очереди.
+ * Куча выделяет память один раз и может переиспользоваться после {@link IndexedMinHeap#clear()}
+ */
+public class IndexedMinHeap {
+
+    private static final int ABSENT = -1;
+
+    /**
+     * Элементы в порядке кучи
+     */
+    private final int[] heap;
+    /**
+     * Позиция элемента в куче или {@link IndexedMinHeap#ABSENT}
+     */
+    private final int[] positions;
+    /**
+     * Приоритет элемента (актуален, только пока элемент в куче)
+     */
+    private final int[] priorities;
+    private int size;
+
+    /**
+     * Конструктор кучи
+     *
+     * @param capacity количество возможных элементов
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new int[capacity];
+
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * Метод для получения количества возможных элементов
+     *
+     * @return вместимость кучи
+     */
+    public int capacity() {
+        return heap.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод для проверки наличия элемента в куче
+     *
+     * @param element элемент
+     *
+     * @return {@code true}, если элемент в куче
+     */
+    public boolean contains(int element) {
+        return positions[element] != ABSENT;
+    }
+
+    /**
+     * Метод для получения приоритета элемента, находящегося в куче
+     *
+     * @param element элемент
+     *
+     * @return приоритет элемента
+     */
+    public int priority(int element) {
+        return priorities[element];
+    }
+
+    /**
+     * Метод для добавления элемента или уменьшения его приоритета, если элемент уже в куче.
+     * Если элемент уже в куче с меньшим или равным приоритетом, ничего не меняется
+     *
+     * @param element элемент
+     * @param priority приоритет
+     */
+    public void insertOrDecrease(int element, int priority) {
+        int position = positions[element];
+
+        if (position == ABSENT) {
+            position = size++;
+            heap[position] = element;
+            positions[element] = position;
+        } else if (priority >= priorities[element]) {
+            return;
+        }
+
+        priorities[element] = priority;
+        siftUp(position);
+    }
+
+    /**
+     * Метод для получения элемента с минимальным приоритетом без извлечения
+     *
+     * @return элемент с минимальным приоритетом
+     */
+    public int peek() {
+        return heap[0];
+    }
+
+    /**
+     * Метод для извлечения элемента с минимальным приоритетом
+     *
+     * @return элемент с минимальным приоритетом
+     */
+    public int poll() {
+        int min = heap[0];
+
+        positions[min] = ABSENT;
+        size--;
+
+        if (size > 0) {
+            int last = heap[size];
+
+            heap[0] = last;
+            positions[last] = 0;
+            siftDown(0);
+        }
+
+        return min;
+    }
+
+    /**
+     * Метод для удаления элемента из кучи (если он там есть)
+     *
+     * @param element элемент
+     */
+    public void remove(int element) {
+        int position = positions[element];
+
+        if (position == ABSENT) {
+            return;
+        }
+
+        positions[element] = ABSENT;
+        size--;
+
+        if (position < size) {
+            int last = heap[size];
+
+            heap[position] = last;
+            positions[last] = position;
+            siftDown(position);
+            siftUp(positions[last]);
+        }
+    }
+
+    /**
+     * Метод для очистки кучи. Работает за время, пропорциональное количеству оставшихся элементов
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int element = heap[position];
+        int priority = priorities[element];
+        int current = position;
+
+        while (current > 0) {
+            int parent = (current - 1) >>> 1;
+            int parentElement = heap[parent];
+
+            if (priorities[parentElement] <= priority) {
+                break;
+            }
+
+            heap[current] = parentElement;
+            positions[parentElement] = current;
+            current = parent;
+        }
+
+        heap[current] = element;
+        positions[element] = current;
+    }
+
+    private void siftDown(int position) {
+        int element = heap[position];
+        int priority = priorities[element];
+        int current = position;
+        int half = size >>> 1;
+
+        while (current < half) {
+            int child = 2 * current + 1;
+            int right = child + 1;
+
+            if (right < size && priorities[heap[right]] < priorities[heap[child]]) {
+                child = right;
+            }
+
+            int childElement = heap[child];
+
+            if (priority <= priorities[childElement]) {
+                break;
+            }
+
+            heap[current] = childElement;
+            positions[childElement] = current;
+            current = child;
+        }
+
+        heap[current] = element;
+        positions[element] = current;
+    }
+}
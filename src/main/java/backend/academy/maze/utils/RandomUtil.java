@@ -1,22 +1,25 @@
 package backend.academy.maze.utils;
 
-import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.experimental.UtilityClass;
 
+/**
+ * Утилитарный класс для случайного выбора в пользовательском сценарии (выбор генератора, размеров, координат).
+ * Каждый поток использует собственный {@link ThreadLocalRandom}, поэтому вызовы из разных потоков не конкурируют.
+ * Генерация лабиринта использует собственный источник случайных чисел генератора
+ */
 @UtilityClass
 public class RandomUtil {
 
-    private final static SecureRandom RANDOM = new SecureRandom();
-
     public static int getRandomInt(int min, int max) {
-        return RANDOM.nextInt(min, max);
+        return ThreadLocalRandom.current().nextInt(min, max);
     }
 
     public static int getRandomInt(int max) {
-        return RANDOM.nextInt(max);
+        return ThreadLocalRandom.current().nextInt(max);
     }
 
     public static boolean getRandomBoolean() {
-        return RANDOM.nextBoolean();
+        return ThreadLocalRandom.current().nextBoolean();
     }
 }
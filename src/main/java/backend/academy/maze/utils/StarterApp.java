@@ -9,6 +9,7 @@ import backend.academy.maze.maze.Cell;
 import backend.academy.maze.parser.ParserMazeParameters;
 import backend.academy.maze.renderer.RendererMaze;
 import backend.academy.maze.renderer.impl.RendererMazeImpl;
+import backend.academy.maze.solver.PathCache;
 import backend.academy.maze.terminal.TerminalParametersIdentifier;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -48,7 +49,7 @@ public class StarterApp {
             RendererMaze rendererMaze = new RendererMazeImpl();
 
             ParserMazeParameters parserMazeParameters = new ParserMazeParameters(scanner, writer);
-            MazeHandler mazeHandler = new MazeHandler(parserMazeParameters, scanner, writer);
+            MazeHandler mazeHandler = new MazeHandler(parserMazeParameters, scanner, writer, new PathCache());
 
             mazeHandler.handleMaze(generatorMaze, rendererMaze);
         }
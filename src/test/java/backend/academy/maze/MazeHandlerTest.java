@@ -7,6 +7,7 @@ import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
 import backend.academy.maze.parser.ParserMazeParameters;
 import backend.academy.maze.renderer.RendererMaze;
+import backend.academy.maze.solver.PathCache;
 import backend.academy.maze.solver.SolverMaze;
 import java.io.PrintWriter;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -45,6 +47,9 @@ public class MazeHandlerTest {
     @Mock
     RendererMaze rendererMaze;
 
+    @Spy
+    PathCache pathCache = new PathCache();
+
     @InjectMocks
     MazeHandler mazeHandler;
 
@@ -68,9 +73,6 @@ public class MazeHandlerTest {
         when(parserMazeParameters.parseStartCoordinate(maze)).thenReturn(startCoordinate);
         when(parserMazeParameters.parseFinishCoordinate(maze, startCoordinate)).thenReturn(finishCoordinate);
 
-        when(rendererMaze.renderMaze(maze)).thenReturn("Предположим лабиринт");
-        when(rendererMaze.renderMazeWithPath(maze, List.of())).thenReturn("Предположим путь");
-
         SolverMaze solverMaze = mock(SolverMaze.class);
         when(solverMaze.solveMaze(maze, startCoordinate, finishCoordinate))
             .thenReturn(List.of());
@@ -82,11 +84,12 @@ public class MazeHandlerTest {
             mazeHandler.handleMaze(generatorMaze, rendererMaze);
 
             verify(printWriter).println("\nВысота лабиринта: 10\nШирина лабиринта: 10" + continueMessage);
-            verify(printWriter).println("\nЛабиринт:\nПредположим лабиринт");
+            verify(printWriter).println("\nЛабиринт:");
+            verify(rendererMaze).renderMaze(maze, printWriter);
             verify(printWriter).println("\nСтартовая координата: (1; 1)\nКонечная координата: (8; 8)"
                 + continueMessage);
-            verify(printWriter)
-                .println("Предположим путь");
+            verify(pathCache).solveMaze(solverMaze, maze, startCoordinate, finishCoordinate);
+            verify(rendererMaze).renderMazeWithPath(maze, List.of(), printWriter);
         }
     }
 }
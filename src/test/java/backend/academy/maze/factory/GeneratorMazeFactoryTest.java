@@ -2,6 +2,7 @@ package backend.academy.maze.factory;
 
 import backend.academy.maze.generator.GeneratorMaze;
 import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.generator.impl.GeneratorEller;
 import backend.academy.maze.generator.impl.GeneratorKruskal;
 import backend.academy.maze.generator.impl.GeneratorPrim;
 import backend.academy.maze.utils.RandomUtil;
@@ -61,6 +62,7 @@ public class GeneratorMazeFactoryTest {
             Arguments.of("1", GeneratorDfs.class),
             Arguments.of("2", GeneratorKruskal.class),
             Arguments.of("3", GeneratorPrim.class),
+            Arguments.of("4", GeneratorEller.class),
             Arguments.of("не знаю", GeneratorDfs.class),
             Arguments.of("", GeneratorDfs.class)
         );
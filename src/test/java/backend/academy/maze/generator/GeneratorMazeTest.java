@@ -1,11 +1,17 @@
 package backend.academy.maze.generator;
 
 import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.generator.impl.GeneratorEller;
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.generator.impl.GeneratorPrim;
+import backend.academy.maze.maze.Maze;
+import java.util.function.LongFunction;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Тесты класса GeneratorMaze")
@@ -32,4 +38,27 @@ public class GeneratorMazeTest {
             Arguments.of(5, 200, 100, 150)
         );
     }
+
+    @DisplayName("Тест воспроизводимости генерации при одинаковом зерне")
+    @ParameterizedTest(name = "генератор: {0}")
+    @MethodSource("provideDataTestSameSeed")
+    void testSameSeedProducesSameMaze(String name, LongFunction<GeneratorMaze> generatorBySeed) {
+        long seed = 42L;
+
+        Maze firstMaze = generatorBySeed.apply(seed).generateMaze(50, 60);
+        Maze secondMaze = generatorBySeed.apply(seed).generateMaze(50, 60);
+        Maze otherMaze = generatorBySeed.apply(seed + 1).generateMaze(50, 60);
+
+        assertThat(secondMaze.grid()).isDeepEqualTo(firstMaze.grid());
+        assertThat(otherMaze.grid()).isNotEqualTo(firstMaze.grid());
+    }
+
+    static Stream<Arguments> provideDataTestSameSeed() {
+        return Stream.of(
+            Arguments.of("DFS", (LongFunction<GeneratorMaze>) seed -> new GeneratorDfs(100, 100, seed)),
+            Arguments.of("Kruskal", (LongFunction<GeneratorMaze>) seed -> new GeneratorKruskal(100, 100, seed)),
+            Arguments.of("Prim", (LongFunction<GeneratorMaze>) seed -> new GeneratorPrim(100, 100, seed)),
+            Arguments.of("Eller", (LongFunction<GeneratorMaze>) seed -> new GeneratorEller(100, 100, seed))
+        );
+    }
 }
@@ -36,4 +36,27 @@ public class GeneratorDfsTest {
             .allMatch(cell -> cell.type() == Cell.CellType.WALL || cell.type() == Cell.CellType.PASSAGE))
             .isTrue();
     }
+
+    @DisplayName("Тест генерации большого идеального лабиринта без переполнения стека")
+    @Test
+    void testGenerateLargeMazeWithoutStackOverflow() {
+        int height = 1001;
+        int width = 2001;
+
+        GeneratorMaze generatorMaze = new GeneratorDfs(height, width);
+
+        Maze maze = generatorMaze.generateMaze(height, width);
+
+        long nodes = (long) (height / 2 + 1) * (width / 2 + 1);
+        long passages = 0;
+
+        for (int index = 0; index < maze.size(); index++) {
+            if (!maze.isWall(index)) {
+                passages++;
+            }
+        }
+
+        // Идеальный лабиринт - остовное дерево: все узлы соединены, проходов между ними на один меньше
+        assertThat(passages).isEqualTo(2 * nodes - 1);
+    }
 }
@@ -0,0 +1,127 @@
+package backend.academy.maze.generator.impl;
+
+import backend.academy.maze.generator.GeneratorMaze;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Maze;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тесты класса GeneratorEller")
+public class GeneratorEllerTest {
+
+    @DisplayName("Тест создания лабиринта с корректными размерами, в котором все узлы связаны")
+    @ParameterizedTest(name = "высота = {0}, ширина = {1}")
+    @CsvSource({"100, 100", "99, 101", "3, 3", "4, 50"})
+    void testGenerateMaze(int expectedHeight, int expectedWidth) {
+        GeneratorMaze generatorMaze = new GeneratorEller(200, 200);
+
+        Maze maze = generatorMaze.generateMaze(expectedHeight, expectedWidth);
+
+        assertThat(maze.height() - 2).isEqualTo(expectedHeight);
+        assertThat(maze.width() - 2).isEqualTo(expectedWidth);
+        assertThat(isFrameClosed(maze)).isTrue();
+        assertThat(areAllNodesConnected(maze)).isTrue();
+    }
+
+    @DisplayName("Тест того, что потоковая генерация совпадает с генерацией лабиринта при одинаковом зерне")
+    @Test
+    void testStreamingMatchesGeneratedMaze() {
+        Maze maze = new GeneratorEller(100, 100, 7L).generateMaze(40, 30);
+        Cell.CellType[][] streamedRows = new Cell.CellType[maze.height()][];
+
+        new GeneratorEller(100, 100, 7L).generateRows(40, 30, (row, cells) -> streamedRows[row] = cells.clone());
+
+        for (int row = 0; row < maze.height(); row++) {
+            for (int col = 0; col < maze.width(); col++) {
+                assertThat(streamedRows[row][col]).isEqualTo(maze.cellType(row, col));
+            }
+        }
+    }
+
+    @DisplayName("Тест потоковой генерации лабиринта больше максимального размера терминала")
+    @Test
+    void testStreamingIgnoresTerminalSize() {
+        int height = 200_001;
+        int width = 21;
+
+        Iterator<Cell.CellType[]> rows = new GeneratorEller(10, 10).rowIterator(height, width);
+        int rowsCount = 0;
+
+        while (rows.hasNext()) {
+            assertThat(rows.next()).hasSize(width + 2);
+            rowsCount++;
+        }
+
+        assertThat(rowsCount).isEqualTo(height + 2);
+    }
+
+    @DisplayName("Тест валидации при потоковой генерации")
+    @Test
+    void testStreamingValidation() {
+        GeneratorEller generator = new GeneratorEller(10, 10);
+
+        assertThatThrownBy(() -> generator.rowIterator(2, 100))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Высота и ширина лабиринта должны быть больше 3.");
+    }
+
+    private boolean isFrameClosed(Maze maze) {
+        for (int col = 0; col < maze.width(); col++) {
+            if (!maze.isWall(0, col) || !maze.isWall(maze.height() - 1, col)) {
+                return false;
+            }
+        }
+
+        for (int row = 0; row < maze.height(); row++) {
+            if (!maze.isWall(row, 0) || !maze.isWall(row, maze.width() - 1)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean areAllNodesConnected(Maze maze) {
+        boolean[] visited = new boolean[maze.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        int[] rowDirections = {-1, 1, 0, 0};
+        int[] colDirections = {0, 0, -1, 1};
+
+        visited[maze.index(1, 1)] = true;
+        queue.add(maze.index(1, 1));
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+
+            for (int direction = 0; direction < rowDirections.length; direction++) {
+                int neighbor = maze.index(
+                    maze.row(current) + rowDirections[direction],
+                    maze.col(current) + colDirections[direction]
+                );
+
+                if (!visited[neighbor] && !maze.isWall(neighbor)) {
+                    visited[neighbor] = true;
+                    queue.add(neighbor);
+                }
+            }
+        }
+
+        for (int row = 1; row < maze.height() - 1; row += 2) {
+            for (int col = 1; col < maze.width() - 1; col += 2) {
+                if (!visited[maze.index(row, col)]) {
+                    return false;
+                }
+            }
+        }
+
+        return Arrays.stream(maze.grid()).flatMap(Arrays::stream).anyMatch(cell -> cell.type() != Cell.CellType.WALL);
+    }
+}
@@ -2,9 +2,12 @@ package backend.academy.maze.generator.impl;
 
 import backend.academy.maze.generator.GeneratorMaze;
 import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.impl.SolverBidirectionalBfs;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
@@ -42,4 +45,19 @@ public class GeneratorKruskalTest {
             .isFalse();
         assertThat(actualTypes).containsAll(expectedTypes);
     }
+
+    @DisplayName("Тест генерации большого лабиринта, в котором противоположные углы связаны")
+    @Test
+    void testGenerateLargeMaze() {
+        int size = 2001;
+        GeneratorMaze generatorMaze = new GeneratorKruskal(size, size, 1L);
+
+        Maze maze = generatorMaze.generateMaze(size, size);
+
+        List<Coordinate> path = new SolverBidirectionalBfs()
+            .solveMaze(maze, new Coordinate(1, 1), new Coordinate(size, size));
+
+        assertThat(maze.height()).isEqualTo(size + 2);
+        assertThat(path).isNotEmpty();
+    }
 }
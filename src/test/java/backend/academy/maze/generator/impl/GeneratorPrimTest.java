@@ -42,4 +42,20 @@ public class GeneratorPrimTest {
             .isFalse();
         assertThat(actualTypes).containsAll(expectedTypes);
     }
+
+    @DisplayName("Тест того, что дерево Прима достигает всех узлов лабиринта")
+    @Test
+    void testGenerateMazeReachesAllNodes() {
+        int height = 301;
+        int width = 400;
+        GeneratorMaze generatorMaze = new GeneratorPrim(height, width, 1L);
+
+        Maze maze = generatorMaze.generateMaze(height, width);
+
+        for (int row = 1; row <= height; row += 2) {
+            for (int col = 1; col <= width; col += 2) {
+                assertThat(maze.isWall(row, col)).isFalse();
+            }
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package backend.academy.maze.generator.impl;
+
+import backend.academy.maze.enums.GeneratorMazeType;
+import backend.academy.maze.generator.GeneratorMaze;
+import backend.academy.maze.maze.Maze;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тесты класса GeneratorTiled")
+public class GeneratorTiledTest {
+
+    @DisplayName("Тест того, что сшитый из плиток лабиринт нечетного размера остается идеальным")
+    @ParameterizedTest(name = "алгоритм плиток: {0}")
+    @EnumSource(GeneratorMazeType.class)
+    void testGenerateMazeIsPerfect(GeneratorMazeType tileGeneratorType) {
+        int height = 201;
+        int width = 151;
+        GeneratorMaze generatorMaze = new GeneratorTiled(
+            height,
+            width,
+            tileGeneratorType,
+            8,
+            new SplittableRandom(1L),
+            ForkJoinPool.commonPool()
+        );
+
+        Maze maze = generatorMaze.generateMaze(height, width);
+
+        assertThat(maze.height() - 2).isEqualTo(height);
+        assertThat(maze.width() - 2).isEqualTo(width);
+        assertThat(isPerfect(maze)).isTrue();
+    }
+
+    @DisplayName("Тест того, что при четных размерах в двойной стене у края открываются клетки")
+    @ParameterizedTest(name = "алгоритм плиток: {0}")
+    @EnumSource(GeneratorMazeType.class)
+    void testGenerateMazeOpensEvenEdge(GeneratorMazeType tileGeneratorType) {
+        int size = 40;
+        GeneratorMaze generatorMaze = new GeneratorTiled(
+            size,
+            size,
+            tileGeneratorType,
+            8,
+            new SplittableRandom(1L),
+            ForkJoinPool.commonPool()
+        );
+
+        Maze maze = generatorMaze.generateMaze(size, size);
+        int openInLastRow = 0;
+        int openInLastCol = 0;
+
+        for (int i = 1; i <= size; i++) {
+            openInLastRow += maze.isWall(size, i) ? 0 : 1;
+            openInLastCol += maze.isWall(i, size) ? 0 : 1;
+        }
+
+        assertThat(openInLastRow).isPositive();
+        assertThat(openInLastCol).isPositive();
+    }
+
+    @DisplayName("Тест воспроизводимости параллельной генерации при одинаковом зерне")
+    @Test
+    void testSameSeedProducesSameMaze() {
+        Maze firstMaze = new GeneratorTiled(300, 300, GeneratorMazeType.KRUSKAL, 5L).generateMaze(300, 300);
+        Maze secondMaze = new GeneratorTiled(300, 300, GeneratorMazeType.KRUSKAL, 5L).generateMaze(300, 300);
+
+        assertThat(secondMaze.grid()).isDeepEqualTo(firstMaze.grid());
+        assertThat(secondMaze.version()).isEqualTo(firstMaze.version());
+    }
+
+    @DisplayName("Тест валидации размера плитки")
+    @Test
+    void testTileSizeValidation() {
+        assertThatThrownBy(() -> new GeneratorTiled(
+            100,
+            100,
+            GeneratorMazeType.DFS,
+            1,
+            new SplittableRandom(),
+            ForkJoinPool.commonPool()
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Количество узлов по стороне плитки должно быть не меньше 2.");
+    }
+
+    /**
+     * Лабиринт идеален, если граф открытых клеток связен и в нем на одно ребро меньше, чем вершин
+     */
+    private boolean isPerfect(Maze maze) {
+        long openCells = 0;
+        long edges = 0;
+
+        for (int index = 0; index < maze.size(); index++) {
+            if (!maze.isWall(index)) {
+                openCells++;
+                edges += !maze.isWall(index + 1) ? 1 : 0;
+                edges += !maze.isWall(index + maze.width()) ? 1 : 0;
+            }
+        }
+
+        return edges == openCells - 1 && countReachable(maze) == openCells;
+    }
+
+    private long countReachable(Maze maze) {
+        boolean[] visited = new boolean[maze.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        int[] steps = {-1, 1, -maze.width(), maze.width()};
+        long reachable = 1;
+
+        visited[maze.index(1, 1)] = true;
+        queue.add(maze.index(1, 1));
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+
+            for (int step : steps) {
+                int neighbor = current + step;
+
+                if (!visited[neighbor] && !maze.isWall(neighbor)) {
+                    visited[neighbor] = true;
+                    queue.add(neighbor);
+                    reachable++;
+                }
+            }
+        }
+
+        return reachable;
+    }
+}
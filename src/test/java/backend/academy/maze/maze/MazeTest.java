@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
-import static org.instancio.Select.field;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -17,10 +19,20 @@ public class MazeTest {
     @DisplayName("Тест того, что в списке notWallCells действительно находятся только клетки-не-стены")
     @Test
     void shouldContainsOnlyNotWallCells() {
-        Maze maze = Instancio.of(Maze.class)
-                .ignore(field(Maze.class, "notWallCells"))
+        int height = 10;
+        int width = 15;
+        List<Cell.CellType> cellTypes = Instancio.ofList(Cell.CellType.class)
+                .size(height * width)
                 .create();
 
+        Maze maze = new Maze(height, width);
+
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                maze.setCellType(row, col, cellTypes.get(row * width + col));
+            }
+        }
+
         List<Cell> notWallCells = maze.notWallCells();
 
         assertTrue(notWallCells.stream().noneMatch(cell -> cell.type() == Cell.CellType.WALL));
@@ -32,4 +44,153 @@ public class MazeTest {
 
         assertEquals(nonWallCellsCount, notWallCells.size());
     }
+
+    @DisplayName("Тест того, что упакованная сетка совпадает с исходной сеткой клеток")
+    @Test
+    void shouldPackGridWithoutLosingCells() {
+        Cell[][] grid = {
+                {
+                        new Cell(0, 0, Cell.CellType.WALL),
+                        new Cell(0, 1, Cell.CellType.SWAMP),
+                        new Cell(0, 2, Cell.CellType.WALL)
+                },
+                {
+                        new Cell(1, 0, Cell.CellType.ESCALATOR),
+                        new Cell(1, 1, Cell.CellType.PASSAGE),
+                        new Cell(1, 2, Cell.CellType.WATER)
+                }
+        };
+
+        Maze maze = new Maze(2, 3, grid);
+
+        assertThat(maze.grid()).isDeepEqualTo(grid);
+        assertThat(maze.cellType(maze.index(1, 2))).isEqualTo(Cell.CellType.WATER);
+        assertThat(maze.isWall(0, 2)).isTrue();
+        assertThat(maze.weight(maze.index(0, 1))).isEqualTo(Cell.CellType.SWAMP.weight());
+
+        maze.setCellType(0, 2, Cell.CellType.COIN);
+
+        assertThat(maze.cell(0, 2)).isEqualTo(new Cell(0, 2, Cell.CellType.COIN));
+        assertThat(maze.notWallCells()).hasSize(5);
+    }
+
+    @DisplayName("Тест того, что хэш содержимого зависит только от клеток и пересчитывается при их изменении")
+    @Test
+    void shouldHashMazeContent() {
+        Maze firstMaze = new Maze(3, 4);
+        Maze secondMaze = new Maze(3, 4);
+
+        firstMaze.setCellType(1, 1, Cell.CellType.SAND);
+        secondMaze.setCellType(1, 1, Cell.CellType.SAND);
+
+        assertThat(firstMaze.contentHash()).isEqualTo(secondMaze.contentHash());
+        assertThat(firstMaze.contentHash()).isNotEqualTo(new Maze(4, 3).contentHash());
+
+        long hashBeforeChange = firstMaze.contentHash();
+
+        firstMaze.setCellType(1, 2, Cell.CellType.PASSAGE);
+
+        assertThat(firstMaze.contentHash()).isNotEqualTo(hashBeforeChange);
+    }
+
+    @DisplayName("Тест того, что версия растет только при изменении типа клетки")
+    @Test
+    void shouldIncreaseVersionOnlyOnChange() {
+        Maze maze = new Maze(3, 3);
+
+        maze.setCellType(1, 1, Cell.CellType.WALL);
+
+        assertThat(maze.version()).isZero();
+
+        maze.setCellType(1, 1, Cell.CellType.PASSAGE);
+        maze.setCellType(1, 1, Cell.CellType.SWAMP);
+
+        assertThat(maze.version()).isEqualTo(2);
+    }
+
+    @DisplayName("Тест того, что журнал изменений возвращает изменения после версии в порядке применения")
+    @Test
+    void shouldReturnChangesSinceVersion() {
+        Maze maze = new Maze(3, 4);
+
+        maze.setCellType(1, 1, Cell.CellType.PASSAGE);
+        maze.enableChangeLog(Maze.DEFAULT_CHANGE_LOG_CAPACITY);
+
+        long version = maze.version();
+
+        maze.setCellType(1, 2, Cell.CellType.SWAMP);
+        maze.setCellType(1, 1, Cell.CellType.WALL);
+
+        assertThat(maze.changesSince(version)).contains(List.of(
+            new CellChange(new Coordinate(1, 2), Cell.CellType.WALL, Cell.CellType.SWAMP),
+            new CellChange(new Coordinate(1, 1), Cell.CellType.PASSAGE, Cell.CellType.WALL)
+        ));
+        assertThat(maze.changesSince(maze.version())).contains(List.of());
+        // Изменение до включения журнала недоступно
+        assertThat(maze.changesSince(0)).isEqualTo(Optional.empty());
+    }
+
+    @DisplayName("Тест того, что переполненный или выключенный журнал НЕ возвращает изменения")
+    @Test
+    void shouldNotReturnChangesWhenLogDoesNotCoverVersion() {
+        Maze maze = new Maze(3, 4);
+
+        maze.setCellType(1, 1, Cell.CellType.PASSAGE);
+
+        assertThat(maze.isChangeLogEnabled()).isFalse();
+        assertThat(maze.hasChangesSince(0)).isFalse();
+
+        maze.enableChangeLog(2);
+
+        long version = maze.version();
+
+        maze.setCellType(1, 2, Cell.CellType.SAND);
+        maze.setCellType(1, 1, Cell.CellType.WATER);
+
+        assertThat(maze.hasChangesSince(version)).isTrue();
+
+        maze.setCellType(1, 2, Cell.CellType.COIN);
+
+        assertThat(maze.hasChangesSince(version)).isFalse();
+        assertThat(maze.changesSince(version + 1)).hasValueSatisfying(changes -> assertThat(changes).hasSize(2));
+        assertThatThrownBy(() -> maze.enableChangeLog(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Вместимость журнала изменений должна быть больше 0.");
+    }
+
+    @DisplayName("Тест того, что выключенный журнал НЕ возвращает изменения даже для текущей версии")
+    @Test
+    void shouldNotReturnChangesWhenLogIsDisabled() {
+        Maze maze = new Maze(3, 4);
+
+        assertThat(maze.hasChangesSince(maze.version())).isFalse();
+        assertThat(maze.changesSince(maze.version())).isEmpty();
+
+        maze.enableChangeLog(2);
+
+        assertThat(maze.hasChangesSince(maze.version())).isTrue();
+        assertThat(maze.changesSince(maze.version())).hasValueSatisfying(changes -> assertThat(changes).isEmpty());
+    }
+
+    @DisplayName("Тест копирования внутренней части другого лабиринта")
+    @Test
+    void shouldCopyInteriorOfAnotherMaze() {
+        Maze source = new Maze(3, 4);
+        Maze maze = new Maze(5, 5);
+
+        source.setCellType(1, 1, Cell.CellType.SAND);
+        source.setCellType(1, 2, Cell.CellType.PASSAGE);
+        maze.enableChangeLog(Maze.DEFAULT_CHANGE_LOG_CAPACITY);
+        maze.copyInterior(source, 2, 1);
+
+        assertThat(maze.cellType(2, 1)).isEqualTo(Cell.CellType.SAND);
+        assertThat(maze.cellType(2, 2)).isEqualTo(Cell.CellType.PASSAGE);
+        assertThat(maze.notWallCells()).hasSize(2);
+        assertThat(maze.version()).isEqualTo(2);
+        // Поклеточные изменения массового копирования в журнал не попадают
+        assertThat(maze.hasChangesSince(0)).isFalse();
+        assertThatThrownBy(() -> maze.copyInterior(source, 4, 4))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Лабиринт-источник не помещается в лабиринт.");
+    }
 }
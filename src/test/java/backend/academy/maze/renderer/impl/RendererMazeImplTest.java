@@ -6,6 +6,7 @@ import backend.academy.maze.maze.Maze;
 import backend.academy.maze.renderer.RendererMaze;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import java.io.StringWriter;
 import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,6 +59,29 @@ public class RendererMazeImplTest {
         assertThat(actualMazeWithPath).isEqualTo(expectedMazeWithPath);
     }
 
+    @DisplayName("Тест построчной записи лабиринта и пути в Writer")
+    @Test
+    void testStreamingRenderMatchesStringRender() {
+        StringWriter mazeWriter = new StringWriter();
+        StringWriter pathWriter = new StringWriter();
+
+        rendererMaze.renderMaze(maze, mazeWriter);
+        rendererMaze.renderMazeWithPath(maze, getPath(), pathWriter);
+
+        assertThat(mazeWriter.toString()).isEqualTo(rendererMaze.renderMaze(maze));
+        assertThat(pathWriter.toString()).isEqualTo(rendererMaze.renderMazeWithPath(maze, getPath()));
+    }
+
+    @DisplayName("Тест построчной записи, когда путь не найден")
+    @Test
+    void testStreamingRenderWhenPathIsEmpty() {
+        StringBuilder output = new StringBuilder();
+
+        rendererMaze.renderMazeWithPath(maze, List.of(), output);
+
+        assertThat(output).hasToString("Путь не найден");
+    }
+
     private Maze createMaze() {
         int height = 10;
         int width = 10;
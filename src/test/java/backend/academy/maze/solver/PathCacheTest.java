@@ -0,0 +1,56 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.impl.SolverBfs;
+import backend.academy.maze.solver.impl.SolverDial;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Тесты класса PathCache")
+public class PathCacheTest {
+
+    private final Coordinate start = new Coordinate(1, 1);
+    private final Coordinate finish = new Coordinate(21, 21);
+
+    @DisplayName("Тест того, что повторный запрос на лабиринте с тем же содержимым не запускает поиск")
+    @Test
+    void testRepeatedQueryIsServedFromCache() {
+        PathCache pathCache = new PathCache();
+        SolverMaze solverMaze = spy(new SolverDial());
+        Maze maze = new GeneratorKruskal(21, 21, 3L).generateMaze(21, 21);
+        Maze sameMaze = new GeneratorKruskal(21, 21, 3L).generateMaze(21, 21);
+
+        List<Coordinate> firstPath = pathCache.solveMaze(solverMaze, maze, start, finish);
+        List<Coordinate> secondPath = pathCache.solveMaze(solverMaze, sameMaze, start, finish);
+
+        assertThat(secondPath).isEqualTo(firstPath);
+        verify(solverMaze, times(1)).solveMaze(maze, start, finish);
+        assertThat(pathCache.stats().hitCount()).isEqualTo(1);
+        assertThat(pathCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @DisplayName("Тест того, что ключ кэша учитывает содержимое лабиринта, алгоритм и координаты")
+    @Test
+    void testDifferentQueriesAreNotShared() {
+        PathCache pathCache = new PathCache();
+        Maze maze = new GeneratorKruskal(21, 21, 3L).generateMaze(21, 21);
+
+        pathCache.solveMaze(new SolverDial(), maze, start, finish);
+        pathCache.solveMaze(new SolverBfs(), maze, start, finish);
+        pathCache.solveMaze(new SolverDial(), maze, finish, start);
+
+        maze.setCellType(2, 1, maze.isWall(2, 1) ? Cell.CellType.PASSAGE : Cell.CellType.WALL);
+        pathCache.solveMaze(new SolverDial(), maze, start, finish);
+
+        assertThat(pathCache.stats().hitCount()).isZero();
+        assertThat(pathCache.stats().missCount()).isEqualTo(4);
+    }
+}
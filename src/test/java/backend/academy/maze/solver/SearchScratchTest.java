@@ -0,0 +1,81 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.maze.Maze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Тесты класса SearchScratch")
+public class SearchScratchTest {
+
+    @DisplayName("Тест того, что новый запрос не видит клеток, посещенных предыдущим, без очистки массивов")
+    @Test
+    void testNewQueryForgetsVisitedCells() {
+        SearchScratch scratch = SearchScratch.acquire(new Maze(3, 3));
+
+        scratch.visit(4, 1, 7);
+
+        assertThat(scratch.isVisited(4)).isTrue();
+        assertThat(scratch.distance(4)).isEqualTo(7);
+
+        scratch.beginQuery(1);
+
+        assertThat(scratch.isVisited(4)).isFalse();
+        assertThat(scratch.distance(4)).isEqualTo(DistanceField.UNREACHABLE);
+    }
+
+    @DisplayName("Тест того, что поток получает один и тот же экземпляр, пока лабиринт помещается в него")
+    @Test
+    void testAcquireReusesScratch() throws InterruptedException {
+        SearchScratch[] scratches = new SearchScratch[3];
+        // Пул привязан к потоку, поэтому проверка идет в новом потоке без экземпляров от других тестов
+        Thread thread = new Thread(() -> {
+            scratches[0] = SearchScratch.acquire(new Maze(10, 10));
+            scratches[1] = SearchScratch.acquire(new Maze(5, 5));
+            scratches[2] = SearchScratch.acquire(new Maze(20, 20));
+        });
+
+        thread.start();
+        thread.join();
+
+        assertThat(scratches[1]).isSameAs(scratches[0]);
+        assertThat(scratches[2]).isNotSameAs(scratches[0]);
+        assertThat(scratches[2].parents()).hasSizeGreaterThanOrEqualTo(400);
+    }
+
+    @DisplayName("Тест того, что после освобождения поток получает новый экземпляр по размеру лабиринта")
+    @Test
+    void testReleaseDropsScratch() throws InterruptedException {
+        SearchScratch[] scratches = new SearchScratch[2];
+        Thread thread = new Thread(() -> {
+            scratches[0] = SearchScratch.acquire(new Maze(20, 20));
+            SearchScratch.release();
+            scratches[1] = SearchScratch.acquire(new Maze(5, 5));
+        });
+
+        thread.start();
+        thread.join();
+
+        assertThat(scratches[1]).isNotSameAs(scratches[0]);
+        assertThat(scratches[1].parents()).hasSize(25);
+    }
+
+    @DisplayName("Тест меток нескольких фронтов одного запроса")
+    @Test
+    void testQueryWithSeveralMarks() {
+        SearchScratch scratch = new SearchScratch(4);
+        int forwardMark = scratch.beginQuery(2);
+
+        scratch.visit(0, forwardMark, SolverMaze.NO_PARENT, 0);
+        scratch.visit(3, forwardMark + 1, SolverMaze.NO_PARENT, 0);
+
+        assertThat(scratch.isVisited(0)).isTrue();
+        assertThat(scratch.isVisited(3)).isTrue();
+        assertThat(scratch.mark(3)).isNotEqualTo(scratch.mark(0));
+
+        scratch.fillUnvisited();
+
+        assertThat(scratch.distances()[1]).isEqualTo(DistanceField.UNREACHABLE);
+        assertThat(scratch.parents()[1]).isEqualTo(SolverMaze.NO_PARENT);
+    }
+}
@@ -4,11 +4,14 @@ import backend.academy.maze.maze.Cell;
 import backend.academy.maze.maze.Coordinate;
 import backend.academy.maze.maze.Maze;
 import backend.academy.maze.solver.impl.SolverBfs;
+import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("Тесты класса SolverMaze")
@@ -27,6 +30,24 @@ public class SolverMazeTest {
             .hasMessage("Стартовая или конечная координаты недоступны, или они одинаковы.");
     }
 
+    @DisplayName("Тест пакетного поиска по умолчанию: пути возвращаются в порядке запросов")
+    @Test
+    void testSolveMazesDefault() {
+        Maze maze = createMaze();
+        SolverMaze solverMaze = new SolverBfs();
+        List<PathQuery> queries = List.of(
+            new PathQuery(new Coordinate(1, 2), new Coordinate(1, 3)),
+            new PathQuery(new Coordinate(1, 3), new Coordinate(1, 2))
+        );
+
+        List<List<Coordinate>> paths = solverMaze.solveMazes(maze, queries);
+
+        assertThat(paths).containsExactly(
+            List.of(new Coordinate(1, 2), new Coordinate(1, 3)),
+            List.of(new Coordinate(1, 3), new Coordinate(1, 2))
+        );
+    }
+
     static Stream<Arguments> provideDataTestValidation() {
         return Stream.of(
             Arguments.of(new Coordinate(0, 0), new Coordinate(1, 2)), // Вне рамок
@@ -0,0 +1,141 @@
+package backend.academy.maze.solver;
+
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.impl.SolverBfs;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тесты класса TreeIndex")
+public class TreeIndexTest {
+
+    @DisplayName("Тест того, что длина, стоимость и путь совпадают с обходом в ширину в идеальном лабиринте")
+    @Test
+    void testQueriesMatchBfsOnPerfectMaze() {
+        int size = 151;
+        Maze maze = new GeneratorDfs(size, size, 8L).generateMaze(size, size);
+        TreeIndex index = new TreeIndex(maze);
+        SolverBfs solverBfs = new SolverBfs();
+        Random random = new Random(8L);
+
+        for (int i = 0; i < 100; i++) {
+            Coordinate start = randomNode(random, size);
+            Coordinate finish = randomNode(random, size);
+
+            if (start.equals(finish)) {
+                continue;
+            }
+
+            // В дереве путь единственный, поэтому совпадает с путем обхода в ширину целиком
+            List<Coordinate> expectedPath = solverBfs.solveMaze(maze, start, finish);
+
+            assertThat(index.findPath(start, finish)).isEqualTo(expectedPath);
+            assertThat(index.distance(start, finish)).isEqualTo(expectedPath.size() - 1);
+            assertThat(index.cost(start, finish)).isEqualTo(getPathWeight(maze, expectedPath));
+        }
+    }
+
+    @DisplayName("Тест запросов от клетки к ней самой и к ее предку")
+    @Test
+    void testQueriesForSameCellAndAncestor() {
+        Maze maze = createCorridorMaze();
+        TreeIndex index = new TreeIndex(maze);
+        Coordinate first = new Coordinate(1, 1);
+        Coordinate last = new Coordinate(1, 5);
+
+        assertThat(index.distance(first, first)).isZero();
+        assertThat(index.findPath(first, first)).containsExactly(first);
+        assertThat(index.lowestCommonAncestor(first, last)).isEqualTo(first);
+        assertThat(index.distance(last, first)).isEqualTo(4);
+        assertThat(index.cost(first, last)).isEqualTo(40 + 20 + 40 + 100);
+        assertThat(index.cost(last, first)).isEqualTo(40 + 20 + 40 + 40);
+    }
+
+    @DisplayName("Тест запросов между разными компонентами связности")
+    @Test
+    void testQueriesBetweenComponents() {
+        Maze maze = createCorridorMaze();
+
+        maze.setCellType(1, 3, Cell.CellType.WALL);
+
+        TreeIndex index = new TreeIndex(maze);
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 5);
+
+        assertThat(index.distance(start, finish)).isEqualTo(DistanceField.UNREACHABLE);
+        assertThat(index.cost(start, finish)).isEqualTo(DistanceField.UNREACHABLE);
+        assertThat(index.lowestCommonAncestor(start, finish)).isNull();
+        assertThat(index.findPath(start, finish)).isEmpty();
+    }
+
+    @DisplayName("Тест того, что индекс НЕ строится для лабиринта с циклом")
+    @Test
+    void testMazeWithCycleIsRejected() {
+        Maze maze = new Maze(4, 4);
+
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < 4; col++) {
+                boolean isFrame = row == 0 || col == 0 || row == 3 || col == 3;
+
+                maze.setCellType(row, col, isFrame ? Cell.CellType.WALL : Cell.CellType.PASSAGE);
+            }
+        }
+
+        assertThatThrownBy(() -> new TreeIndex(maze))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Лабиринт содержит циклы, индекс дерева строится только для идеального лабиринта.");
+    }
+
+    @DisplayName("Тест валидации координаты на стене")
+    @Test
+    void testWallCoordinateIsRejected() {
+        TreeIndex index = new TreeIndex(createCorridorMaze());
+
+        assertThatThrownBy(() -> index.distance(new Coordinate(1, 1), new Coordinate(0, 0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Координата недоступна.");
+    }
+
+    private Coordinate randomNode(Random random, int size) {
+        return new Coordinate(2 * random.nextInt((size + 1) / 2) + 1, 2 * random.nextInt((size + 1) / 2) + 1);
+    }
+
+    private int getPathWeight(Maze maze, List<Coordinate> path) {
+        return path.stream()
+            .skip(1)
+            .mapToInt(coordinate -> maze.cellType(coordinate.row(), coordinate.col()).weight())
+            .sum();
+    }
+
+    /**
+     * Лабиринт-коридор из одной строки: PASSAGE, PASSAGE, COIN, PASSAGE, SWAMP
+     */
+    private Maze createCorridorMaze() {
+        Maze maze = new Maze(3, 7);
+        List<Cell.CellType> corridor = List.of(
+            Cell.CellType.PASSAGE,
+            Cell.CellType.PASSAGE,
+            Cell.CellType.COIN,
+            Cell.CellType.PASSAGE,
+            Cell.CellType.SWAMP
+        );
+
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 7; col++) {
+                maze.setCellType(row, col, Cell.CellType.WALL);
+            }
+        }
+
+        for (int col = 1; col <= corridor.size(); col++) {
+            maze.setCellType(1, col, corridor.get(col - 1));
+        }
+
+        return maze;
+    }
+}
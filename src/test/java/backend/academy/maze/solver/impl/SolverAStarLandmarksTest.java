@@ -0,0 +1,172 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.LandmarkIndex;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createWeightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.getPathWeight;
+import static backend.academy.maze.solver.impl.SolverTestUtils.randomNode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тесты для класса SolverAStarLandmarks")
+public class SolverAStarLandmarksTest {
+
+    SolverMaze solver = new SolverAStarLandmarks();
+    Maze maze = createWeightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+                start,
+                new Coordinate(1, 2),
+                new Coordinate(2, 2),
+                new Coordinate(3, 2),
+                new Coordinate(4, 2),
+                new Coordinate(4, 1),
+                new Coordinate(5, 1),
+                new Coordinate(6, 1),
+                new Coordinate(6, 2),
+                new Coordinate(6, 3),
+                new Coordinate(7, 3),
+                new Coordinate(7, 4),
+                new Coordinate(7, 5),
+                new Coordinate(7, 6),
+                new Coordinate(6, 6),
+                new Coordinate(6, 7),
+                new Coordinate(6, 8),
+                new Coordinate(7, 8),
+                finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+
+    @DisplayName("Тест повторных запросов к одному лабиринту на переиспользуемых массивах")
+    @Test
+    void testSolveMazeRepeatedQueries() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+
+        List<Coordinate> firstPath = solver.solveMaze(maze, start, finish);
+        List<Coordinate> unreachablePath = solver.solveMaze(maze, start, new Coordinate(1, 8));
+        List<Coordinate> reversedPath = solver.solveMaze(maze, finish, start);
+        List<Coordinate> repeatedPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(unreachablePath).isEmpty();
+        assertThat(reversedPath.getFirst()).isEqualTo(finish);
+        assertThat(reversedPath.getLast()).isEqualTo(start);
+        assertThat(repeatedPath).isEqualTo(firstPath);
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+
+    @DisplayName("Тест того, что A* с ориентирами находит путь той же стоимости, раскрывая меньше клеток")
+    @Test
+    void testSolveLargePerfectMaze() {
+        int size = 201;
+        Maze largeMaze = new GeneratorDfs(size, size, 9L).generateMaze(size, size);
+        SolverAStar solverAStar = new SolverAStar();
+        SolverAStarLandmarks solverAStarLandmarks = new SolverAStarLandmarks();
+        SolverDial solverDial = new SolverDial();
+        Random random = new Random(9L);
+
+        for (int i = 0; i < 30; i++) {
+            Coordinate start = randomNode(random, size);
+            Coordinate finish = randomNode(random, size);
+
+            if (start.equals(finish)) {
+                continue;
+            }
+
+            List<Coordinate> expectedPath = solverDial.solveMaze(largeMaze, start, finish);
+
+            solverAStar.solveMaze(largeMaze, start, finish);
+
+            List<Coordinate> actualPath = solverAStarLandmarks.solveMaze(largeMaze, start, finish);
+
+            assertThat(actualPath.getFirst()).isEqualTo(start);
+            assertThat(actualPath.getLast()).isEqualTo(finish);
+            assertThat(getPathWeight(largeMaze, actualPath)).isEqualTo(getPathWeight(largeMaze, expectedPath));
+        }
+
+        assertThat(solverAStarLandmarks.expandedCells()).isLessThan(solverAStar.expandedCells());
+    }
+
+    @DisplayName("Тест того, что нижняя граница ориентиров не превышает стоимость кратчайшего пути")
+    @Test
+    void testLowerBoundIsAdmissible() {
+        int size = 101;
+        Maze largeMaze = new GeneratorDfs(size, size, 4L).generateMaze(size, size);
+        LandmarkIndex index = new LandmarkIndex(largeMaze, 3);
+        SolverDial solverDial = new SolverDial();
+        Random random = new Random(4L);
+
+        assertThat(index.landmarks()).hasSize(3).doesNotHaveDuplicates();
+
+        for (int i = 0; i < 50; i++) {
+            Coordinate start = randomNode(random, size);
+            Coordinate finish = randomNode(random, size);
+
+            if (start.equals(finish)) {
+                continue;
+            }
+
+            int cost = getPathWeight(largeMaze, solverDial.solveMaze(largeMaze, start, finish));
+            int bound = index.lowerBound(
+                largeMaze.index(start.row(), start.col()),
+                largeMaze.index(finish.row(), finish.col())
+            );
+
+            assertThat(bound).isBetween(0, cost);
+        }
+    }
+
+    @DisplayName("Тест того, что индекс строится один раз и перестраивается после изменения лабиринта")
+    @Test
+    void testIndexIsReusedUntilMazeChanges() {
+        SolverAStarLandmarks solverAStarLandmarks = new SolverAStarLandmarks(2);
+        LandmarkIndex index = solverAStarLandmarks.getIndex(maze);
+
+        solverAStarLandmarks.solveMaze(maze, new Coordinate(1, 1), new Coordinate(8, 8));
+
+        assertThat(solverAStarLandmarks.getIndex(maze)).isSameAs(index);
+
+        maze.setCellType(1, 2, Cell.CellType.WALL);
+
+        assertThat(solverAStarLandmarks.getIndex(maze)).isNotSameAs(index);
+        assertThat(solverAStarLandmarks.solveMaze(maze, new Coordinate(1, 1), new Coordinate(8, 8))).isEmpty();
+    }
+
+    @DisplayName("Тест валидации количества ориентиров")
+    @Test
+    void testLandmarkCountValidation() {
+        assertThatThrownBy(() -> new SolverAStarLandmarks(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Количество ориентиров должно быть больше 0.");
+    }
+}
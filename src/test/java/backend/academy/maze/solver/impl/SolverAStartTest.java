@@ -49,6 +49,23 @@ public class SolverAStartTest {
         assertThat(actualPath).isEqualTo(expectedPath);
     }
 
+    @DisplayName("Тест повторных запросов к одному лабиринту на переиспользуемых массивах")
+    @Test
+    void testSolveMazeRepeatedQueries() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+
+        List<Coordinate> firstPath = solver.solveMaze(maze, start, finish);
+        List<Coordinate> unreachablePath = solver.solveMaze(maze, start, new Coordinate(1, 8));
+        List<Coordinate> reversedPath = solver.solveMaze(maze, finish, start);
+        List<Coordinate> repeatedPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(unreachablePath).isEmpty();
+        assertThat(reversedPath.getFirst()).isEqualTo(finish);
+        assertThat(reversedPath.getLast()).isEqualTo(start);
+        assertThat(repeatedPath).isEqualTo(firstPath);
+    }
+
     @DisplayName("Тест поиска пути, когда путь НЕ существует")
     @Test
     void testSolveMazeWhenPathDoesNotExist() {
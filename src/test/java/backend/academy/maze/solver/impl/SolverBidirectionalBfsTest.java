@@ -0,0 +1,75 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createUnweightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.isContinuous;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Тесты для класса SolverBidirectionalBfs")
+public class SolverBidirectionalBfsTest {
+
+    SolverMaze solver = new SolverBidirectionalBfs();
+    Maze maze = createUnweightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+            start,
+            new Coordinate(1, 2),
+            new Coordinate(2, 2),
+            new Coordinate(3, 2),
+            new Coordinate(3, 3),
+            new Coordinate(3, 4),
+            new Coordinate(3, 5),
+            new Coordinate(4, 5),
+            new Coordinate(5, 5),
+            new Coordinate(6, 5),
+            new Coordinate(6, 6),
+            new Coordinate(6, 7),
+            new Coordinate(6, 8),
+            new Coordinate(7, 8),
+            finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        // Кратчайших путей может быть несколько, поэтому сравнивается длина пути
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(isContinuous(maze, actualPath)).isTrue();
+        assertThat(actualPath).hasSameSizeAs(expectedPath);
+    }
+
+    @DisplayName("Тест поиска пути между соседними клетками")
+    @Test
+    void testSolveMazeWhenCellsAreAdjacent() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 2);
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).containsExactly(start, finish);
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+}
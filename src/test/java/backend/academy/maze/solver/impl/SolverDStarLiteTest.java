@@ -0,0 +1,165 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.DStarLite;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createWeightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.getPathWeight;
+import static backend.academy.maze.solver.impl.SolverTestUtils.isContinuous;
+import static backend.academy.maze.solver.impl.SolverTestUtils.randomNode;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Тесты для класса SolverDStarLite")
+public class SolverDStarLiteTest {
+
+    SolverMaze solver = new SolverDStarLite();
+    Maze maze = createWeightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+                start,
+                new Coordinate(1, 2),
+                new Coordinate(2, 2),
+                new Coordinate(3, 2),
+                new Coordinate(4, 2),
+                new Coordinate(4, 1),
+                new Coordinate(5, 1),
+                new Coordinate(6, 1),
+                new Coordinate(6, 2),
+                new Coordinate(6, 3),
+                new Coordinate(7, 3),
+                new Coordinate(7, 4),
+                new Coordinate(7, 5),
+                new Coordinate(7, 6),
+                new Coordinate(6, 6),
+                new Coordinate(6, 7),
+                new Coordinate(6, 8),
+                new Coordinate(7, 8),
+                finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        // Кратчайших путей может быть несколько, поэтому сравнивается стоимость пути
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(isContinuous(maze, actualPath)).isTrue();
+        assertThat(getPathWeight(maze, actualPath)).isEqualTo(getPathWeight(maze, expectedPath));
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+
+    @DisplayName("Тест того, что после пакетов изменений клеток путь совпадает по стоимости с алгоритмом Дайала")
+    @Test
+    void testSolveMazeAfterBatchesOfChanges() {
+        int size = 101;
+        Maze largeMaze = new GeneratorKruskal(size, size, 5L).generateMaze(size, size);
+        largeMaze.enableChangeLog(Maze.DEFAULT_CHANGE_LOG_CAPACITY);
+        SolverDStarLite solverDStarLite = new SolverDStarLite();
+        SolverDial solverDial = new SolverDial();
+        Random random = new Random(5L);
+        Cell.CellType[] types = {Cell.CellType.WALL, Cell.CellType.PASSAGE, Cell.CellType.SWAMP, Cell.CellType.COIN};
+        Coordinate finish = randomNode(random, size);
+
+        for (int i = 0; i < 50; i++) {
+            for (int change = 0; change < 5; change++) {
+                Coordinate cell = randomNode(random, size);
+
+                if (!cell.equals(finish)) {
+                    largeMaze.setCellType(cell.row(), cell.col(), types[random.nextInt(types.length)]);
+                }
+            }
+
+            Coordinate start = randomNode(random, size);
+
+            if (start.equals(finish) || largeMaze.isWall(start.row(), start.col())) {
+                continue;
+            }
+
+            List<Coordinate> expectedPath = solverDial.solveMaze(largeMaze, start, finish);
+            List<Coordinate> actualPath = solverDStarLite.solveMaze(largeMaze, start, finish);
+
+            assertThat(actualPath.isEmpty()).isEqualTo(expectedPath.isEmpty());
+            assertThat(isContinuous(largeMaze, actualPath)).isTrue();
+            assertThat(getPathWeight(largeMaze, actualPath)).isEqualTo(getPathWeight(largeMaze, expectedPath));
+        }
+    }
+
+    @DisplayName("Тест того, что исправление пути раскрывает меньше клеток, чем поиск с нуля")
+    @Test
+    void testRepairExpandsFewerCellsThanFreshSearch() {
+        int size = 201;
+        Maze largeMaze = new GeneratorKruskal(size, size, 3L).generateMaze(size, size);
+        largeMaze.enableChangeLog(Maze.DEFAULT_CHANGE_LOG_CAPACITY);
+        SolverDStarLite solverDStarLite = new SolverDStarLite();
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(size - 2, size - 2);
+
+        List<Coordinate> path = solverDStarLite.solveMaze(largeMaze, start, finish);
+        int freshExpandedCells = solverDStarLite.getPlanner(largeMaze, finish).lastExpandedCells();
+
+        // Без изменений повторный запрос ничего не раскрывает
+        solverDStarLite.solveMaze(largeMaze, start, finish);
+
+        assertThat(solverDStarLite.getPlanner(largeMaze, finish).lastExpandedCells()).isZero();
+
+        Coordinate changed = path.get(path.size() / 2);
+
+        largeMaze.setCellType(changed.row(), changed.col(), Cell.CellType.SWAMP);
+
+        List<Coordinate> repairedPath = solverDStarLite.solveMaze(largeMaze, start, finish);
+
+        assertThat(solverDStarLite.getPlanner(largeMaze, finish).lastExpandedCells()).isLessThan(freshExpandedCells);
+        assertThat(getPathWeight(largeMaze, repairedPath))
+            .isEqualTo(getPathWeight(largeMaze, new SolverDial().solveMaze(largeMaze, start, finish)));
+    }
+
+    @DisplayName("Тест того, что путь исправляется после закрытия и открытия прохода")
+    @Test
+    void testSolveMazeAfterClosingAndOpeningPassage() {
+        SolverDStarLite solverDStarLite = new SolverDStarLite();
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        DStarLite planner = solverDStarLite.getPlanner(maze, finish);
+
+        // Журнал изменений не включен: после каждого изменения состояние строится заново
+        assertThat(maze.isChangeLogEnabled()).isFalse();
+        assertThat(solverDStarLite.solveMaze(maze, start, finish)).isNotEmpty();
+
+        maze.setCellType(1, 2, Cell.CellType.WALL);
+
+        assertThat(solverDStarLite.solveMaze(maze, start, finish)).isEmpty();
+
+        maze.setCellType(1, 2, Cell.CellType.COIN);
+
+        List<Coordinate> actualPath = solverDStarLite.solveMaze(maze, start, finish);
+
+        assertThat(solverDStarLite.getPlanner(maze, finish)).isSameAs(planner);
+        assertThat(getPathWeight(maze, actualPath))
+            .isEqualTo(getPathWeight(maze, new SolverDijkstra().solveMaze(maze, start, finish)));
+        assertThat(solverDStarLite.getPlanner(maze, new Coordinate(1, 1))).isNotSameAs(planner);
+    }
+}
@@ -0,0 +1,104 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createWeightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.getPathWeight;
+import static backend.academy.maze.solver.impl.SolverTestUtils.isContinuous;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тесты для класса SolverDeltaStepping")
+public class SolverDeltaSteppingTest {
+
+    SolverMaze solver = new SolverDeltaStepping();
+    Maze maze = createWeightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+                start,
+                new Coordinate(1, 2),
+                new Coordinate(2, 2),
+                new Coordinate(3, 2),
+                new Coordinate(4, 2),
+                new Coordinate(4, 1),
+                new Coordinate(5, 1),
+                new Coordinate(6, 1),
+                new Coordinate(6, 2),
+                new Coordinate(6, 3),
+                new Coordinate(7, 3),
+                new Coordinate(7, 4),
+                new Coordinate(7, 5),
+                new Coordinate(7, 6),
+                new Coordinate(6, 6),
+                new Coordinate(6, 7),
+                new Coordinate(6, 8),
+                new Coordinate(7, 8),
+                finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        // Кратчайших путей может быть несколько, поэтому сравнивается стоимость пути
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(isContinuous(maze, actualPath)).isTrue();
+        assertThat(getPathWeight(maze, actualPath)).isEqualTo(getPathWeight(maze, expectedPath));
+    }
+
+    @DisplayName("Тест того, что параллельный поиск находит путь той же стоимости, что и алгоритм Дайала")
+    @ParameterizedTest(name = "ширина кармана: {0}")
+    @ValueSource(ints = {1, 30, 55, 200})
+    void testSolveLargeMazeInParallel(int delta) {
+        int size = 501;
+        Maze largeMaze = new GeneratorKruskal(size, size, 7L).generateMaze(size, size);
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(size, size);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            List<Coordinate> expectedPath = new SolverDial().solveMaze(largeMaze, start, finish);
+            List<Coordinate> actualPath = new SolverDeltaStepping(delta, pool).solveMaze(largeMaze, start, finish);
+
+            assertThat(actualPath.getFirst()).isEqualTo(start);
+            assertThat(actualPath.getLast()).isEqualTo(finish);
+            assertThat(getPathWeight(largeMaze, actualPath)).isEqualTo(getPathWeight(largeMaze, expectedPath));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @DisplayName("Тест валидации ширины кармана")
+    @Test
+    void testDeltaValidation() {
+        assertThatThrownBy(() -> new SolverDeltaStepping(0, ForkJoinPool.commonPool()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Ширина кармана должна быть больше 0.");
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+}
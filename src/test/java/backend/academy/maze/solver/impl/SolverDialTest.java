@@ -0,0 +1,177 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.DistanceField;
+import backend.academy.maze.solver.PathQuery;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createWeightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.getPathWeight;
+import static backend.academy.maze.solver.impl.SolverTestUtils.isContinuous;
+import static backend.academy.maze.solver.impl.SolverTestUtils.randomNode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тесты для класса SolverDial")
+public class SolverDialTest {
+
+    SolverMaze solver = new SolverDial();
+    Maze maze = createWeightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+                start,
+                new Coordinate(1, 2),
+                new Coordinate(2, 2),
+                new Coordinate(3, 2),
+                new Coordinate(4, 2),
+                new Coordinate(4, 1),
+                new Coordinate(5, 1),
+                new Coordinate(6, 1),
+                new Coordinate(6, 2),
+                new Coordinate(6, 3),
+                new Coordinate(7, 3),
+                new Coordinate(7, 4),
+                new Coordinate(7, 5),
+                new Coordinate(7, 6),
+                new Coordinate(6, 6),
+                new Coordinate(6, 7),
+                new Coordinate(6, 8),
+                new Coordinate(7, 8),
+                finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        // Кратчайших путей может быть несколько, поэтому сравнивается стоимость пути
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(isContinuous(maze, actualPath)).isTrue();
+        assertThat(getPathWeight(maze, actualPath)).isEqualTo(getPathWeight(maze, expectedPath));
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+
+    @DisplayName("Тест того, что пути из поля расстояний совпадают по стоимости с поиском до каждой клетки")
+    @Test
+    void testComputeDistanceField() {
+        SolverDial solverDial = new SolverDial();
+        Coordinate start = new Coordinate(1, 1);
+
+        DistanceField distanceField = solverDial.computeDistanceField(maze, start);
+
+        assertThat(distanceField.start()).isEqualTo(start);
+        assertThat(distanceField.distance(start)).isZero();
+
+        for (int row = 1; row < maze.height() - 1; row++) {
+            for (int col = 1; col < maze.width() - 1; col++) {
+                Coordinate finish = new Coordinate(row, col);
+
+                if (maze.isWall(row, col) || finish.equals(start)) {
+                    continue;
+                }
+
+                List<Coordinate> expectedPath = solverDial.solveMaze(maze, start, finish);
+                List<Coordinate> actualPath = distanceField.pathTo(finish);
+
+                assertThat(distanceField.isReachable(finish)).isEqualTo(!expectedPath.isEmpty());
+                assertThat(getPathWeight(maze, actualPath)).isEqualTo(getPathWeight(maze, expectedPath));
+
+                if (!actualPath.isEmpty()) {
+                    assertThat(isContinuous(maze, actualPath)).isTrue();
+                    assertThat(distanceField.distance(finish)).isEqualTo(getPathWeight(maze, actualPath));
+                }
+            }
+        }
+    }
+
+    @DisplayName("Тест поля расстояний для недостижимой клетки")
+    @Test
+    void testDistanceFieldWhenCellIsUnreachable() {
+        DistanceField distanceField = new SolverDial().computeDistanceField(maze, new Coordinate(1, 1));
+        Coordinate finish = new Coordinate(1, 8);
+
+        assertThat(distanceField.isReachable(finish)).isFalse();
+        assertThat(distanceField.distance(finish)).isEqualTo(DistanceField.UNREACHABLE);
+        assertThat(distanceField.pathTo(finish)).isEmpty();
+    }
+
+    @DisplayName("Тест валидации стартовой точки поля расстояний")
+    @Test
+    void testDistanceFieldValidation() {
+        assertThatThrownBy(() -> new SolverDial().computeDistanceField(maze, new Coordinate(0, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Стартовая координата недоступна.");
+    }
+
+    @DisplayName("Тест того, что пакетный поиск возвращает пути в порядке запросов той же стоимости")
+    @Test
+    void testSolveMazes() {
+        int size = 201;
+        Maze largeMaze = new GeneratorKruskal(size, size, 11L).generateMaze(size, size);
+        SolverDial solverDial = new SolverDial();
+        Random random = new Random(11L);
+        List<PathQuery> queries = new ArrayList<>();
+        List<Coordinate> starts = List.of(new Coordinate(1, 1), new Coordinate(size, size), new Coordinate(101, 101));
+
+        for (int i = 0; i < 60; i++) {
+            // Часть запросов делит стартовые клетки, часть имеет уникальный старт
+            Coordinate start = i % 4 == 3 ? randomNode(random, size) : starts.get(i % starts.size());
+            Coordinate finish = randomNode(random, size);
+
+            if (!finish.equals(start)) {
+                queries.add(new PathQuery(start, finish));
+            }
+        }
+
+        List<List<Coordinate>> actualPaths = solverDial.solveMazes(largeMaze, queries);
+
+        assertThat(actualPaths).hasSameSizeAs(queries);
+
+        for (int i = 0; i < queries.size(); i++) {
+            PathQuery query = queries.get(i);
+            List<Coordinate> expectedPath = solverDial.solveMaze(largeMaze, query.start(), query.finish());
+
+            assertThat(actualPaths.get(i).getFirst()).isEqualTo(query.start());
+            assertThat(actualPaths.get(i).getLast()).isEqualTo(query.finish());
+            assertThat(getPathWeight(largeMaze, actualPaths.get(i))).isEqualTo(getPathWeight(largeMaze, expectedPath));
+        }
+    }
+
+    @DisplayName("Тест пакетного поиска, когда путь НЕ существует")
+    @Test
+    void testSolveMazesWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        List<PathQuery> queries = List.of(
+                new PathQuery(start, new Coordinate(1, 8)),
+                new PathQuery(start, new Coordinate(8, 8))
+        );
+
+        List<List<Coordinate>> actualPaths = new SolverDial().solveMazes(maze, queries);
+
+        assertThat(actualPaths.getFirst()).isEmpty();
+        assertThat(actualPaths.getLast().getLast()).isEqualTo(new Coordinate(8, 8));
+    }
+}
@@ -0,0 +1,158 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.HierarchicalIndex;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createWeightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.getPathWeight;
+import static backend.academy.maze.solver.impl.SolverTestUtils.isContinuous;
+import static backend.academy.maze.solver.impl.SolverTestUtils.randomNode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Тесты для класса SolverHpaStar")
+public class SolverHpaStarTest {
+
+    // Маленькие кластеры, чтобы путь в тестовом лабиринте пересекал их границы
+    SolverMaze solver = new SolverHpaStar(3);
+    Maze maze = createWeightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+                start,
+                new Coordinate(1, 2),
+                new Coordinate(2, 2),
+                new Coordinate(3, 2),
+                new Coordinate(4, 2),
+                new Coordinate(4, 1),
+                new Coordinate(5, 1),
+                new Coordinate(6, 1),
+                new Coordinate(6, 2),
+                new Coordinate(6, 3),
+                new Coordinate(7, 3),
+                new Coordinate(7, 4),
+                new Coordinate(7, 5),
+                new Coordinate(7, 6),
+                new Coordinate(6, 6),
+                new Coordinate(6, 7),
+                new Coordinate(6, 8),
+                new Coordinate(7, 8),
+                finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        // Кратчайших путей может быть несколько, поэтому сравнивается стоимость пути
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(isContinuous(maze, actualPath)).isTrue();
+        assertThat(getPathWeight(maze, actualPath)).isEqualTo(getPathWeight(maze, expectedPath));
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+
+    @DisplayName("Тест того, что иерархический поиск находит путь той же стоимости, что и алгоритм Дайала")
+    @ParameterizedTest(name = "сторона кластера: {0}")
+    @ValueSource(ints = {2, 5, 16})
+    void testSolveLargeMaze(int clusterSize) {
+        int size = 201;
+        Maze largeMaze = new GeneratorKruskal(size, size, 7L).generateMaze(size, size);
+        SolverHpaStar solverHpaStar = new SolverHpaStar(clusterSize);
+        SolverDial solverDial = new SolverDial();
+        Random random = new Random(clusterSize);
+
+        for (int i = 0; i < 50; i++) {
+            Coordinate start = randomNode(random, size);
+            Coordinate finish = randomNode(random, size);
+
+            if (start.equals(finish)) {
+                continue;
+            }
+
+            List<Coordinate> expectedPath = solverDial.solveMaze(largeMaze, start, finish);
+            List<Coordinate> actualPath = solverHpaStar.solveMaze(largeMaze, start, finish);
+
+            assertThat(actualPath.getFirst()).isEqualTo(start);
+            assertThat(actualPath.getLast()).isEqualTo(finish);
+            assertThat(isContinuous(largeMaze, actualPath)).isTrue();
+            assertThat(getPathWeight(largeMaze, actualPath)).isEqualTo(getPathWeight(largeMaze, expectedPath));
+        }
+    }
+
+    @DisplayName("Тест поиска пути внутри одного кластера, когда обход через соседний кластер дешевле")
+    @Test
+    void testSolveMazeInsideCluster() {
+        Maze perfectMaze = new GeneratorDfs(41, 41, 3L).generateMaze(41, 41);
+        SolverHpaStar solverHpaStar = new SolverHpaStar(HierarchicalIndex.DEFAULT_CLUSTER_SIZE);
+        SolverDial solverDial = new SolverDial();
+
+        for (int row = 1; row <= 15; row += 2) {
+            Coordinate start = new Coordinate(1, 1);
+            Coordinate finish = new Coordinate(row, 15);
+
+            List<Coordinate> actualPath = solverHpaStar.solveMaze(perfectMaze, start, finish);
+
+            assertThat(getPathWeight(perfectMaze, actualPath))
+                .isEqualTo(getPathWeight(perfectMaze, solverDial.solveMaze(perfectMaze, start, finish)));
+        }
+    }
+
+    @DisplayName("Тест того, что индекс строится один раз и перестраивается после изменения лабиринта")
+    @Test
+    void testIndexIsReusedUntilMazeChanges() {
+        SolverHpaStar solverHpaStar = new SolverHpaStar(3);
+        HierarchicalIndex index = solverHpaStar.getIndex(maze);
+
+        solverHpaStar.solveMaze(maze, new Coordinate(1, 1), new Coordinate(8, 8));
+
+        assertThat(solverHpaStar.getIndex(maze)).isSameAs(index);
+
+        maze.setCellType(1, 2, Cell.CellType.WALL);
+
+        assertThat(solverHpaStar.getIndex(maze)).isNotSameAs(index);
+        assertThat(solverHpaStar.solveMaze(maze, new Coordinate(1, 1), new Coordinate(8, 8))).isEmpty();
+    }
+
+    @DisplayName("Тест поиска пути между соседними клетками разных кластеров")
+    @Test
+    void testSolveMazeWhenCellsAreAdjacent() {
+        Coordinate start = new Coordinate(3, 3);
+        Coordinate finish = new Coordinate(3, 4);
+
+        assertThat(solver.solveMaze(maze, start, finish)).containsExactly(start, finish);
+    }
+
+    @DisplayName("Тест валидации стороны кластера")
+    @Test
+    void testClusterSizeValidation() {
+        assertThatThrownBy(() -> new SolverHpaStar(1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Сторона кластера должна быть не меньше 2.");
+    }
+}
@@ -0,0 +1,107 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createUnweightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.isContinuous;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Тесты для класса SolverJumpPointSearch")
+public class SolverJumpPointSearchTest {
+
+    SolverMaze solver = new SolverJumpPointSearch();
+    Maze maze = createUnweightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+            start,
+            new Coordinate(1, 2),
+            new Coordinate(2, 2),
+            new Coordinate(3, 2),
+            new Coordinate(3, 3),
+            new Coordinate(3, 4),
+            new Coordinate(3, 5),
+            new Coordinate(4, 5),
+            new Coordinate(5, 5),
+            new Coordinate(6, 5),
+            new Coordinate(6, 6),
+            new Coordinate(6, 7),
+            new Coordinate(6, 8),
+            new Coordinate(7, 8),
+            finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        // Кратчайших путей может быть несколько, поэтому сравнивается длина пути
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(isContinuous(maze, actualPath)).isTrue();
+        assertThat(actualPath).hasSameSizeAs(expectedPath);
+    }
+
+    @DisplayName("Тест поиска пути между соседними клетками")
+    @Test
+    void testSolveMazeWhenCellsAreAdjacent() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 2);
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).containsExactly(start, finish);
+    }
+
+    @DisplayName("Тест того, что поиск по точкам прыжка находит путь той же длины, что и обход в ширину")
+    @ParameterizedTest(name = "идеальный лабиринт: {0}")
+    @ValueSource(booleans = {true, false})
+    void testSolveLargeMaze(boolean isPerfect) {
+        int size = 301;
+        Maze largeMaze = isPerfect
+            ? new GeneratorDfs(size, size, 5L).generateMaze(size, size)
+            : new GeneratorKruskal(size, size, 5L).generateMaze(size, size);
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(size, size);
+
+        List<Coordinate> expectedPath = new SolverBfs().solveMaze(largeMaze, start, finish);
+        List<Coordinate> actualPath = solver.solveMaze(largeMaze, start, finish);
+
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(actualPath).hasSameSizeAs(expectedPath);
+
+        for (int i = 1; i < actualPath.size(); i++) {
+            Coordinate previous = actualPath.get(i - 1);
+            Coordinate current = actualPath.get(i);
+
+            assertThat(Math.abs(previous.row() - current.row()) + Math.abs(previous.col() - current.col()))
+                .isEqualTo(1);
+            assertThat(largeMaze.isWall(current.row(), current.col())).isFalse();
+        }
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+}
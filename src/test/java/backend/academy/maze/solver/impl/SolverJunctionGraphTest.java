@@ -0,0 +1,174 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.generator.impl.GeneratorKruskal;
+import backend.academy.maze.generator.impl.GeneratorDfs;
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import backend.academy.maze.solver.JunctionGraph;
+import backend.academy.maze.solver.SolverMaze;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static backend.academy.maze.solver.impl.SolverTestUtils.createWeightedMaze;
+import static backend.academy.maze.solver.impl.SolverTestUtils.getPathWeight;
+import static backend.academy.maze.solver.impl.SolverTestUtils.isContinuous;
+import static backend.academy.maze.solver.impl.SolverTestUtils.randomNode;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Тесты для класса SolverJunctionGraph")
+public class SolverJunctionGraphTest {
+
+    SolverMaze solver = new SolverJunctionGraph();
+    Maze maze = createWeightedMaze();
+
+    @DisplayName("Тест поиска пути, когда путь существует")
+    @Test
+    void testSolveMazeWhenPathExists() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(8, 8);
+        List<Coordinate> expectedPath = List.of(
+                start,
+                new Coordinate(1, 2),
+                new Coordinate(2, 2),
+                new Coordinate(3, 2),
+                new Coordinate(4, 2),
+                new Coordinate(4, 1),
+                new Coordinate(5, 1),
+                new Coordinate(6, 1),
+                new Coordinate(6, 2),
+                new Coordinate(6, 3),
+                new Coordinate(7, 3),
+                new Coordinate(7, 4),
+                new Coordinate(7, 5),
+                new Coordinate(7, 6),
+                new Coordinate(6, 6),
+                new Coordinate(6, 7),
+                new Coordinate(6, 8),
+                new Coordinate(7, 8),
+                finish
+        );
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        // Кратчайших путей может быть несколько, поэтому сравнивается стоимость пути
+        assertThat(actualPath.getFirst()).isEqualTo(start);
+        assertThat(actualPath.getLast()).isEqualTo(finish);
+        assertThat(isContinuous(maze, actualPath)).isTrue();
+        assertThat(getPathWeight(maze, actualPath)).isEqualTo(getPathWeight(maze, expectedPath));
+    }
+
+    @DisplayName("Тест поиска пути, когда путь НЕ существует")
+    @Test
+    void testSolveMazeWhenPathDoesNotExist() {
+        Coordinate start = new Coordinate(1, 1);
+        Coordinate finish = new Coordinate(1, 8);
+        List<Coordinate> expectedPath = List.of();
+
+        List<Coordinate> actualPath = solver.solveMaze(maze, start, finish);
+
+        assertThat(actualPath).isEqualTo(expectedPath);
+    }
+
+    @DisplayName("Тест того, что поиск по графу развилок находит путь той же стоимости, что и алгоритм Дайала")
+    @ParameterizedTest(name = "идеальный лабиринт: {0}")
+    @ValueSource(booleans = {true, false})
+    void testSolveLargeMaze(boolean isPerfect) {
+        int size = 201;
+        Maze largeMaze = isPerfect
+            ? new GeneratorDfs(size, size, 7L).generateMaze(size, size)
+            : new GeneratorKruskal(size, size, 7L).generateMaze(size, size);
+        SolverJunctionGraph solverJunctionGraph = new SolverJunctionGraph();
+        SolverDial solverDial = new SolverDial();
+        Random random = new Random(7L);
+
+        for (int i = 0; i < 50; i++) {
+            Coordinate start = randomNode(random, size);
+            Coordinate finish = randomNode(random, size);
+
+            if (start.equals(finish)) {
+                continue;
+            }
+
+            List<Coordinate> expectedPath = solverDial.solveMaze(largeMaze, start, finish);
+            List<Coordinate> actualPath = solverJunctionGraph.solveMaze(largeMaze, start, finish);
+
+            assertThat(actualPath.getFirst()).isEqualTo(start);
+            assertThat(actualPath.getLast()).isEqualTo(finish);
+            assertThat(isContinuous(largeMaze, actualPath)).isTrue();
+            assertThat(getPathWeight(largeMaze, actualPath)).isEqualTo(getPathWeight(largeMaze, expectedPath));
+        }
+    }
+
+    @DisplayName("Тест того, что в идеальном лабиринте заливка тупиков удаляет все клетки")
+    @Test
+    void testPerfectMazeHasEmptyCore() {
+        Maze perfectMaze = new GeneratorDfs(51, 51, 2L).generateMaze(51, 51);
+
+        JunctionGraph graph = new JunctionGraph(perfectMaze);
+
+        assertThat(graph.coreSize()).isZero();
+        assertThat(graph.nodeCount()).isZero();
+        assertThat(graph.edgeCount()).isZero();
+    }
+
+    @DisplayName("Тест поиска пути по циклу без развилок: выбирается более дешевое направление")
+    @Test
+    void testSolveMazeOnCycleWithoutJunctions() {
+        Maze cycleMaze = new Maze(5, 5);
+
+        for (int row = 0; row < 5; row++) {
+            for (int col = 0; col < 5; col++) {
+                boolean isFrame = row == 0 || col == 0 || row == 4 || col == 4;
+
+                cycleMaze.setCellType(row, col, isFrame || row == 2 && col == 2 ? Cell.CellType.WALL
+                    : Cell.CellType.PASSAGE);
+            }
+        }
+
+        // Короткая сторона цикла через болото дороже длинной стороны по эскалаторам
+        cycleMaze.setCellType(1, 3, Cell.CellType.SWAMP);
+
+        for (Coordinate coordinate : List.of(
+            new Coordinate(1, 1),
+            new Coordinate(2, 1),
+            new Coordinate(3, 1),
+            new Coordinate(3, 2),
+            new Coordinate(3, 3)
+        )) {
+            cycleMaze.setCellType(coordinate.row(), coordinate.col(), Cell.CellType.ESCALATOR);
+        }
+
+        JunctionGraph graph = new JunctionGraph(cycleMaze);
+        Coordinate start = new Coordinate(1, 2);
+        Coordinate finish = new Coordinate(2, 3);
+
+        List<Coordinate> actualPath = solver.solveMaze(cycleMaze, start, finish);
+
+        assertThat(graph.coreSize()).isEqualTo(8);
+        assertThat(graph.nodeCount()).isOne();
+        assertThat(actualPath).hasSize(7).doesNotContain(new Coordinate(1, 3));
+        assertThat(isContinuous(cycleMaze, actualPath)).isTrue();
+    }
+
+    @DisplayName("Тест того, что граф строится один раз и перестраивается после изменения лабиринта")
+    @Test
+    void testGraphIsReusedUntilMazeChanges() {
+        SolverJunctionGraph solverJunctionGraph = new SolverJunctionGraph();
+        JunctionGraph graph = solverJunctionGraph.getGraph(maze);
+
+        solverJunctionGraph.solveMaze(maze, new Coordinate(1, 1), new Coordinate(8, 8));
+
+        assertThat(solverJunctionGraph.getGraph(maze)).isSameAs(graph);
+
+        maze.setCellType(1, 2, Cell.CellType.WALL);
+
+        assertThat(solverJunctionGraph.getGraph(maze)).isNotSameAs(graph);
+        assertThat(solverJunctionGraph.solveMaze(maze, new Coordinate(1, 1), new Coordinate(8, 8))).isEmpty();
+    }
+}
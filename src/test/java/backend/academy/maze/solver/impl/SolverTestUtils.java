@@ -0,0 +1,333 @@
+package backend.academy.maze.solver.impl;
+
+import backend.academy.maze.maze.Cell;
+import backend.academy.maze.maze.Coordinate;
+import backend.academy.maze.maze.Maze;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Общие вспомогательные методы тестов решателей
+ */
+final class SolverTestUtils {
+
+    private SolverTestUtils() {
+    }
+
+    /**
+     * Метод для получения случайного узла лабиринта: клетки на нечетных строках и столбцах никогда не бывают стенами
+     *
+     * @param random источник случайных чисел
+     * @param size сторона лабиринта
+     *
+     * @return координата узла
+     */
+    static Coordinate randomNode(Random random, int size) {
+        return new Coordinate(2 * random.nextInt((size + 1) / 2) + 1, 2 * random.nextInt((size + 1) / 2) + 1);
+    }
+
+    /**
+     * Метод для проверки, что соседние клетки пути соседствуют в лабиринте и ни одна клетка пути не стена
+     *
+     * @param maze лабиринт
+     * @param path путь
+     *
+     * @return {@code true}, если путь непрерывен
+     */
+    static boolean isContinuous(Maze maze, List<Coordinate> path) {
+        for (int i = 1; i < path.size(); i++) {
+            Coordinate previous = path.get(i - 1);
+            Coordinate current = path.get(i);
+
+            if (Math.abs(previous.row() - current.row()) + Math.abs(previous.col() - current.col()) != 1
+                || maze.isWall(current.row(), current.col())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Метод для расчета стоимости пути - суммы весов клеток без стартовой
+     *
+     * @param maze лабиринт
+     * @param path путь
+     *
+     * @return стоимость пути
+     */
+    static int getPathWeight(Maze maze, List<Coordinate> path) {
+        return path.stream()
+            .skip(1)
+            .mapToInt(coordinate -> maze.cellType(coordinate.row(), coordinate.col()).weight())
+            .sum();
+    }
+
+    /**
+     * Метод для создания лабиринта 10x10 с болотами и монетами
+     *
+     * @return лабиринт
+     */
+    static Maze createWeightedMaze() {
+        int height = 10;
+        int width = 10;
+        Cell[][] grid = new Cell[][] {
+            {
+                new Cell(0, 0, Cell.CellType.WALL),
+                new Cell(0, 1, Cell.CellType.WALL),
+                new Cell(0, 2, Cell.CellType.WALL),
+                new Cell(0, 3, Cell.CellType.WALL),
+                new Cell(0, 4, Cell.CellType.WALL),
+                new Cell(0, 5, Cell.CellType.WALL),
+                new Cell(0, 6, Cell.CellType.WALL),
+                new Cell(0, 7, Cell.CellType.WALL),
+                new Cell(0, 8, Cell.CellType.WALL),
+                new Cell(0, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(1, 0, Cell.CellType.WALL),
+                new Cell(1, 1, Cell.CellType.PASSAGE),
+                new Cell(1, 2, Cell.CellType.COIN),
+                new Cell(1, 3, Cell.CellType.WALL),
+                new Cell(1, 4, Cell.CellType.PASSAGE),
+                new Cell(1, 5, Cell.CellType.WATER),
+                new Cell(1, 6, Cell.CellType.ESCALATOR),
+                new Cell(1, 7, Cell.CellType.WALL),
+                new Cell(1, 8, Cell.CellType.PASSAGE),
+                new Cell(1, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(2, 0, Cell.CellType.WALL),
+                new Cell(2, 1, Cell.CellType.WALL),
+                new Cell(2, 2, Cell.CellType.SAND),
+                new Cell(2, 3, Cell.CellType.PASSAGE),
+                new Cell(2, 4, Cell.CellType.SWAMP),
+                new Cell(2, 5, Cell.CellType.WALL),
+                new Cell(2, 6, Cell.CellType.PASSAGE),
+                new Cell(2, 7, Cell.CellType.WALL),
+                new Cell(2, 8, Cell.CellType.SMOOTH_ROAD),
+                new Cell(2, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(3, 0, Cell.CellType.WALL),
+                new Cell(3, 1, Cell.CellType.PASSAGE),
+                new Cell(3, 2, Cell.CellType.COIN),
+                new Cell(3, 3, Cell.CellType.COIN),
+                new Cell(3, 4, Cell.CellType.PASSAGE),
+                new Cell(3, 5, Cell.CellType.ESCALATOR),
+                new Cell(3, 6, Cell.CellType.WALL),
+                new Cell(3, 7, Cell.CellType.PASSAGE),
+                new Cell(3, 8, Cell.CellType.WALL),
+                new Cell(3, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(4, 0, Cell.CellType.WALL),
+                new Cell(4, 1, Cell.CellType.ESCALATOR),
+                new Cell(4, 2, Cell.CellType.PASSAGE),
+                new Cell(4, 3, Cell.CellType.WALL),
+                new Cell(4, 4, Cell.CellType.WALL),
+                new Cell(4, 5, Cell.CellType.SWAMP),
+                new Cell(4, 6, Cell.CellType.WALL),
+                new Cell(4, 7, Cell.CellType.ESCALATOR),
+                new Cell(4, 8, Cell.CellType.WALL),
+                new Cell(4, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(5, 0, Cell.CellType.WALL),
+                new Cell(5, 1, Cell.CellType.SMOOTH_ROAD),
+                new Cell(5, 2, Cell.CellType.WALL),
+                new Cell(5, 3, Cell.CellType.PASSAGE),
+                new Cell(5, 4, Cell.CellType.COIN),
+                new Cell(5, 5, Cell.CellType.WATER),
+                new Cell(5, 6, Cell.CellType.WALL),
+                new Cell(5, 7, Cell.CellType.WALL),
+                new Cell(5, 8, Cell.CellType.SAND),
+                new Cell(5, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(6, 0, Cell.CellType.WALL),
+                new Cell(6, 1, Cell.CellType.ESCALATOR),
+                new Cell(6, 2, Cell.CellType.PASSAGE),
+                new Cell(6, 3, Cell.CellType.COIN),
+                new Cell(6, 4, Cell.CellType.WALL),
+                new Cell(6, 5, Cell.CellType.SAND),
+                new Cell(6, 6, Cell.CellType.SWAMP),
+                new Cell(6, 7, Cell.CellType.PASSAGE),
+                new Cell(6, 8, Cell.CellType.SWAMP),
+                new Cell(6, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(7, 0, Cell.CellType.WALL),
+                new Cell(7, 1, Cell.CellType.WALL),
+                new Cell(7, 2, Cell.CellType.WALL),
+                new Cell(7, 3, Cell.CellType.SMOOTH_ROAD),
+                new Cell(7, 4, Cell.CellType.PASSAGE),
+                new Cell(7, 5, Cell.CellType.ESCALATOR),
+                new Cell(7, 6, Cell.CellType.PASSAGE),
+                new Cell(7, 7, Cell.CellType.WALL),
+                new Cell(7, 8, Cell.CellType.SMOOTH_ROAD),
+                new Cell(7, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(8, 0, Cell.CellType.WALL),
+                new Cell(8, 1, Cell.CellType.WALL),
+                new Cell(8, 2, Cell.CellType.PASSAGE),
+                new Cell(8, 3, Cell.CellType.COIN),
+                new Cell(8, 4, Cell.CellType.WALL),
+                new Cell(8, 5, Cell.CellType.PASSAGE),
+                new Cell(8, 6, Cell.CellType.WALL),
+                new Cell(8, 7, Cell.CellType.WALL),
+                new Cell(8, 8, Cell.CellType.SAND),
+                new Cell(8, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(9, 0, Cell.CellType.WALL),
+                new Cell(9, 1, Cell.CellType.WALL),
+                new Cell(9, 2, Cell.CellType.WALL),
+                new Cell(9, 3, Cell.CellType.WALL),
+                new Cell(9, 4, Cell.CellType.WALL),
+                new Cell(9, 5, Cell.CellType.WALL),
+                new Cell(9, 6, Cell.CellType.WALL),
+                new Cell(9, 7, Cell.CellType.WALL),
+                new Cell(9, 8, Cell.CellType.WALL),
+                new Cell(9, 9, Cell.CellType.WALL)
+            }
+        };
+
+        return new Maze(height, width, grid);
+    }
+
+    /**
+     * Метод для создания лабиринта 10x10 только из стен и проходов
+     *
+     * @return лабиринт
+     */
+    static Maze createUnweightedMaze() {
+        int height = 10;
+        int width = 10;
+        Cell[][] grid = new Cell[][] {
+            {
+                new Cell(0, 0, Cell.CellType.WALL),
+                new Cell(0, 1, Cell.CellType.WALL),
+                new Cell(0, 2, Cell.CellType.WALL),
+                new Cell(0, 3, Cell.CellType.WALL),
+                new Cell(0, 4, Cell.CellType.WALL),
+                new Cell(0, 5, Cell.CellType.WALL),
+                new Cell(0, 6, Cell.CellType.WALL),
+                new Cell(0, 7, Cell.CellType.WALL),
+                new Cell(0, 8, Cell.CellType.WALL),
+                new Cell(0, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(1, 0, Cell.CellType.WALL),
+                new Cell(1, 1, Cell.CellType.PASSAGE),
+                new Cell(1, 2, Cell.CellType.PASSAGE),
+                new Cell(1, 3, Cell.CellType.WALL),
+                new Cell(1, 4, Cell.CellType.PASSAGE),
+                new Cell(1, 5, Cell.CellType.PASSAGE),
+                new Cell(1, 6, Cell.CellType.PASSAGE),
+                new Cell(1, 7, Cell.CellType.WALL),
+                new Cell(1, 8, Cell.CellType.PASSAGE),
+                new Cell(1, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(2, 0, Cell.CellType.WALL),
+                new Cell(2, 1, Cell.CellType.WALL),
+                new Cell(2, 2, Cell.CellType.PASSAGE),
+                new Cell(2, 3, Cell.CellType.PASSAGE),
+                new Cell(2, 4, Cell.CellType.PASSAGE),
+                new Cell(2, 5, Cell.CellType.WALL),
+                new Cell(2, 6, Cell.CellType.PASSAGE),
+                new Cell(2, 7, Cell.CellType.WALL),
+                new Cell(2, 8, Cell.CellType.PASSAGE),
+                new Cell(2, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(3, 0, Cell.CellType.WALL),
+                new Cell(3, 1, Cell.CellType.PASSAGE),
+                new Cell(3, 2, Cell.CellType.PASSAGE),
+                new Cell(3, 3, Cell.CellType.PASSAGE),
+                new Cell(3, 4, Cell.CellType.PASSAGE),
+                new Cell(3, 5, Cell.CellType.PASSAGE),
+                new Cell(3, 6, Cell.CellType.WALL),
+                new Cell(3, 7, Cell.CellType.PASSAGE),
+                new Cell(3, 8, Cell.CellType.WALL),
+                new Cell(3, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(4, 0, Cell.CellType.WALL),
+                new Cell(4, 1, Cell.CellType.PASSAGE),
+                new Cell(4, 2, Cell.CellType.PASSAGE),
+                new Cell(4, 3, Cell.CellType.WALL),
+                new Cell(4, 4, Cell.CellType.WALL),
+                new Cell(4, 5, Cell.CellType.PASSAGE),
+                new Cell(4, 6, Cell.CellType.WALL),
+                new Cell(4, 7, Cell.CellType.PASSAGE),
+                new Cell(4, 8, Cell.CellType.WALL),
+                new Cell(4, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(5, 0, Cell.CellType.WALL),
+                new Cell(5, 1, Cell.CellType.PASSAGE),
+                new Cell(5, 2, Cell.CellType.WALL),
+                new Cell(5, 3, Cell.CellType.PASSAGE),
+                new Cell(5, 4, Cell.CellType.PASSAGE),
+                new Cell(5, 5, Cell.CellType.PASSAGE),
+                new Cell(5, 6, Cell.CellType.WALL),
+                new Cell(5, 7, Cell.CellType.WALL),
+                new Cell(5, 8, Cell.CellType.PASSAGE),
+                new Cell(5, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(6, 0, Cell.CellType.WALL),
+                new Cell(6, 1, Cell.CellType.PASSAGE),
+                new Cell(6, 2, Cell.CellType.PASSAGE),
+                new Cell(6, 3, Cell.CellType.PASSAGE),
+                new Cell(6, 4, Cell.CellType.WALL),
+                new Cell(6, 5, Cell.CellType.PASSAGE),
+                new Cell(6, 6, Cell.CellType.PASSAGE),
+                new Cell(6, 7, Cell.CellType.PASSAGE),
+                new Cell(6, 8, Cell.CellType.PASSAGE),
+                new Cell(6, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(7, 0, Cell.CellType.WALL),
+                new Cell(7, 1, Cell.CellType.WALL),
+                new Cell(7, 2, Cell.CellType.WALL),
+                new Cell(7, 3, Cell.CellType.PASSAGE),
+                new Cell(7, 4, Cell.CellType.PASSAGE),
+                new Cell(7, 5, Cell.CellType.PASSAGE),
+                new Cell(7, 6, Cell.CellType.PASSAGE),
+                new Cell(7, 7, Cell.CellType.WALL),
+                new Cell(7, 8, Cell.CellType.PASSAGE),
+                new Cell(7, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(8, 0, Cell.CellType.WALL),
+                new Cell(8, 1, Cell.CellType.WALL),
+                new Cell(8, 2, Cell.CellType.PASSAGE),
+                new Cell(8, 3, Cell.CellType.PASSAGE),
+                new Cell(8, 4, Cell.CellType.WALL),
+                new Cell(8, 5, Cell.CellType.PASSAGE),
+                new Cell(8, 6, Cell.CellType.WALL),
+                new Cell(8, 7, Cell.CellType.WALL),
+                new Cell(8, 8, Cell.CellType.PASSAGE),
+                new Cell(8, 9, Cell.CellType.WALL)
+            },
+            {
+                new Cell(9, 0, Cell.CellType.WALL),
+                new Cell(9, 1, Cell.CellType.WALL),
+                new Cell(9, 2, Cell.CellType.WALL),
+                new Cell(9, 3, Cell.CellType.WALL),
+                new Cell(9, 4, Cell.CellType.WALL),
+                new Cell(9, 5, Cell.CellType.WALL),
+                new Cell(9, 6, Cell.CellType.WALL),
+                new Cell(9, 7, Cell.CellType.WALL),
+                new Cell(9, 8, Cell.CellType.WALL),
+                new Cell(9, 9, Cell.CellType.WALL)
+            }
+        };
+
+        return new Maze(height, width, grid);
+    }
+}
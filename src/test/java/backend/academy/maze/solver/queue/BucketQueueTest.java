@@ -0,0 +1,51 @@
+package backend.academy.maze.solver.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Тесты класса BucketQueue")
+public class BucketQueueTest {
+
+    @DisplayName("Тест извлечения элементов по возрастанию ключа с переходом через конец кольца")
+    @Test
+    void testPollOrder() {
+        BucketQueue queue = new BucketQueue(3);
+        List<Integer> keys = new ArrayList<>();
+
+        queue.push(10, 0);
+        queue.push(11, 2);
+
+        while (!queue.isEmpty()) {
+            int element = queue.poll();
+
+            keys.add(queue.currentKey());
+
+            // Ключи в очереди отстоят от текущего меньше, чем на количество карманов
+            if (element == 11) {
+                queue.push(12, 4);
+            }
+        }
+
+        assertThat(keys).containsExactly(0, 2, 4);
+    }
+
+    @DisplayName("Тест переиспользования очереди после очистки")
+    @Test
+    void testClear() {
+        BucketQueue queue = new BucketQueue(4);
+
+        queue.push(1, 3);
+        queue.push(2, 3);
+        queue.clear();
+
+        assertThat(queue.isEmpty()).isTrue();
+
+        queue.push(5, 1);
+
+        assertThat(queue.poll()).isEqualTo(5);
+        assertThat(queue.currentKey()).isEqualTo(1);
+    }
+}
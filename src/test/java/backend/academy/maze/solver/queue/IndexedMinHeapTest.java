@@ -0,0 +1,55 @@
+package backend.academy.maze.solver.queue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Тесты класса IndexedMinHeap")
+public class IndexedMinHeapTest {
+
+    @DisplayName("Тест извлечения элементов в порядке приоритета с уменьшением приоритета")
+    @Test
+    void testPollOrderWithDecreaseKey() {
+        IndexedMinHeap heap = new IndexedMinHeap(6);
+
+        heap.insertOrDecrease(0, 50);
+        heap.insertOrDecrease(1, 40);
+        heap.insertOrDecrease(2, 30);
+        heap.insertOrDecrease(3, 20);
+        heap.insertOrDecrease(4, 10);
+        heap.insertOrDecrease(0, 5);  // уменьшение приоритета
+        heap.insertOrDecrease(4, 60); // больший приоритет игнорируется
+        heap.remove(2);
+
+        List<Integer> order = new ArrayList<>();
+
+        while (!heap.isEmpty()) {
+            order.add(heap.poll());
+        }
+
+        assertThat(order).containsExactly(0, 4, 3, 1);
+        assertThat(heap.contains(0)).isFalse();
+    }
+
+    @DisplayName("Тест переиспользования кучи после очистки")
+    @Test
+    void testClear() {
+        IndexedMinHeap heap = new IndexedMinHeap(4);
+
+        heap.insertOrDecrease(1, 3);
+        heap.insertOrDecrease(2, 1);
+        heap.clear();
+
+        assertThat(heap.isEmpty()).isTrue();
+        assertThat(heap.contains(1)).isFalse();
+
+        heap.insertOrDecrease(3, 7);
+        heap.insertOrDecrease(1, 2);
+
+        assertThat(heap.size()).isEqualTo(2);
+        assertThat(heap.poll()).isEqualTo(1);
+        assertThat(heap.poll()).isEqualTo(3);
+    }
+}